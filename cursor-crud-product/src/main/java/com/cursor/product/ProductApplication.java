@@ -1,7 +1,30 @@
 package com.cursor.product;
 
+import com.cursor.product.domain.ImportRejectedRow;
+import com.cursor.product.domain.ProductImportResult;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.service.ProductImportService;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.CommandLinePropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Main application class for the Product CRUD service.
@@ -9,21 +32,139 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * This is a Spring Boot application that provides REST APIs for managing products.
  * The application runs on port 9090 and uses H2 in-memory database.
  * </p>
+ * <p>
+ * R2DBC is on the classpath for the reactive variant ({@code com.cursor.reactive.ReactiveProductApplication})
+ * and is excluded here, because an R2DBC connection factory would make the JDBC data source back off.
+ * </p>
+ * <p>
+ * Started as {@code import <file.csv> [importId] --spring.datasource.url=...}, it imports
+ * the file into the given database without starting the web server, prints the summary
+ * and exits with 0 if the whole file was imported. The import id defaults to the file name,
+ * so running the same command again resumes an interrupted import. An in-memory database
+ * is refused before anything is started, since the imported rows and the checkpoint would
+ * be lost on exit.
+ * </p>
  *
  * @author Cursor Product Team
  * @version 1.0.0
  * @since 1.0.0
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class ProductApplication {
 
     /**
-     * Main method to start the Spring Boot application.
+     * First argument that selects the command-line import instead of the web application.
+     */
+    public static final String IMPORT_COMMAND = "import";
+
+    private static final String IN_MEMORY_H2 = "jdbc:h2:mem:";
+
+    /**
+     * Settings of the command-line import that take precedence over application.properties.
+     */
+    private static final Map<String, Object> IMPORT_PROPERTIES = Map.of(
+            "spring.sql.init.mode", "never",
+            "product.search.enabled", "false");
+
+    /**
+     * Main method to start the Spring Boot application, or to run a command-line import.
      *
      * @param args command line arguments
      */
     public static void main(String[] args) {
+        if (args.length > 0 && IMPORT_COMMAND.equals(args[0])) {
+            System.exit(runImport(Arrays.copyOfRange(args, 1, args.length)));
+        }
         SpringApplication.run(ProductApplication.class, args);
     }
-}
 
+    /**
+     * Imports a CSV file with the application's import service.
+     * <p>
+     * The sample data is not loaded and the search index is switched off
+     * ({@code product.search.enabled=false}), since neither is of use to an import and the
+     * index would otherwise hold the whole catalog in memory. The web application's rebuild
+     * at startup indexes the imported products. Both can be switched back on with the usual
+     * {@code --property=value} options. The database URL is checked once the configuration
+     * is resolved, before the application context is created.
+     * </p>
+     *
+     * @param args the file, optionally the import id, and any {@code --property=value} options
+     * @return the exit code: 0 if completed, 1 if stopped early, 2 for invalid arguments, an
+     *         in-memory database or an unreadable file or header
+     */
+    public static int runImport(String[] args) {
+        List<String> operands = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).toList();
+        String[] options = Arrays.stream(args).filter(arg -> arg.startsWith("--")).toArray(String[]::new);
+        if (operands.isEmpty() || operands.size() > 2) {
+            System.err.println("Usage: " + IMPORT_COMMAND + " <file.csv> [importId]"
+                    + " --spring.datasource.url=<persistent database url> [--property=value ...]");
+            return 2;
+        }
+        Path file = Path.of(operands.get(0));
+        String importId = operands.size() > 1 ? operands.get(1) : file.getFileName().toString();
+        if (!Files.isRegularFile(file)) {
+            System.err.println("No such file: " + file);
+            return 2;
+        }
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ProductApplication.class)
+                .web(WebApplicationType.NONE)
+                .listeners(prepareImportEnvironment());
+        try (ConfigurableApplicationContext context = builder.run(options);
+             InputStream csv = Files.newInputStream(file)) {
+            ProductImportResult result = context.getBean(ProductImportService.class).importCsv(importId, csv);
+            printSummary(result);
+            return result.getStatus() == ProductImportResult.Status.COMPLETED ? 0 : 1;
+        } catch (IOException ex) {
+            System.err.println("Cannot read " + file + ": " + ex.getMessage());
+            return 2;
+        } catch (BadRequestException ex) {
+            System.err.println(ex.getMessage());
+            return 2;
+        } catch (SpringApplication.AbandonedRunException ex) {
+            return 2;
+        }
+    }
+
+    /**
+     * Applies the import settings below the command-line options but above the configuration
+     * files, then stops the import if the database is in memory, or not configured, in which
+     * case Spring Boot would start an in-memory one.
+     */
+    private static ApplicationListener<ApplicationEnvironmentPreparedEvent> prepareImportEnvironment() {
+        return event -> {
+            ConfigurableEnvironment environment = event.getEnvironment();
+            MutablePropertySources sources = environment.getPropertySources();
+            MapPropertySource importProperties = new MapPropertySource("importProperties", IMPORT_PROPERTIES);
+            if (sources.contains(CommandLinePropertySource.COMMAND_LINE_PROPERTY_SOURCE_NAME)) {
+                sources.addAfter(CommandLinePropertySource.COMMAND_LINE_PROPERTY_SOURCE_NAME, importProperties);
+            } else {
+                sources.addFirst(importProperties);
+            }
+            String url = environment.getProperty("spring.datasource.url", "");
+            if (!StringUtils.hasText(url) || url.startsWith(IN_MEMORY_H2)) {
+                System.err.println("Refusing to import into the in-memory database " + url
+                        + ", which is lost on exit; pass --spring.datasource.url with a persistent database,"
+                        + " e.g. jdbc:h2:file:./productdb");
+                throw new SpringApplication.AbandonedRunException();
+            }
+        };
+    }
+
+    private static void printSummary(ProductImportResult result) {
+        System.out.printf("Import %s %s: %,d rows read in %,d ms (%,d rows/s)%n", result.getImportId(),
+                result.getStatus(), result.getRowsRead(), result.getElapsedMillis(), result.getRowsPerSecond());
+        if (result.getResumedFrom() > 0) {
+            System.out.printf("Resumed after row %,d%n", result.getResumedFrom());
+        }
+        System.out.printf("%,d rows committed: %,d created, %,d rejected%n",
+                result.getCommittedRows(), result.getCreated(), result.getRejected());
+        for (ImportRejectedRow rejected : result.getRejectedRows()) {
+            System.out.printf("  row %d: %s%n", rejected.getRow(), String.join("; ", rejected.getErrors()));
+        }
+        if (result.getError() != null) {
+            System.out.println(result.getError());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for bulk product writes.
+ * <p>
+ * Bound from the {@code product.bulk} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.bulk")
+public class BulkProperties {
+
+    /**
+     * Number of rows written per JDBC batch and per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum number of items accepted in a single bulk request.
+     */
+    private int maxItems = 50000;
+}
@@ -0,0 +1,113 @@
+package com.cursor.product.config;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.routing.ReadRouting;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+
+/**
+ * Configuration class for the product read-through cache.
+ * <p>
+ * Products are cached by id in a bounded Caffeine cache with size- and time-based
+ * eviction and optional refresh-ahead. The cache manager is transaction aware, so
+ * puts and evictions issued inside a transaction are applied only after it commits.
+ * The caching advice runs outside the transactional advice, so cache hits do not
+ * open a transaction. Hit, miss, eviction and load statistics are recorded and
+ * published through the actuator metrics endpoint.
+ * </p>
+ * <p>
+ * Misses are loaded on a separate thread instead of inside the cache's map lock. A load
+ * waits for a pooled database connection, while a committing writer holds its connection
+ * until its cache put has gone through; doing both under map locks, which cover more than
+ * one key, deadlocks once every connection belongs to a writer blocked on a loading key.
+ * The loader threads are virtual when virtual threads are enabled, so a blocking
+ * database call never pins a carrier thread either. With read replicas configured, loads
+ * still read the primary, so replica lag cannot be cached for a whole expiry period.
+ * </p>
+ * <p>
+ * The cache holds its own copy of each product and hands out copies, so a caller that
+ * modifies a returned DTO does not change what the next reader gets.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Name of the cache holding product DTOs keyed by product id.
+     */
+    public static final String PRODUCTS_CACHE = "products";
+
+    /**
+     * Creates the transaction-aware Caffeine cache manager.
+     *
+     * @param properties the cache size and expiry settings
+     * @param productRepository used to load and refresh entries
+     * @param productMapper used to convert reloaded entities
+     * @param environment used to decide whether loader threads are virtual
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(ProductCacheProperties properties,
+                                     @Lazy ProductRepository productRepository,
+                                     @Lazy ProductMapper productMapper,
+                                     Environment environment) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats();
+        if (properties.getRefreshAfterWrite() != null) {
+            caffeine.refreshAfterWrite(properties.getRefreshAfterWrite());
+        }
+        SimpleAsyncTaskExecutor loaderExecutor = new SimpleAsyncTaskExecutor("product-cache-");
+        loaderExecutor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        loaderExecutor.setDaemon(true);
+        // Loads read the primary: an entry loaded from a lagging replica would stay stale until it expires.
+        loaderExecutor.setTaskDecorator(ReadRouting::pinnedToPrimary);
+        caffeine.executor(loaderExecutor);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                return new CopyingCaffeineCache(name, cache, isAllowNullValues(), CacheConfig::copy);
+            }
+        };
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setCaffeine(caffeine);
+        // The loader is needed for refresh-ahead and also makes the cache publish load
+        // count and latency metrics. A null result (product deleted) removes the entry.
+        cacheManager.setCacheLoader((CacheLoader<Object, Object>) key ->
+                productRepository.findById((Long) key).map(productMapper::toDto).orElse(null));
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(PRODUCTS_CACHE));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof ProductDto product) {
+            return new ProductDto(product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), product.getVersion());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,68 @@
+package com.cursor.product.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caffeine cache that stores a copy of every value put into it and returns a copy on every
+ * read.
+ * <p>
+ * Cached values are mutable DTOs shared by every reader of an entry. Copying at the cache
+ * boundary means a caller that modifies the object it got back, or keeps modifying the
+ * object it cached, cannot change what other callers read. It stays a {@link CaffeineCache},
+ * so the cache statistics are still bound as metrics.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CopyingCaffeineCache extends CaffeineCache {
+
+    private final UnaryOperator<Object> copier;
+
+    /**
+     * Creates the cache.
+     *
+     * @param name the cache name
+     * @param cache the backing Caffeine cache
+     * @param allowNullValues whether null values may be cached
+     * @param copier returns a copy of a cached value that shares no mutable state with it
+     */
+    public CopyingCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                                UnaryOperator<Object> copier) {
+        super(name, cache, allowNullValues);
+        this.copier = copier;
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return super.toStoreValue(userValue == null ? null : copier.apply(userValue));
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        Object value = super.fromStoreValue(storeValue);
+        return value == null ? null : copier.apply(value);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> result = super.retrieve(key);
+        return isAllowNullValues() || result == null ? result : result.thenApply(copier);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        if (isAllowNullValues()) {
+            return super.retrieve(key, valueLoader);
+        }
+        @SuppressWarnings("unchecked")
+        UnaryOperator<T> copy = (UnaryOperator<T>) copier;
+        return super.retrieve(key, () -> valueLoader.get().thenApply(copy)).thenApply(copy);
+    }
+}
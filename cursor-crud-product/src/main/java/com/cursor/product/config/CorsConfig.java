@@ -51,7 +51,7 @@ public class CorsConfig {
         config.setAllowCredentials(false);
 
         // Expose headers
-        config.setExposedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        config.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "ETag"));
 
         // Cache preflight response for 3600 seconds
         config.setMaxAge(3600L);
@@ -0,0 +1,169 @@
+package com.cursor.product.config;
+
+import com.cursor.product.routing.H2ReplicationStandIn;
+import com.cursor.product.routing.ReadReplica;
+import com.cursor.product.routing.ReadYourWritesFilter;
+import com.cursor.product.routing.ReplicaHealthIndicator;
+import com.cursor.product.routing.ReplicaRouter;
+import com.cursor.product.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration class for read/write splitting between the primary database and read replicas.
+ * <p>
+ * Active with {@code product.datasource.routing.enabled=true}. The application data source
+ * then sends read-only transactions to a healthy replica and everything else to the primary;
+ * see {@link ReplicaRouter}. Each database gets its own Hikari pool, named {@code primary},
+ * {@code replica-1}, {@code replica-2} and so on, whose metrics are published as
+ * {@code hikaricp.*} tagged with that name.
+ * </p>
+ * <p>
+ * Reads that must not see replica lag are pinned to the primary: requests of a client within
+ * the read-your-writes window after its last write, cache loads (a stale entry would outlive
+ * the lag), and the statistics and search index rebuilds (which would overwrite fresher state).
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final long MIN_CONNECTION_TIMEOUT_MS = 250;
+
+    /**
+     * Creates the connection pools and the router that chooses between them.
+     *
+     * @param properties the replica settings
+     * @param dataSourceProperties the primary's settings, which the replicas inherit
+     * @param environment used to bind the {@code spring.datasource.hikari} pool settings
+     * @return the router, which closes the pools on shutdown
+     */
+    @Bean
+    public ReplicaRouter replicaRouter(DataSourceRoutingProperties properties,
+                                       DataSourceProperties dataSourceProperties,
+                                       Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(dataSourceProperties, binder, ReplicaRouter.PRIMARY,
+                dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        List<ReadReplica> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            String name = "replica-" + (replicas.size() + 1);
+            if (!StringUtils.hasText(replica.getUrl())) {
+                throw new IllegalStateException("No url configured for read replica " + name);
+            }
+            HikariDataSource pool = pool(dataSourceProperties, binder, name, replica.getUrl(),
+                    replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername(),
+                    replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+            // A replica that cannot hand out a connection quickly is skipped rather than waited for.
+            pool.setConnectionTimeout(Math.max(MIN_CONNECTION_TIMEOUT_MS,
+                    properties.getHealthCheckTimeout().toMillis()));
+            replicas.add(new ReadReplica(name, pool));
+        }
+        return new ReplicaRouter(primary, replicas, properties.getHealthCheckTimeout());
+    }
+
+    /**
+     * Creates the application data source, which routes each transaction's connection.
+     *
+     * @param replicaRouter the router
+     * @return the data source
+     */
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return ReplicaRoutingDataSource.lazy(replicaRouter);
+    }
+
+    /**
+     * Publishes the Hikari metrics of every pool. Spring Boot only does this for pools that
+     * are beans themselves.
+     *
+     * @param replicaRouter the router owning the pools
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder routedPoolMetrics(ReplicaRouter replicaRouter) {
+        return registry -> {
+            List<DataSource> pools = new ArrayList<>();
+            pools.add(replicaRouter.getPrimary());
+            replicaRouter.getReplicas().forEach(replica -> pools.add(replica.getDataSource()));
+            for (DataSource pool : pools) {
+                if (pool instanceof HikariDataSource hikari
+                        && hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+                    hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+            }
+        };
+    }
+
+    /**
+     * Reports replica health under {@code /actuator/health/replicas}.
+     *
+     * @param replicaRouter the router whose replicas are reported
+     * @return the health indicator
+     */
+    @Bean
+    public ReplicaHealthIndicator replicasHealthIndicator(ReplicaRouter replicaRouter) {
+        return new ReplicaHealthIndicator(replicaRouter);
+    }
+
+    /**
+     * Pins a client's reads to the primary for the read-your-writes window after its writes.
+     *
+     * @param properties the routing settings
+     * @return the filter registration, a no-op when the window is 0
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(DataSourceRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.getReadYourWritesWindow(), Clock.systemUTC()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /**
+     * Copies the primary to the replicas when they are local H2 databases.
+     *
+     * @param replicaRouter the router owning the primary and the replicas
+     * @return the replication stand-in
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product.datasource.routing.replication-stand-in", name = "enabled",
+            havingValue = "true")
+    public H2ReplicationStandIn h2ReplicationStandIn(ReplicaRouter replicaRouter) {
+        return new H2ReplicationStandIn(replicaRouter.getPrimary(), replicaRouter.getReplicas());
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, Binder binder, String name,
+                                         String url, String username, String password) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        return pool;
+    }
+}
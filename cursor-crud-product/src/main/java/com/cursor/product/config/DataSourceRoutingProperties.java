@@ -0,0 +1,99 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for read/write routing to read replicas.
+ * <p>
+ * Bound from the {@code product.datasource.routing} prefix in application.properties.
+ * The primary is the {@code spring.datasource} database; the replicas share its driver
+ * and {@code spring.datasource.hikari} pool settings.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replicas. When disabled the
+     * application uses the primary alone, as configured by Spring Boot.
+     */
+    private boolean enabled;
+
+    /**
+     * The read replicas; with none, every connection goes to the primary.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Milliseconds between replica health checks.
+     */
+    private long healthCheckIntervalMs = 5000;
+
+    /**
+     * How long a replica may take to hand out and validate a connection, both in health
+     * checks and when serving a read, before it is taken out of rotation.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How long after a write the same client's reads go to the primary. 0 disables
+     * read-your-writes, so reads right after a write may not see it.
+     */
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    /**
+     * Local replication between H2 databases, for development and tests.
+     */
+    private ReplicationStandIn replicationStandIn = new ReplicationStandIn();
+
+    /**
+     * Connection settings of one read replica.
+     */
+    @Data
+    public static class Replica {
+
+        /**
+         * JDBC URL of the replica.
+         */
+        private String url;
+
+        /**
+         * Login user of the replica; defaults to the primary's.
+         */
+        private String username;
+
+        /**
+         * Login password of the replica; defaults to the primary's.
+         */
+        private String password;
+    }
+
+    /**
+     * Settings of the H2 replication stand-in.
+     */
+    @Data
+    public static class ReplicationStandIn {
+
+        /**
+         * Whether the primary is copied to the replicas periodically. Only for H2 databases.
+         */
+        private boolean enabled;
+
+        /**
+         * Milliseconds between copies, i.e. the replication lag the replicas show.
+         */
+        private long intervalMs = 1000;
+    }
+}
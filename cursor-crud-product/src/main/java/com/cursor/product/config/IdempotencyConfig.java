@@ -0,0 +1,38 @@
+package com.cursor.product.config;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.idempotency.IdempotencyStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for idempotent product creation.
+ * <p>
+ * Creates the store that {@code POST /api/product} uses to replay the product created for
+ * an Idempotency-Key when the client retries.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    /**
+     * Creates the store of created products by Idempotency-Key, weighing each product by
+     * the characters of its name and description.
+     *
+     * @param properties the TTL, memory and key limits
+     * @return the store
+     */
+    @Bean
+    public IdempotencyStore<ProductDto> productIdempotencyStore(IdempotencyProperties properties) {
+        return new IdempotencyStore<>("product-create", properties, product ->
+                100 + 2 * (length(product.getName()) + length(product.getDescription())));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for idempotent product creation.
+ * <p>
+ * Bound from the {@code product.idempotency} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long the response to a request with an Idempotency-Key is replayed to retries.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Approximate memory the stored responses may take; the least useful keys are evicted
+     * beyond it.
+     */
+    private DataSize maxMemory = DataSize.ofMegabytes(32);
+
+    /**
+     * Longest Idempotency-Key accepted, in characters.
+     */
+    private int maxKeyLength = 255;
+
+    /**
+     * How long a retry waits for a request with the same key that is still in progress
+     * before it is answered with 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+}
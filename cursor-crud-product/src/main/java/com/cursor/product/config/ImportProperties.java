@@ -0,0 +1,33 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for CSV product imports.
+ * <p>
+ * Bound from the {@code product.import} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.import")
+public class ImportProperties {
+
+    /**
+     * Number of valid rows inserted per JDBC batch and committed per transaction.
+     * An interrupted import resumes after the last committed chunk.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Maximum number of rejected rows listed, with their errors, in an import summary.
+     * All rejected rows are counted.
+     */
+    private int maxReportedRejections = 100;
+}
@@ -0,0 +1,56 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous product ingestion.
+ * <p>
+ * Bound from the {@code product.ingest} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.ingest")
+public class IngestProperties {
+
+    /**
+     * Maximum number of accepted jobs waiting for the background writer; further
+     * submissions are answered with 429 until it catches up.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Maximum number of queued jobs written in one batch; at most {@code product.bulk.batch-size},
+     * so that a batch is written in one transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Retry-After returned with a 429 when the queue is full.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * How long the status of a persisted or failed job can be looked up.
+     */
+    private Duration jobRetention = Duration.ofHours(1);
+
+    /**
+     * Maximum number of persisted or failed jobs whose status is kept.
+     */
+    private long maxRetainedJobs = 100000;
+
+    /**
+     * How long shutdown waits for the writer to drain the queue before failing the
+     * remaining jobs.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
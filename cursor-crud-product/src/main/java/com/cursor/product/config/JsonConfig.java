@@ -0,0 +1,36 @@
+package com.cursor.product.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the tuned JSON serialization mode.
+ * <p>
+ * Registers Jackson's Blackbird module with the application object mapper, which Spring
+ * Boot uses for request and response bodies, the NDJSON export and error responses alike.
+ * Blackbird replaces the reflective getter and setter calls of bean serializers and
+ * deserializers with accessors generated through {@code LambdaMetafactory} the first time a
+ * type is seen, so ProductDto and ErrorResponse are written without reflection.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class JsonConfig {
+
+    /**
+     * Creates the Blackbird module; Spring Boot registers every Jackson module bean with the
+     * object mapper it builds.
+     *
+     * @return the Blackbird module
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product.json", name = "tuned", havingValue = "true", matchIfMissing = true)
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
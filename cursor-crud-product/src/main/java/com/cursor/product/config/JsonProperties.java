@@ -0,0 +1,30 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for JSON serialization.
+ * <p>
+ * Bound from the {@code product.json} prefix in application.properties. Response
+ * compression is configured separately with Spring Boot's {@code server.compression}
+ * properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.json")
+public class JsonProperties {
+
+    /**
+     * Whether the tuned serialization mode is on: bean properties such as those of
+     * ProductDto and ErrorResponse are read and written through generated accessors
+     * instead of reflection. The JSON produced is the same either way.
+     */
+    private boolean tuned = true;
+}
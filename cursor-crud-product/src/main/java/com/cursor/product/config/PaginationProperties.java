@@ -0,0 +1,31 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for paged product listing.
+ * <p>
+ * Bound from the {@code product.pagination} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.pagination")
+public class PaginationProperties {
+
+    /**
+     * Page size used when the request does not specify one.
+     */
+    private int defaultPageSize = 20;
+
+    /**
+     * Hard upper bound on the page size; larger requests are capped to this value.
+     */
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,39 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the product read-through cache.
+ * <p>
+ * Bound from the {@code product.cache} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+    /**
+     * Maximum number of products kept in the cache.
+     */
+    private long maximumSize = 10000;
+
+    /**
+     * Time after which a cached product is evicted.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * Time after which a cached product is reloaded in the background on its next
+     * read (refresh-ahead). Disabled when not set; must be shorter than expireAfterWrite.
+     */
+    private Duration refreshAfterWrite;
+}
@@ -0,0 +1,65 @@
+package com.cursor.product.config;
+
+import com.cursor.product.ratelimit.ClientRateLimiter;
+import com.cursor.product.ratelimit.ClientResolver;
+import com.cursor.product.ratelimit.RateLimitInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class for per-client rate limiting.
+ * <p>
+ * Every request under {@code /api} passes through the {@link RateLimitInterceptor} before
+ * its controller runs, so a client over its budget is refused before it takes a database
+ * connection. Writes to the ingest and import endpoints count against the ingest budget
+ * rather than the write budget, so loading a feed does not use up the budget of ordinary
+ * edits, nor the other way round. Actuator and documentation endpoints are not limited.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.ratelimit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    // Paths whose writes count against the ingest budget.
+    private static final String[] INGEST_PATHS = {"/api/product/ingest/**", "/api/product/import/**"};
+
+    private final ClientRateLimiter rateLimiter;
+    private final ClientResolver clientResolver;
+
+    /**
+     * Creates the configuration.
+     *
+     * @param properties the budgets and client settings
+     * @param clientResolver identifies the client of a request
+     */
+    public RateLimitConfig(RateLimitProperties properties, ClientResolver clientResolver) {
+        this.rateLimiter = new ClientRateLimiter(properties);
+        this.clientResolver = clientResolver;
+    }
+
+    /**
+     * Exposes the rate limiter, which publishes its metrics as a meter binder.
+     *
+     * @return the rate limiter
+     */
+    @Bean
+    public ClientRateLimiter clientRateLimiter() {
+        return rateLimiter;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, clientResolver, ClientRateLimiter.Bucket.WRITE))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(INGEST_PATHS);
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, clientResolver, ClientRateLimiter.Bucket.INGEST))
+                .addPathPatterns(INGEST_PATHS);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cursor.product.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configuration properties for per-client rate limiting of the API.
+ * <p>
+ * Bound from the {@code product.ratelimit} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.ratelimit")
+public class RateLimitProperties {
+
+    /**
+     * Whether API requests are rate limited per client.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Budget of each client for GET, HEAD and OPTIONS requests.
+     */
+    private Budget read = new Budget(50, 100);
+
+    /**
+     * Budget of each client for all other requests, except bulk ingest writes.
+     */
+    private Budget write = new Budget(10, 20);
+
+    /**
+     * Budget of each client for writes to the ingest and import endpoints. These take
+     * products in bulk and push back with their own queue, so they get a larger budget.
+     */
+    private Budget ingest = new Budget(500, 2000);
+
+    /**
+     * Request header identifying a client by API key; clients without a known key are
+     * identified by their IP address.
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * API keys issued to clients. Only these identify a client; any other key is ignored,
+     * so that a client cannot get a fresh budget by sending a new key.
+     */
+    private Set<String> apiKeys = new HashSet<>();
+
+    /**
+     * Addresses of the proxies or load balancers in front of the application. A request
+     * from one of them is attributed to the address it forwarded, taken from the
+     * X-Forwarded-For header. Leave empty when clients connect directly, or when
+     * {@code server.forward-headers-strategy} already makes the container report the
+     * client address.
+     */
+    private Set<String> trustedProxies = new HashSet<>();
+
+    /**
+     * How long a client may stay idle before its state is dropped. A client idle for
+     * longer than its burst takes to refill has full buckets, so dropping it changes nothing.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of clients whose state is kept, as a backstop to the idle timeout.
+     */
+    private long maxClients = 1000000;
+
+    /**
+     * Sustained rate and burst size of a token bucket.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+
+        /**
+         * Tokens added per second, i.e. the sustained request rate.
+         */
+        private double ratePerSecond;
+
+        /**
+         * Bucket capacity, i.e. how many requests may arrive at once after an idle period.
+         */
+        private int burst;
+    }
+}
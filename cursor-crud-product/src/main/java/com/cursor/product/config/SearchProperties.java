@@ -0,0 +1,57 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the embedded product search index.
+ * <p>
+ * Bound from the {@code product.search} prefix in application.properties.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.search")
+public class SearchProperties {
+
+    /**
+     * Whether the search index is kept at all. When disabled, product writes are not
+     * indexed and search and rebuild requests are answered with 503.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding the on-disk index. When blank the index is kept in memory
+     * and always rebuilt from the database at startup.
+     */
+    private String indexDir;
+
+    /**
+     * Whether to rebuild an on-disk index from the database at startup. An empty
+     * index is always rebuilt. Only disable this when the database outlives restarts.
+     */
+    private boolean rebuildOnStartup = true;
+
+    /**
+     * Upper bound on how long a committed product write may stay invisible to searches.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(1);
+
+    /**
+     * How often pending index changes are committed to disk.
+     */
+    private Duration commitInterval = Duration.ofMinutes(1);
+
+    /**
+     * Deepest result reachable through paging (page x size); deeper pages are rejected
+     * because their cost grows with the offset.
+     */
+    private int maxResultWindow = 10_000;
+}
@@ -0,0 +1,60 @@
+package com.cursor.product.config;
+
+import com.cursor.product.diagnostics.DiagnosticDataSource;
+import com.cursor.product.diagnostics.SqlDiagnostics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class for the SQL performance diagnostics that replace show-sql.
+ * <p>
+ * Hibernate statistics (query counts and times, entity loads, flushes, statements) are
+ * published as {@code hibernate.*} metrics, and the data source is wrapped so every
+ * statement is timed and the slow or sampled ones are logged by {@link SqlDiagnostics}.
+ * Both can be switched at runtime through the {@code sqldiagnostics} actuator endpoint.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class SqlDiagnosticsConfig {
+
+    /**
+     * Wraps the application data source in a {@link DiagnosticDataSource}.
+     *
+     * @param diagnostics resolved on first use, so the post processor does not initialize it early
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor diagnosticDataSourcePostProcessor(ObjectProvider<SqlDiagnostics> diagnostics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DiagnosticDataSource)) {
+                    return new DiagnosticDataSource(dataSource, diagnostics::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Starts Hibernate statistics collection according to the diagnostics settings.
+     *
+     * @param properties the diagnostics settings
+     * @return the customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statisticsHibernatePropertiesCustomizer(SqlDiagnosticsProperties properties) {
+        return hibernateProperties ->
+                hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isEnabled());
+    }
+}
@@ -0,0 +1,43 @@
+package com.cursor.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the SQL performance diagnostics.
+ * <p>
+ * Bound from the {@code product.diagnostics} prefix in application.properties. These are
+ * the startup values; all of them can be changed at runtime through the
+ * {@code sqldiagnostics} actuator endpoint.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product.diagnostics")
+public class SqlDiagnosticsProperties {
+
+    /**
+     * Whether Hibernate statistics are collected and statements are timed and logged.
+     * Off by default; switched on at runtime through the {@code sqldiagnostics} endpoint.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Execution time from which a statement is logged as slow, with the types of its
+     * bind parameters but not their values.
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /**
+     * Fraction of the remaining statements, between 0 and 1, that are logged in full with
+     * their bind values. 0 disables sampling.
+     */
+    private double sampleRate;
+}
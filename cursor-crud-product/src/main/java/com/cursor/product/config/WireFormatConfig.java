@@ -0,0 +1,129 @@
+package com.cursor.product.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuration class for the binary wire formats, CBOR and Smile.
+ * <p>
+ * Every API endpoint, and every error response, negotiates {@code application/cbor} and
+ * {@code application/x-jackson-smile} besides JSON: request bodies by Content-Type,
+ * responses by Accept, with JSON remaining the default. Both formats are written by
+ * copies of the application's JSON object mapper, so they carry the same fields, date
+ * format and modules as JSON, and bodies are validated the same way whatever their format.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    /**
+     * Media type of Smile, Jackson's binary JSON.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Media type of Smile, Jackson's binary JSON.
+     */
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    /**
+     * Media type of a sequence of concatenated CBOR items (RFC 8742), used for streaming.
+     */
+    public static final String APPLICATION_CBOR_SEQ_VALUE = "application/cbor-seq";
+
+    /**
+     * Media type of a sequence of concatenated CBOR items (RFC 8742), used for streaming.
+     */
+    public static final MediaType APPLICATION_CBOR_SEQ = MediaType.parseMediaType(APPLICATION_CBOR_SEQ_VALUE);
+
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    /**
+     * Creates the configuration.
+     *
+     * @param objectMapper the application's JSON object mapper
+     */
+    public WireFormatConfig(ObjectMapper objectMapper) {
+        this.cborMapper = cborMapper(objectMapper);
+        this.smileMapper = smileMapper(objectMapper);
+    }
+
+    /**
+     * Copies a JSON object mapper into one that reads and writes CBOR.
+     *
+     * @param objectMapper the JSON object mapper
+     * @return the CBOR object mapper, with the same configuration and modules
+     */
+    public static ObjectMapper cborMapper(ObjectMapper objectMapper) {
+        return objectMapper.copyWith(new CBORFactory());
+    }
+
+    /**
+     * Copies a JSON object mapper into one that reads and writes Smile.
+     *
+     * @param objectMapper the JSON object mapper
+     * @return the Smile object mapper, with the same configuration and modules
+     */
+    public static ObjectMapper smileMapper(ObjectMapper objectMapper) {
+        return objectMapper.copyWith(new SmileFactory());
+    }
+
+    /**
+     * Replaces Spring's default CBOR and Smile converters, whose object mappers are built
+     * with Jackson's defaults, with converters sharing the JSON configuration. They are
+     * placed after the JSON converter, so JSON is chosen when the client accepts anything.
+     *
+     * @param converters the configured converters
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        int json = 0;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                json = i + 1;
+            }
+        }
+        converters.addAll(json, List.of(
+                new MappingJackson2SmileHttpMessageConverter(smileMapper),
+                new MappingJackson2CborHttpMessageConverter(cborMapper)));
+    }
+
+    /**
+     * Marks API responses as varying by Accept, so caches keep the JSON and binary
+     * representations of a resource apart.
+     *
+     * @param registry the interceptor registry
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
@@ -1,18 +1,54 @@
 package com.cursor.product.controller;
 
+import com.cursor.product.config.WireFormatConfig;
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.BulkDeleteRequest;
+import com.cursor.product.domain.BulkDeleteResult;
 import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductPage;
+import com.cursor.product.domain.ProductPageRequest;
+import com.cursor.product.domain.ProductPatch;
+import com.cursor.product.domain.ProductSearchRequest;
+import com.cursor.product.domain.ProductSearchResult;
+import com.cursor.product.domain.ProductStats;
+import com.cursor.product.domain.SearchIndexRebuildResult;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.exception.PreconditionFailedException;
+import com.cursor.product.idempotency.IdempotencyStore;
+import com.cursor.product.ratelimit.ClientResolver;
+import com.cursor.product.routing.ReadRouting;
 import com.cursor.product.service.ProductService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for Product CRUD operations.
@@ -20,6 +56,16 @@ import java.util.List;
  * This controller provides REST endpoints for managing products including
  * create, read, update, and delete operations. All endpoints are prefixed with "/api/product".
  * </p>
+ * <p>
+ * Single-product responses carry a strong ETag built from the product id and version, with
+ * a suffix for the CBOR and Smile representations; If-Match accepts the tag of any of them.
+ * List and statistics responses carry a weak ETag built from the catalog-wide change counter,
+ * which is checked against If-None-Match before any product is read. It is weak because the
+ * server gzips large responses, and Tomcat leaves responses with a strong ETag uncompressed.
+ * </p>
+ * <p>
+ * Request and response bodies may be JSON, CBOR or Smile; see {@link WireFormatConfig}.
+ * </p>
  *
  * @author Cursor Product Team
  * @version 1.0.0
@@ -27,65 +73,310 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/product")
-@RequiredArgsConstructor
 @Tag(name = "Product Controller", description = "REST APIs for Product CRUD operations")
 public class ProductController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private static final List<MediaType> EXPORT_MEDIA_TYPES = List.of(
+            APPLICATION_NDJSON, WireFormatConfig.APPLICATION_CBOR_SEQ, WireFormatConfig.APPLICATION_SMILE);
+
+    /**
+     * Representations of a single product, in the order of the message converters that write them.
+     */
+    private static final List<MediaType> PRODUCT_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON, WireFormatConfig.APPLICATION_SMILE, MediaType.APPLICATION_CBOR);
+
+    private static final String CBOR_ETAG_SUFFIX = "-cbor";
+    private static final String SMILE_ETAG_SUFFIX = "-smile";
+
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    private final IdempotencyStore<ProductDto> idempotencyStore;
+    private final ClientResolver clientResolver;
+
+    /**
+     * Creates the controller.
+     *
+     * @param productService the product service
+     * @param objectMapper the application's JSON object mapper, also copied for CBOR and Smile
+     * @param idempotencyStore the products created by Idempotency-Key, replayed to retries
+     * @param clientResolver identifies the client whose Idempotency-Keys a request uses
+     */
+    public ProductController(ProductService productService, ObjectMapper objectMapper,
+                             IdempotencyStore<ProductDto> idempotencyStore, ClientResolver clientResolver) {
+        this.productService = productService;
+        this.objectMapper = objectMapper;
+        this.cborMapper = WireFormatConfig.cborMapper(objectMapper);
+        this.smileMapper = WireFormatConfig.smileMapper(objectMapper);
+        this.idempotencyStore = idempotencyStore;
+        this.clientResolver = clientResolver;
+    }
 
     /**
      * Creates a new product.
+     * <p>
+     * With an Idempotency-Key header the product is created only once per key and client,
+     * the client being identified as for rate limiting: a retry
+     * with the same key and body gets the response of the first request again, marked with
+     * Idempotent-Replayed, without touching the database, and a retry sent while the first
+     * request is still running waits for it.
+     * </p>
      *
+     * @param idempotencyKey a key identifying the request across retries, may be null
+     * @param request the request, identifying the client
+     * @param accept the Accept header, selecting the representation the ETag is for
      * @param productDto the product data transfer object containing product information
      * @return ResponseEntity with the created product and HTTP status 201 (CREATED)
      */
     @PostMapping
     @Operation(summary = "Create a new product", description = "Creates a new product with validation")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Product created successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input data")
+            @ApiResponse(responseCode = "201", description = "Product created successfully, or replayed for a known Idempotency-Key"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or Idempotency-Key"),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress"),
+            @ApiResponse(responseCode = "422", description = "The Idempotency-Key was used for a different product")
     })
-    public ResponseEntity<ProductDto> createProduct(@Valid @RequestBody ProductDto productDto) {
-        ProductDto createdProduct = productService.createProduct(productDto);
-        return new ResponseEntity<>(createdProduct, HttpStatus.CREATED);
+    public ResponseEntity<ProductDto> createProduct(
+            @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            HttpServletRequest request, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Valid @RequestBody ProductDto productDto) {
+        if (idempotencyKey == null) {
+            ProductDto createdProduct = productService.createProduct(productDto);
+            return withProductETag(ResponseEntity.status(HttpStatus.CREATED), createdProduct, accept)
+                    .body(createdProduct);
+        }
+        byte[] fingerprint = IdempotencyStore.fingerprint(productDto.getId(), productDto.getName(),
+                productDto.getDescription(), productDto.getPrice());
+        IdempotencyStore.Result<ProductDto> result = idempotencyStore.execute(clientResolver.resolve(request),
+                idempotencyKey, fingerprint,
+                () -> productService.createProduct(productDto));
+        ResponseEntity.BodyBuilder builder = withProductETag(ResponseEntity.status(HttpStatus.CREATED), result.value(),
+                accept);
+        if (result.replayed()) {
+            builder.header(IdempotencyStore.IDEMPOTENT_REPLAYED, "true");
+        }
+        return builder.body(result.value());
+    }
+
+    /**
+     * Creates many products in one request.
+     * <p>
+     * Items are validated one by one; invalid items are reported and skipped while
+     * valid ones are inserted in JDBC batches.
+     * </p>
+     *
+     * @param productDtos the products to create
+     * @return ResponseEntity with the outcome of every item and HTTP status 200 (OK)
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Create products in bulk",
+            description = "Validates each product and inserts the valid ones in JDBC batches, reporting the result per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk request processed; see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Malformed body or too many items")
+    })
+    public ResponseEntity<BulkCreateResult> createProducts(@RequestBody List<ProductDto> productDtos) {
+        BulkCreateResult result = productService.createProducts(productDtos);
+        return ResponseEntity.ok(result);
     }
 
     /**
      * Retrieves a product by its unique identifier.
      *
      * @param id the unique identifier of the product
+     * @param accept the Accept header, selecting the representation the ETag is for
      * @return ResponseEntity with the product and HTTP status 200 (OK)
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get product by ID", description = "Retrieves a product by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Product found"),
+            @ApiResponse(responseCode = "304", description = "Product unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
-    public ResponseEntity<ProductDto> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductDto> getProductById(@PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         ProductDto product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+        // A matching If-None-Match turns this into a 304 before the body is serialized.
+        return withProductETag(ResponseEntity.ok(), product, accept).body(product);
     }
 
     /**
      * Retrieves all products from the database.
      *
+     * @param webRequest the current request, used for conditional GET handling
      * @return ResponseEntity with a list of all products and HTTP status 200 (OK)
      */
     @GetMapping
     @Operation(summary = "Get all products", description = "Retrieves all products from the database")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match")
+    })
+    public ResponseEntity<List<ProductDto>> getAllProducts(WebRequest webRequest) {
+        String eTag = catalogETag();
+        if (catalogNotModified(webRequest, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return catalogResponse(eTag, productService::getAllProducts);
+    }
+
+    /**
+     * Retrieves one page of products using keyset pagination.
+     * <p>
+     * Pass the returned nextPageToken back as pageToken to fetch the following page.
+     * Deep pages cost the same as the first because each page seeks past the
+     * (sort key, id) of the previous one instead of skipping rows. Price bounds are
+     * served by the (price, id) index.
+     * </p>
+     *
+     * @param sort the field to sort by (id, name or price)
+     * @param direction the sort direction (asc or desc)
+     * @param size the requested page size, capped at the configured maximum
+     * @param pageToken the opaque token of the page to fetch, or null for the first page
+     * @param minPrice the lowest price to include (optional, inclusive)
+     * @param maxPrice the highest price to include (optional, inclusive)
+     * @param webRequest the current request, used for conditional GET handling
+     * @return ResponseEntity with the page of products and HTTP status 200 (OK)
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of products",
+            description = "Retrieves products one page at a time, sorted by id, name or price, optionally "
+                    + "limited to a price range, using an opaque page token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid sort, size, price range or page token")
     })
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
-        List<ProductDto> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<ProductPage> getProductPage(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            WebRequest webRequest) {
+        String eTag = catalogETag();
+        if (catalogNotModified(webRequest, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return catalogResponse(eTag, () -> productService.getProductPage(
+                new ProductPageRequest(sort, direction, size, pageToken, minPrice, maxPrice)));
+    }
+
+    /**
+     * Searches product names and descriptions, most relevant first.
+     *
+     * @param q the search text
+     * @param page the zero-based page number (optional)
+     * @param size the page size (optional, capped at the configured maximum)
+     * @return ResponseEntity with the page of matches and HTTP status 200 (OK)
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search products",
+            description = "Full-text search over name and description, ranked by relevance. "
+                    + "Supports \"phrases\", -excluded terms and prefix* matching.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Blank query or page out of range"),
+            @ApiResponse(responseCode = "503", description = "Search is disabled")
+    })
+    public ResponseEntity<ProductSearchResult> searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(productService.searchProducts(new ProductSearchRequest(q, page, size)));
+    }
+
+    /**
+     * Rebuilds the search index from the database.
+     *
+     * @return ResponseEntity with the number of indexed products and HTTP status 200 (OK)
+     */
+    @PostMapping("/search/rebuild")
+    @Operation(summary = "Rebuild search index",
+            description = "Re-indexes every product from the database; searches keep working meanwhile")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Index rebuilt successfully"),
+            @ApiResponse(responseCode = "503", description = "Search is disabled")
+    })
+    public ResponseEntity<SearchIndexRebuildResult> rebuildSearchIndex() {
+        return ResponseEntity.ok(productService.rebuildSearchIndex());
+    }
+
+    /**
+     * Retrieves catalog-wide product statistics.
+     *
+     * @param webRequest the current request, used for conditional GET handling
+     * @return ResponseEntity with the product statistics and HTTP status 200 (OK)
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Get product statistics",
+            description = "Retrieves the product count, total value, and most and least expensive products")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match")
+    })
+    public ResponseEntity<ProductStats> getProductStats(WebRequest webRequest) {
+        String eTag = catalogETag();
+        if (catalogNotModified(webRequest, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getProductStats());
+    }
+
+    /**
+     * Exports the full catalog as newline-delimited JSON, or as a CBOR sequence or a Smile
+     * stream when the client accepts one of those and not NDJSON.
+     * <p>
+     * Each product is serialized and written as soon as it is read from the database,
+     * so the response starts immediately and heap use stays flat regardless of catalog size.
+     * </p>
+     *
+     * @param accept the Accept header, may be null
+     * @return ResponseEntity streaming one product after another and HTTP status 200 (OK)
+     */
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", WireFormatConfig.APPLICATION_CBOR_SEQ_VALUE,
+            WireFormatConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Export all products",
+            description = "Streams every product as newline-delimited JSON (or a CBOR sequence or Smile stream), "
+                    + "ordered by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Products streamed successfully")
+    })
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType mediaType = preferredMediaType(accept, EXPORT_MEDIA_TYPES);
+        if (!mediaType.equals(APPLICATION_NDJSON)) {
+            return ResponseEntity.ok().contentType(mediaType).body(exportSequence(mapperFor(mediaType)));
+        }
+        ObjectWriter writer = objectMapper.writerFor(ProductDto.class);
+        StreamingResponseBody body = outputStream -> productService.exportProducts(product -> {
+            try {
+                outputStream.write(writer.writeValueAsBytes(product));
+                outputStream.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
     }
 
     /**
      * Updates an existing product.
+     * <p>
+     * With an If-Match header carrying the product's ETag the update is only applied
+     * if the product has not changed since that ETag was issued; otherwise 412 is returned
+     * and the client should re-read and retry. Without If-Match the update is unconditional.
+     * </p>
      *
      * @param id the unique identifier of the product to update
+     * @param ifMatch the optional If-Match header
      * @param productDto the product data transfer object containing updated information
      * @return ResponseEntity with the updated product and HTTP status 200 (OK)
      */
@@ -94,13 +385,53 @@ public class ProductController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Product updated successfully"),
             @ApiResponse(responseCode = "404", description = "Product not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid input data")
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "409", description = "Product was modified concurrently by an unconditional update"),
+            @ApiResponse(responseCode = "412", description = "Product no longer matches the ETag in If-Match")
     })
     public ResponseEntity<ProductDto> updateProduct(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @Valid @RequestBody ProductDto productDto) {
-        ProductDto updatedProduct = productService.updateProduct(id, productDto);
-        return ResponseEntity.ok(updatedProduct);
+        ProductDto updatedProduct = productService.updateProduct(id, productDto, expectedVersion(id, ifMatch));
+        return withProductETag(ResponseEntity.ok(), updatedProduct, accept).body(updatedProduct);
+    }
+
+    /**
+     * Partially updates an existing product from a JSON Merge Patch (RFC 7396) document.
+     * <p>
+     * Only name, description and price may be patched; the fields present are validated
+     * with the same rules as a full update and written with a single targeted UPDATE.
+     * If-Match is honoured as for PUT. The patch may also be sent as a CBOR or Smile map,
+     * which is applied with the same merge rules.
+     * </p>
+     *
+     * @param id the unique identifier of the product to patch
+     * @param ifMatch the optional If-Match header
+     * @param contentType the Content-Type header, selecting the format of the patch
+     * @param accept the Accept header, selecting the representation the ETag is for
+     * @param patch the merge patch document
+     * @return ResponseEntity with the patched product and HTTP status 200 (OK)
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, WireFormatConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Patch product", description = "Updates only the supplied fields of a product (JSON Merge Patch)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Product patched successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid patch document or field value"),
+            @ApiResponse(responseCode = "404", description = "Product not found"),
+            @ApiResponse(responseCode = "412", description = "Product no longer matches the ETag in If-Match")
+    })
+    public ResponseEntity<ProductDto> patchProduct(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestBody byte[] patch) {
+        ProductPatch productPatch = toProductPatch(patch, mapperFor(MediaType.parseMediaType(contentType)));
+        ProductDto patchedProduct = productService.patchProduct(id, productPatch, expectedVersion(id, ifMatch));
+        return withProductETag(ResponseEntity.ok(), patchedProduct, accept).body(patchedProduct);
     }
 
     /**
@@ -119,5 +450,221 @@ public class ProductController {
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * Deletes products by id list or by price range.
+     *
+     * @param request the ids, or the inclusive minPrice and maxPrice, of the products to delete
+     * @return ResponseEntity with the number of deleted products and HTTP status 200 (OK)
+     */
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Delete products in bulk",
+            description = "Deletes products by id list or price range using set-based statements in bounded chunks")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Products deleted successfully"),
+            @ApiResponse(responseCode = "400", description = "Missing, ambiguous or invalid criteria")
+    })
+    public ResponseEntity<BulkDeleteResult> deleteProducts(@RequestBody BulkDeleteRequest request) {
+        BulkDeleteResult result = productService.deleteProducts(request);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Builds the strong ETag of the JSON representation of a single product.
+     *
+     * @param product the product
+     * @return the quoted ETag, or null if the product has no version
+     * @see #productETag(ProductDto, MediaType)
+     */
+    public static String productETag(ProductDto product) {
+        return productETag(product, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Builds the strong ETag of a single product from its id, version and representation.
+     * The JSON, CBOR and Smile bodies of one version differ byte for byte, so each has its
+     * own tag: {@code "7-3"} for JSON, {@code "7-3-cbor"} and {@code "7-3-smile"}.
+     *
+     * @param product the product
+     * @param format the media type of the response body
+     * @return the quoted ETag, or null if the product has no version
+     */
+    public static String productETag(ProductDto product, MediaType format) {
+        if (product == null || product.getVersion() == null) {
+            return null;
+        }
+        String suffix = "";
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(format)) {
+            suffix = CBOR_ETAG_SUFFIX;
+        } else if (WireFormatConfig.APPLICATION_SMILE.equalsTypeAndSubtype(format)) {
+            suffix = SMILE_ETAG_SUFFIX;
+        }
+        return "\"" + product.getId() + "-" + product.getVersion() + suffix + "\"";
+    }
+
+    /**
+     * Extracts the product version from an If-Match header, accepting the ETag of any
+     * representation of the product.
+     *
+     * @param id the id of the product being written
+     * @param ifMatch the If-Match header value, may be null
+     * @return the expected version, or null if the write is unconditional
+     * @throws PreconditionFailedException if the header cannot match this product
+     */
+    public static Long expectedVersion(Long id, String ifMatch) {
+        if (!StringUtils.hasText(ifMatch) || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            // If-Match uses strong comparison, so weak tags never match.
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                String version = tag.substring(prefix.length(), tag.length() - 1);
+                for (String suffix : List.of(CBOR_ETAG_SUFFIX, SMILE_ETAG_SUFFIX)) {
+                    if (version.endsWith(suffix)) {
+                        version = version.substring(0, version.length() - suffix.length());
+                        break;
+                    }
+                }
+                try {
+                    return Long.valueOf(version);
+                } catch (NumberFormatException ex) {
+                    // Not one of our tags; keep looking.
+                }
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match any version of product " + id);
+    }
+
+    private ProductPatch toProductPatch(byte[] body, ObjectMapper mapper) {
+        JsonNode patch;
+        try {
+            // Read numbers as BigDecimal so prices keep their exact decimal value.
+            patch = mapper.reader()
+                    .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+                    .readTree(body);
+        } catch (IOException ex) {
+            throw new BadRequestException("Merge patch is not a valid document of its content type", ex);
+        }
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("Merge patch must be an object");
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!ProductPatch.PATCHABLE_FIELDS.contains(field)) {
+                throw new BadRequestException("Field cannot be patched: " + field);
+            }
+            fields.add(field);
+        });
+        try {
+            return new ProductPatch(objectMapper.treeToValue(patch, ProductDto.class), fields);
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Merge patch contains a value of the wrong type", ex);
+        }
+    }
+
+    /**
+     * Returns the object mapper reading and writing the given media type; JSON for any type
+     * other than CBOR and Smile.
+     */
+    private ObjectMapper mapperFor(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)
+                || WireFormatConfig.APPLICATION_CBOR_SEQ.isCompatibleWith(mediaType)) {
+            return cborMapper;
+        }
+        if (WireFormatConfig.APPLICATION_SMILE.isCompatibleWith(mediaType)) {
+            return smileMapper;
+        }
+        return objectMapper;
+    }
+
+    /**
+     * Picks a format from the Accept header, most specific accepted type first, preferring
+     * the earlier of the offered types among equally specific ones. Falls back to the first
+     * offered type.
+     */
+    private static MediaType preferredMediaType(String accept, List<MediaType> offered) {
+        if (!StringUtils.hasText(accept)) {
+            return offered.get(0);
+        }
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType acceptedType : accepted) {
+            for (MediaType offeredType : offered) {
+                if (acceptedType.includes(offeredType)) {
+                    return offeredType;
+                }
+            }
+        }
+        return offered.get(0);
+    }
+
+    /**
+     * Streams the catalog as a sequence of root-level values, which for CBOR is an RFC 8742
+     * CBOR sequence and for Smile a single Smile stream.
+     */
+    private StreamingResponseBody exportSequence(ObjectMapper mapper) {
+        ObjectWriter writer = mapper.writerFor(ProductDto.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return outputStream -> {
+            try (SequenceWriter sequence = writer.writeValues(outputStream)) {
+                productService.exportProducts(product -> {
+                    try {
+                        sequence.write(product);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+    }
+
+    private String catalogETag() {
+        return "W/\"c" + productService.getCatalogVersion() + "\"";
+    }
+
+    /**
+     * Checks If-None-Match against the catalog ETag before the catalog is read. Unlike
+     * {@link WebRequest#checkNotModified(String)} this sets no response headers, so a response
+     * that turns out to be served by a read replica can still go out without the ETag.
+     */
+    private static boolean catalogNotModified(WebRequest webRequest, String eTag) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag(eTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Strips the weak indicator, for the weak comparison If-None-Match calls for.
+     */
+    private static String opaqueTag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    /**
+     * Reads a catalog response and tags it with the catalog ETag, unless a read replica served it:
+     * a replica may lag behind the catalog version, and a client caching its body under that
+     * ETag would keep getting 304s for the stale copy until the next write.
+     */
+    private static <T> ResponseEntity<T> catalogResponse(String eTag, Supplier<T> read) {
+        try (ReadRouting.ReplicaReads replicaReads = ReadRouting.trackReplicaReads()) {
+            T body = read.get();
+            return replicaReads.any() ? ResponseEntity.ok(body) : ResponseEntity.ok().eTag(eTag).body(body);
+        }
+    }
+
+    private static ResponseEntity.BodyBuilder withProductETag(ResponseEntity.BodyBuilder builder, ProductDto product,
+                                                              String accept) {
+        String eTag = productETag(product, preferredMediaType(accept, PRODUCT_MEDIA_TYPES));
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+}
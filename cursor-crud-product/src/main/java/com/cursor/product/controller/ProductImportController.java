@@ -0,0 +1,61 @@
+package com.cursor.product.controller;
+
+import com.cursor.product.domain.ProductImportResult;
+import com.cursor.product.service.ProductImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * REST Controller for CSV product imports.
+ * <p>
+ * A CSV file uploaded to "/api/product/import/{importId}" is imported while it is being
+ * received, without buffering the request body. The response summarizes the rows created
+ * and rejected. If the upload stops early, whether the client disconnects, a row is
+ * malformed or the database fails, uploading the same file to the same URL again resumes
+ * after the last committed chunk, which makes the PUT safe to retry.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/product/import")
+@RequiredArgsConstructor
+@Tag(name = "Product Import Controller", description = "REST APIs for importing products from CSV files")
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    /**
+     * Imports, or resumes importing, products from a CSV file.
+     *
+     * @param importId the id under which the import's progress is kept
+     * @param request the request, whose body is the UTF-8 CSV file
+     * @return ResponseEntity with the import summary and HTTP status 200 (OK)
+     * @throws IOException if the request body cannot be opened
+     */
+    @PutMapping(value = "/{importId}", consumes = {"text/csv", "application/csv"})
+    @Operation(summary = "Import products from CSV",
+            description = "Streams a CSV file with name, description and price columns into the catalog in "
+                    + "committed chunks; uploading it again under the same id resumes an interrupted import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload processed; see the status and rejected rows"),
+            @ApiResponse(responseCode = "400", description = "Invalid import id, or missing or incomplete header row")
+    })
+    public ResponseEntity<ProductImportResult> importProducts(@PathVariable String importId,
+                                                              HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(productImportService.importCsv(importId, request.getInputStream()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.cursor.product.controller;
+
+import com.cursor.product.domain.IngestJob;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductIngestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+/**
+ * REST Controller for asynchronous product ingestion.
+ * <p>
+ * Products posted to "/api/product/ingest" are validated and queued, and the caller
+ * gets 202 Accepted with a job id right away instead of waiting for the commit. The job
+ * status, and the product id once it is persisted, are served from the job's Location.
+ * A full queue is answered with 429 Too Many Requests and a Retry-After header.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/product/ingest")
+@RequiredArgsConstructor
+@Tag(name = "Product Ingest Controller", description = "REST APIs for asynchronous product creation")
+public class ProductIngestController {
+
+    private final ProductIngestService productIngestService;
+
+    /**
+     * Queues a product for creation.
+     *
+     * @param productDto the product data transfer object containing product information
+     * @return ResponseEntity with the queued job and HTTP status 202 (ACCEPTED)
+     */
+    @PostMapping
+    @Operation(summary = "Queue a product for creation",
+            description = "Validates the product and queues it for the background writer, returning a job to poll")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Product accepted and queued"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "429", description = "Ingest queue is full; retry after the given delay"),
+            @ApiResponse(responseCode = "503", description = "Ingestion is shutting down")
+    })
+    public ResponseEntity<IngestJob> ingestProduct(@Valid @RequestBody ProductDto productDto) {
+        IngestJob job = productIngestService.submit(productDto);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{jobId}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    /**
+     * Retrieves the status of an ingest job.
+     *
+     * @param jobId the id of the job
+     * @return ResponseEntity with the job and HTTP status 200 (OK)
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get ingest job status", description = "Returns whether the product is queued, persisted or failed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Job unknown or no longer retained")
+    })
+    public ResponseEntity<IngestJob> getIngestJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(productIngestService.getJob(jobId));
+    }
+}
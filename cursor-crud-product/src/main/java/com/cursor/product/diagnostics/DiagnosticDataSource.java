@@ -0,0 +1,176 @@
+package com.cursor.product.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Data source that times every statement executed on its connections and reports it to
+ * {@link SqlDiagnostics}, covering Hibernate and JdbcTemplate alike.
+ * <p>
+ * While diagnostics are disabled connections are handed out unwrapped, so the only cost
+ * left is one flag check per borrowed connection.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DiagnosticDataSource extends DelegatingDataSource {
+
+    private final Supplier<SqlDiagnostics> diagnosticsSupplier;
+    private volatile SqlDiagnostics diagnostics;
+
+    /**
+     * Creates the data source.
+     *
+     * @param targetDataSource the data source to wrap
+     * @param diagnosticsSupplier supplies the diagnostics on first use, since the data source
+     *                            is created before most other beans
+     */
+    public DiagnosticDataSource(DataSource targetDataSource, Supplier<SqlDiagnostics> diagnosticsSupplier) {
+        super(targetDataSource);
+        this.diagnosticsSupplier = diagnosticsSupplier;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        SqlDiagnostics current = diagnostics;
+        if (current == null) {
+            current = diagnosticsSupplier.get();
+            diagnostics = current;
+        }
+        if (!current.isEnabled()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(DiagnosticDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection, current));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Wraps the statements a connection creates.
+     */
+    private record ConnectionHandler(Connection target, SqlDiagnostics diagnostics) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    Object result = DiagnosticDataSource.invoke(target, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return wrapStatement(statement, sql);
+                    }
+                    return result;
+                }
+            }
+        }
+
+        private Statement wrapStatement(Statement statement, String sql) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+            return (Statement) Proxy.newProxyInstance(DiagnosticDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(statement, sql, diagnostics));
+        }
+    }
+
+    /**
+     * Collects the bind values of a statement and times its executions.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final SqlDiagnostics diagnostics;
+        private final List<Object> parameters = new ArrayList<>();
+        private int batchSize;
+
+        private StatementHandler(Statement target, String sql, SqlDiagnostics diagnostics) {
+            this.target = target;
+            this.sql = sql;
+            this.diagnostics = diagnostics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                // setNull(index, sqlType) binds null; every other setter binds its second argument.
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch") && (args == null || args.length == 0)) {
+                batchSize++;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return DiagnosticDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            long start = System.nanoTime();
+            try {
+                return DiagnosticDataSource.invoke(target, method, args);
+            } finally {
+                diagnostics.statementExecuted(statementSql, parameters, batchSize, System.nanoTime() - start);
+                if (method.getName().equals("executeBatch") || method.getName().equals("executeLargeBatch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            // Only the first row of a batch is kept.
+            if (batchSize > 0) {
+                return;
+            }
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+    }
+}
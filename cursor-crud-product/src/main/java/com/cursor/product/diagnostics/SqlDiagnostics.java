@@ -0,0 +1,186 @@
+package com.cursor.product.diagnostics;
+
+import com.cursor.product.config.SqlDiagnosticsProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Times the SQL statements executed through the diagnostic data source and logs the slow
+ * and sampled ones.
+ * <p>
+ * Statements are timed as {@code sql.statements}, tagged with their command. A statement
+ * that takes at least the slow query threshold is logged at WARN with the types of its bind
+ * parameters, so the log shows which query shape is slow without exposing the data;
+ * a sampled fraction of the other statements is logged at INFO with their bind values.
+ * The settings start from {@link SqlDiagnosticsProperties} and can be changed at runtime.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class SqlDiagnostics implements MeterBinder {
+
+    private static final Set<String> COMMANDS = Set.of("select", "insert", "update", "delete", "merge");
+    private static final String OTHER_COMMAND = "other";
+    private static final int MAX_LOGGED_VALUE_LENGTH = 100;
+
+    private volatile boolean enabled;
+    private volatile long slowQueryThresholdNanos;
+    private volatile double sampleRate;
+    private volatile Map<String, Timer> timers = Map.of();
+
+    private final LongAdder slowStatements = new LongAdder();
+    private final LongAdder sampledStatements = new LongAdder();
+
+    public SqlDiagnostics(SqlDiagnosticsProperties properties) {
+        setEnabled(properties.isEnabled());
+        setSlowQueryThreshold(properties.getSlowQueryThreshold());
+        setSampleRate(properties.getSampleRate());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<String, Timer> commandTimers = new HashMap<>();
+        for (String command : COMMANDS) {
+            commandTimers.put(command, statementTimer(registry, command));
+        }
+        commandTimers.put(OTHER_COMMAND, statementTimer(registry, OTHER_COMMAND));
+        timers = Map.copyOf(commandTimers);
+        FunctionCounter.builder("sql.statements.slow", slowStatements, LongAdder::sum)
+                .description("Statements that took at least the slow query threshold")
+                .register(registry);
+    }
+
+    /**
+     * Records an executed statement.
+     *
+     * @param sql the statement
+     * @param parameters the bind values of the statement, or of the first row of a batch
+     * @param batchSize the number of rows of a batch, or 0
+     * @param elapsedNanos the execution time
+     */
+    public void statementExecuted(String sql, List<Object> parameters, int batchSize, long elapsedNanos) {
+        if (!enabled || sql == null) {
+            return;
+        }
+        Timer timer = timers.get(command(sql));
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            slowStatements.increment();
+            log.warn("Slow SQL statement took {} ms: {} parameters {}{}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    sql, shape(parameters), batch(batchSize));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            sampledStatements.increment();
+            log.info("Sampled SQL statement took {} ms: {} parameters {}{}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql, values(parameters), batch(batchSize));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowQueryThreshold() {
+        return Duration.ofNanos(slowQueryThresholdNanos);
+    }
+
+    /**
+     * Sets the execution time from which statements are logged as slow.
+     *
+     * @param slowQueryThreshold the threshold
+     * @throws IllegalArgumentException if the threshold is null or negative
+     */
+    public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+        if (slowQueryThreshold == null || slowQueryThreshold.isNegative()) {
+            throw new IllegalArgumentException("Slow query threshold must not be negative");
+        }
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets the fraction of the other statements that are logged in full.
+     *
+     * @param sampleRate the fraction, 0 to disable sampling
+     * @throws IllegalArgumentException if the rate is not between 0 and 1
+     */
+    public void setSampleRate(double sampleRate) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public long getSlowStatements() {
+        return slowStatements.sum();
+    }
+
+    public long getSampledStatements() {
+        return sampledStatements.sum();
+    }
+
+    private static Timer statementTimer(MeterRegistry registry, String command) {
+        return Timer.builder("sql.statements")
+                .description("Execution time of SQL statements")
+                .tag("command", command)
+                .register(registry);
+    }
+
+    private static String command(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String command = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return COMMANDS.contains(command) ? command : OTHER_COMMAND;
+    }
+
+    private static String shape(List<Object> parameters) {
+        return parameters.stream()
+                .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String values(List<Object> parameters) {
+        return parameters.stream()
+                .map(value -> {
+                    String text = Objects.toString(value);
+                    return text.length() > MAX_LOGGED_VALUE_LENGTH
+                            ? text.substring(0, MAX_LOGGED_VALUE_LENGTH) + "..." : text;
+                })
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String batch(int batchSize) {
+        return batchSize > 0 ? " (first of a batch of " + batchSize + ")" : "";
+    }
+}
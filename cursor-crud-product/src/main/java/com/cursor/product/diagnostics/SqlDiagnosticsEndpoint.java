@@ -0,0 +1,89 @@
+package com.cursor.product.diagnostics;
+
+import com.cursor.product.domain.SqlDiagnosticsStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Actuator endpoint ({@code /actuator/sqldiagnostics}) that reports and switches the SQL
+ * diagnostics at runtime.
+ * <p>
+ * A POST with any of {@code enabled}, {@code slowQueryThreshold} (e.g. "50ms") and
+ * {@code sampleRate} changes only the given settings. Enabling or disabling also switches
+ * Hibernate statistics collection.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "sqldiagnostics")
+public class SqlDiagnosticsEndpoint {
+
+    private final SqlDiagnostics diagnostics;
+    private final Statistics statistics;
+
+    public SqlDiagnosticsEndpoint(SqlDiagnostics diagnostics, EntityManagerFactory entityManagerFactory) {
+        this.diagnostics = diagnostics;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Returns the current settings and counters.
+     *
+     * @return the status
+     */
+    @ReadOperation
+    public SqlDiagnosticsStatus status() {
+        return new SqlDiagnosticsStatus(
+                diagnostics.isEnabled(),
+                diagnostics.getSlowQueryThreshold().toMillis(),
+                diagnostics.getSampleRate(),
+                diagnostics.getSlowStatements(),
+                diagnostics.getSampledStatements(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                statistics.getEntityLoadCount(),
+                statistics.getFlushCount(),
+                statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Changes the given settings.
+     *
+     * @param enabled whether to collect statistics and time statements, or null to keep the current value
+     * @param slowQueryThreshold the new slow query threshold, or null to keep the current value
+     * @param sampleRate the new sample rate between 0 and 1, or null to keep the current value
+     * @return the status after the change
+     */
+    @WriteOperation
+    public SqlDiagnosticsStatus configure(@Nullable Boolean enabled, @Nullable Duration slowQueryThreshold,
+                                          @Nullable Double sampleRate) {
+        try {
+            if (slowQueryThreshold != null) {
+                diagnostics.setSlowQueryThreshold(slowQueryThreshold);
+            }
+            if (sampleRate != null) {
+                diagnostics.setSampleRate(sampleRate);
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidEndpointRequestException(ex.getMessage(), ex.getMessage());
+        }
+        if (enabled != null) {
+            diagnostics.setEnabled(enabled);
+            statistics.setStatisticsEnabled(enabled);
+        }
+        return status();
+    }
+}
@@ -0,0 +1,40 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Summary and per-item outcome of a bulk product create request.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResult {
+
+    /**
+     * Number of products created.
+     */
+    private int created;
+
+    /**
+     * Number of items rejected by validation.
+     */
+    private int rejected;
+
+    /**
+     * Number of valid items whose batch failed to persist.
+     */
+    private int failed;
+
+    /**
+     * Outcome of each item, in request order.
+     */
+    private List<BulkItemResult> items;
+}
@@ -0,0 +1,39 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Criteria for a bulk product delete.
+ * <p>
+ * Either a list of ids or an inclusive price range (both bounds) must be given, not both.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteRequest {
+
+    /**
+     * Ids of the products to delete.
+     */
+    private List<Long> ids;
+
+    /**
+     * Lowest price, inclusive, of the products to delete.
+     */
+    private BigDecimal minPrice;
+
+    /**
+     * Highest price, inclusive, of the products to delete.
+     */
+    private BigDecimal maxPrice;
+}
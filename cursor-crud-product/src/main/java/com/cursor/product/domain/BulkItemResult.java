@@ -0,0 +1,61 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a single item in a bulk product request.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+
+    /**
+     * Zero-based position of the item in the request.
+     */
+    private int index;
+
+    /**
+     * What happened to the item.
+     */
+    private Status status;
+
+    /**
+     * Id of the created product, or null if it was not created.
+     */
+    private Long id;
+
+    /**
+     * Validation or persistence errors, or null if the item was created.
+     */
+    private List<String> errors;
+
+    /**
+     * Possible outcomes of a bulk item.
+     */
+    public enum Status {
+
+        /**
+         * The item was persisted.
+         */
+        CREATED,
+
+        /**
+         * The item failed validation and was not persisted.
+         */
+        REJECTED,
+
+        /**
+         * The item was valid but its batch could not be persisted.
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,30 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A CSV row that a product import did not create a product from.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRejectedRow {
+
+    /**
+     * One-based number of the row, counted from the first row after the header.
+     */
+    private long row;
+
+    /**
+     * Validation or persistence errors.
+     */
+    private List<String> errors;
+}
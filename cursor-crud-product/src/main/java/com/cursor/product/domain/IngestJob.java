@@ -0,0 +1,72 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Status of a product submitted for asynchronous ingestion.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestJob {
+
+    /**
+     * Unique identifier of the job.
+     */
+    private String id;
+
+    /**
+     * Where the job is in its life cycle.
+     */
+    private Status status;
+
+    /**
+     * Id of the created product, or null until the product is persisted.
+     */
+    private Long productId;
+
+    /**
+     * Why the product could not be persisted, or null unless the job failed.
+     */
+    private List<String> errors;
+
+    /**
+     * When the job was accepted.
+     */
+    private LocalDateTime submittedAt;
+
+    /**
+     * When the job was persisted or failed, or null while it is queued.
+     */
+    private LocalDateTime completedAt;
+
+    /**
+     * Possible states of an ingest job.
+     */
+    public enum Status {
+
+        /**
+         * The job was accepted and waits for the background writer.
+         */
+        QUEUED,
+
+        /**
+         * The product was committed to the database.
+         */
+        PERSISTED,
+
+        /**
+         * The product could not be persisted and will not be retried.
+         */
+        FAILED
+    }
+}
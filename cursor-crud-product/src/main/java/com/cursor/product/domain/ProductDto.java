@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.PersistenceCreator;
 
 import java.math.BigDecimal;
 
@@ -15,6 +16,10 @@ import java.math.BigDecimal;
  * This class represents the product data structure used for API requests and responses.
  * It includes validation annotations to ensure data integrity.
  * </p>
+ * <p>
+ * Read-only queries build it straight from the selected columns through the all-arguments
+ * constructor, which is marked as the one Spring Data projections use.
+ * </p>
  *
  * @author Cursor Product Team
  * @version 1.0.0
@@ -22,7 +27,7 @@ import java.math.BigDecimal;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
+@AllArgsConstructor(onConstructor_ = @PersistenceCreator)
 public class ProductDto {
 
     /**
@@ -53,5 +58,26 @@ public class ProductDto {
     @NotNull(message = "Product price is required")
     @DecimalMin(value = "0.01", message = "Product price must be greater than 0")
     private BigDecimal price;
+
+    /**
+     * Version of the product, incremented on every update.
+     * Assigned by the server; ignored when creating or updating a product.
+     */
+    private Long version;
+
+    /**
+     * Constructs a ProductDto without a version.
+     *
+     * @param id the product id
+     * @param name the product name
+     * @param description the product description
+     * @param price the product price
+     */
+    public ProductDto(Long id, String name, String description, BigDecimal price) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+    }
 }
 
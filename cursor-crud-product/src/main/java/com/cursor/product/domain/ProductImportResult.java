@@ -0,0 +1,95 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Summary of one upload of a CSV product import.
+ * <p>
+ * Counts of created and rejected rows cover the whole import, including earlier uploads
+ * it resumed from; the rows read, the throughput and the listed rejections cover this upload.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResult {
+
+    /**
+     * Id of the import.
+     */
+    private String importId;
+
+    /**
+     * Whether the whole file was imported.
+     */
+    private Status status;
+
+    /**
+     * Why the upload stopped, or null if it completed.
+     */
+    private String error;
+
+    /**
+     * Rows committed by earlier uploads, which this upload skipped.
+     */
+    private long resumedFrom;
+
+    /**
+     * Rows read and processed by this upload after the skipped ones.
+     */
+    private long rowsRead;
+
+    /**
+     * Rows committed in total; uploading the file again resumes after this row.
+     */
+    private long committedRows;
+
+    /**
+     * Products created by the import.
+     */
+    private long created;
+
+    /**
+     * Rows rejected by the import.
+     */
+    private long rejected;
+
+    /**
+     * Duration of this upload in milliseconds.
+     */
+    private long elapsedMillis;
+
+    /**
+     * Rows processed per second by this upload.
+     */
+    private long rowsPerSecond;
+
+    /**
+     * The first rows this upload rejected, up to the configured maximum.
+     */
+    private List<ImportRejectedRow> rejectedRows;
+
+    /**
+     * Possible outcomes of an upload.
+     */
+    public enum Status {
+
+        /**
+         * Every row of the file was committed.
+         */
+        COMPLETED,
+
+        /**
+         * The upload stopped early; the rows up to committedRows are committed.
+         */
+        STOPPED
+    }
+}
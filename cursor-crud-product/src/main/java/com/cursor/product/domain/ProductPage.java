@@ -0,0 +1,35 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of products returned by the keyset-paged list endpoint.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPage {
+
+    /**
+     * Products on this page, in the requested order.
+     */
+    private List<ProductDto> items;
+
+    /**
+     * Effective page size after capping.
+     */
+    private int size;
+
+    /**
+     * Opaque token for the following page, or null when this is the last page.
+     */
+    private String nextPageToken;
+}
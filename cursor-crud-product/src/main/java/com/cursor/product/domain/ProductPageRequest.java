@@ -0,0 +1,68 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Parameters for a keyset-paged product list request.
+ * <p>
+ * The sort and direction values are kept as raw request strings and are
+ * validated by the service layer. When a page token is supplied it must have
+ * been issued for the same sort field and direction. Optional price bounds are
+ * inclusive and should stay the same for every page of one listing.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageRequest {
+
+    /**
+     * Field to sort by: id, name or price.
+     */
+    private String sort;
+
+    /**
+     * Sort direction: asc or desc.
+     */
+    private String direction;
+
+    /**
+     * Requested page size. Values above the configured maximum are capped.
+     */
+    private Integer size;
+
+    /**
+     * Opaque token returned as nextPageToken by the previous page, or null for the first page.
+     */
+    private String pageToken;
+
+    /**
+     * Lowest price to include, or null for no lower bound.
+     */
+    private BigDecimal minPrice;
+
+    /**
+     * Highest price to include, or null for no upper bound.
+     */
+    private BigDecimal maxPrice;
+
+    /**
+     * Constructs an unfiltered page request.
+     *
+     * @param sort the field to sort by
+     * @param direction the sort direction
+     * @param size the requested page size
+     * @param pageToken the token of the previous page, or null
+     */
+    public ProductPageRequest(String sort, String direction, Integer size, String pageToken) {
+        this(sort, direction, size, pageToken, null, null);
+    }
+}
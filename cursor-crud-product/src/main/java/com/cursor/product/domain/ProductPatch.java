@@ -0,0 +1,40 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * A partial product update decoded from a JSON Merge Patch document.
+ * <p>
+ * The new values are held in a {@link ProductDto} so the same Bean Validation rules
+ * apply, while {@code fields} records which properties the patch actually contained.
+ * Properties not listed in {@code fields} are left unchanged.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPatch {
+
+    /**
+     * Product properties that a patch may change.
+     */
+    public static final Set<String> PATCHABLE_FIELDS = Set.of("name", "description", "price");
+
+    /**
+     * The new values of the patched properties.
+     */
+    private ProductDto values;
+
+    /**
+     * Names of the properties present in the patch, a subset of {@link #PATCHABLE_FIELDS}.
+     */
+    private Set<String> fields;
+}
@@ -0,0 +1,37 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parameters for a full-text product search.
+ * <p>
+ * The values are kept as raw request values and are validated by the service layer.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchRequest {
+
+    /**
+     * Search text matched against product name and description. Supports quoted
+     * phrases, {@code -} to exclude a term and {@code *} as a suffix wildcard.
+     */
+    private String query;
+
+    /**
+     * Zero-based page number, or null for the first page.
+     */
+    private Integer page;
+
+    /**
+     * Requested page size. Values above the configured maximum are capped.
+     */
+    private Integer size;
+}
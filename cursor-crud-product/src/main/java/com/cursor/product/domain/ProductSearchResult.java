@@ -0,0 +1,47 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of full-text search results, most relevant first.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResult {
+
+    /**
+     * Matching products on this page, ordered by relevance.
+     */
+    private List<ProductDto> items;
+
+    /**
+     * Zero-based page number.
+     */
+    private int page;
+
+    /**
+     * Effective page size after capping.
+     */
+    private int size;
+
+    /**
+     * Number of matching products. Exact when {@code totalHitsExact} is true,
+     * otherwise a lower bound.
+     */
+    private long totalHits;
+
+    /**
+     * Whether {@code totalHits} was counted exactly. Counting stops early on very
+     * broad queries so their latency does not grow with the catalog.
+     */
+    private boolean totalHitsExact;
+}
@@ -0,0 +1,81 @@
+package com.cursor.product.domain;
+
+import com.cursor.product.exception.BadRequestException;
+
+import java.math.BigDecimal;
+
+/**
+ * Fields that the paged product list can be sorted by.
+ * <p>
+ * Each field is paired with the product id as a tie-breaker so that the
+ * (sort key, id) pair is unique and can be used as a keyset cursor.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ProductSortField {
+
+    /**
+     * Sort by product id only.
+     */
+    ID("id"),
+
+    /**
+     * Sort by product name, then id.
+     */
+    NAME("name"),
+
+    /**
+     * Sort by product price, then id.
+     */
+    PRICE("price");
+
+    private final String property;
+
+    ProductSortField(String property) {
+        this.property = property;
+    }
+
+    /**
+     * Returns the entity property backing this sort field.
+     *
+     * @return the JPA property name
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parses a cursor key that was previously rendered with {@link String#valueOf(Object)}.
+     *
+     * @param value the textual key
+     * @return the key converted to the property type
+     * @throws NumberFormatException if a numeric key cannot be parsed
+     */
+    public Object parseKey(String value) {
+        return switch (this) {
+            case ID -> Long.valueOf(value);
+            case NAME -> value;
+            case PRICE -> new BigDecimal(value);
+        };
+    }
+
+    /**
+     * Resolves a sort field from its request parameter value, ignoring case.
+     *
+     * @param value the request parameter value
+     * @return the matching sort field
+     * @throws BadRequestException if the value does not name a sortable field
+     */
+    public static ProductSortField fromParameter(String value) {
+        for (ProductSortField field : values()) {
+            if (field.property.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("Unsupported sort field: " + value
+                + " (expected one of id, name, price)");
+    }
+}
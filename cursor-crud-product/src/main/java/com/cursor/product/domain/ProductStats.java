@@ -0,0 +1,40 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Catalog-wide product statistics shown on the dashboard.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStats {
+
+    /**
+     * Number of products in the catalog.
+     */
+    private long totalProducts;
+
+    /**
+     * Sum of all product prices.
+     */
+    private BigDecimal totalValue;
+
+    /**
+     * The product with the highest price, or null when the catalog is empty.
+     */
+    private ProductDto mostExpensive;
+
+    /**
+     * The product with the lowest price, or null when the catalog is empty.
+     */
+    private ProductDto leastExpensive;
+}
@@ -0,0 +1,23 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of rebuilding the product search index from the database.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexRebuildResult {
+
+    /**
+     * Number of products written to the index.
+     */
+    private long indexed;
+}
@@ -0,0 +1,74 @@
+package com.cursor.product.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Current SQL diagnostics settings and counters, as reported by the sqldiagnostics
+ * actuator endpoint.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlDiagnosticsStatus {
+
+    /**
+     * Whether statistics are collected and statements are timed and logged.
+     */
+    private boolean enabled;
+
+    /**
+     * Execution time in milliseconds from which a statement is logged as slow.
+     */
+    private long slowQueryThresholdMs;
+
+    /**
+     * Fraction of the other statements logged in full.
+     */
+    private double sampleRate;
+
+    /**
+     * Statements logged as slow since startup.
+     */
+    private long slowStatements;
+
+    /**
+     * Statements logged by sampling since startup.
+     */
+    private long sampledStatements;
+
+    /**
+     * Queries executed since statistics were last enabled.
+     */
+    private long queryExecutions;
+
+    /**
+     * Execution time in milliseconds of the slowest query.
+     */
+    private long queryExecutionMaxTimeMs;
+
+    /**
+     * The slowest query, or null if none ran.
+     */
+    private String slowestQuery;
+
+    /**
+     * Entities loaded from the database.
+     */
+    private long entityLoads;
+
+    /**
+     * Session flushes.
+     */
+    private long flushes;
+
+    /**
+     * JDBC statements prepared.
+     */
+    private long preparedStatements;
+}
@@ -0,0 +1,35 @@
+package com.cursor.product.exception;
+
+/**
+ * Exception thrown when a request is syntactically valid but its parameters
+ * cannot be honoured.
+ * <p>
+ * This exception is typically thrown for malformed query parameters such as
+ * an unknown sort field or a page token that cannot be decoded.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new BadRequestException with the specified message.
+     *
+     * @param message the detail message explaining why the request was rejected
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new BadRequestException with the specified message and cause.
+     *
+     * @param message the detail message explaining why the request was rejected
+     * @param cause the cause of this exception
+     */
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
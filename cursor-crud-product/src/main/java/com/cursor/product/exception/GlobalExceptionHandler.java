@@ -2,13 +2,19 @@ package com.cursor.product.exception;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,8 +25,9 @@ import java.util.stream.Collectors;
  * Global exception handler for the application.
  * <p>
  * This class handles all exceptions thrown across the application and returns
- * standardized error responses. It handles ResourceNotFoundException, validation
- * exceptions, constraint violations, and general exceptions.
+ * standardized error responses. It handles ResourceNotFoundException, BadRequestException,
+ * failed preconditions, concurrent modifications, exhausted capacity, unreadable request bodies, validation
+ * exceptions, constraint violations, exceptions carrying their own status, and general exceptions.
  * </p>
  *
  * @author Cursor Product Team
@@ -50,6 +57,132 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles BadRequestException.
+     *
+     * @param ex the BadRequestException that was thrown
+     * @param request the web request that caused the exception
+     * @return ResponseEntity with ErrorResponse and HTTP status 400 (BAD_REQUEST)
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            BadRequestException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles PreconditionFailedException (If-Match did not match the current version).
+     *
+     * @param ex the PreconditionFailedException that was thrown
+     * @param request the web request that caused the exception
+     * @return ResponseEntity with ErrorResponse and HTTP status 412 (PRECONDITION_FAILED)
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles OptimisticLockingFailureException (an unconditional write lost a race
+     * with another writer).
+     *
+     * @param ex the OptimisticLockingFailureException that was thrown
+     * @param request the web request that caused the exception
+     * @return ResponseEntity with ErrorResponse and HTTP status 409 (CONFLICT)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "The product was modified concurrently, please retry",
+                request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles TooManyRequestsException, telling the client when to retry.
+     *
+     * @param ex the TooManyRequestsException that was thrown
+     * @param request the web request that caused the exception
+     * @return ResponseEntity with ErrorResponse, a Retry-After header and HTTP status 429 (TOO_MANY_REQUESTS)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        // Retry-After is in whole seconds; round up so clients never come back too early.
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles HttpMessageNotReadableException (malformed or unreadable request bodies).
+     *
+     * @param ex the HttpMessageNotReadableException that was thrown
+     * @param request the web request that caused the exception
+     * @return ResponseEntity with ErrorResponse and HTTP status 400 (BAD_REQUEST)
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Malformed Request",
+                "Request body is missing or malformed",
+                request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles MethodArgumentTypeMismatchException (a path variable or request parameter
+     * that cannot be converted, e.g. a non-numeric product id).
+     *
+     * @param ex the MethodArgumentTypeMismatchException that was thrown
+     * @param request the web request that caused the exception
+     * @return ResponseEntity with ErrorResponse and HTTP status 400 (BAD_REQUEST)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Invalid value '" + ex.getValue() + "' for parameter " + ex.getName(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles MethodArgumentNotValidException (validation errors from @Valid).
      *
@@ -106,6 +239,29 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles ResponseStatusException, keeping the status it carries, e.g. the 400 that
+     * actuator endpoints raise for invalid arguments.
+     *
+     * @param ex the ResponseStatusException that was thrown
+     * @param request the web request that caused the exception
+     * @return ResponseEntity with ErrorResponse and the status of the exception
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(
+            ResponseStatusException ex, WebRequest request) {
+        HttpStatusCode status = ex.getStatusCode();
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                resolved != null ? resolved.getReasonPhrase() : "Error",
+                ex.getReason(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
     /**
      * Handles all other unhandled exceptions.
      *
@@ -0,0 +1,36 @@
+package com.cursor.product.exception;
+
+/**
+ * Exception thrown when a conditional write does not match the current state
+ * of the resource.
+ * <p>
+ * This exception is typically thrown when the version in an If-Match header is
+ * no longer the current version of the product, either because it was stale when
+ * the request arrived or because another writer committed first.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Constructs a new PreconditionFailedException with the specified message.
+     *
+     * @param message the detail message explaining which precondition failed
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new PreconditionFailedException with the specified message and cause.
+     *
+     * @param message the detail message explaining which precondition failed
+     * @param cause the cause of this exception
+     */
+    public PreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
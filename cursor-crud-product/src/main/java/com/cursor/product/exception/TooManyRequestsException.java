@@ -0,0 +1,39 @@
+package com.cursor.product.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when the server cannot take on more work from the caller right now.
+ * <p>
+ * This exception is typically thrown when a bounded queue is full. It carries the time
+ * after which the caller should retry, which is returned as a Retry-After header.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new TooManyRequestsException with the specified message and retry delay.
+     *
+     * @param message the detail message explaining which limit was reached
+     * @param retryAfter how long the caller should wait before retrying
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns how long the caller should wait before retrying.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
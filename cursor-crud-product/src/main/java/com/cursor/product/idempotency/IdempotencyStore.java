@@ -0,0 +1,255 @@
+package com.cursor.product.idempotency;
+
+import com.cursor.product.config.IdempotencyProperties;
+import com.cursor.product.exception.BadRequestException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Remembers the outcome of requests carrying an Idempotency-Key, so that retries of a
+ * request get the first response again instead of repeating its side effects.
+ * <p>
+ * Keys are scoped by client, so two clients choosing the same key never see each other's
+ * results. Each key is stored with a fingerprint of its request. The first request with a key runs
+ * and its result is kept; a later request with the same key and fingerprint gets that
+ * result back, and one with a different fingerprint is rejected with 422. A request that
+ * arrives while the first one is still running waits for it rather than racing it, up to
+ * the wait timeout, after which it gets 409. A failed request is forgotten, so its retry
+ * runs again.
+ * </p>
+ * <p>
+ * Lookups are single hash map operations. Entries expire after the TTL, and the store is
+ * bounded by the approximate memory of its keys and results, so it stays small whatever
+ * the request rate. Outcomes are counted as {@code idempotency.requests} and the stored
+ * keys published as {@code idempotency.keys}, both tagged with the store name.
+ * </p>
+ *
+ * @param <T> the type of the stored results
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class IdempotencyStore<T> implements MeterBinder {
+
+    /**
+     * Name of the request header carrying the key.
+     */
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    /**
+     * Name of the response header marking a replayed response.
+     */
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    /**
+     * Estimated bytes of an entry besides its key and result: the map node, the entry,
+     * the future and the fingerprint.
+     */
+    private static final int ENTRY_OVERHEAD = 200;
+
+    private final String name;
+    private final Cache<ScopedKey, Entry> entries;
+    private final ToIntFunction<? super T> resultSize;
+    private final int maxKeyLength;
+    private final Duration waitTimeout;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * Creates the store.
+     *
+     * @param name the name of the store in metrics
+     * @param properties the TTL, memory and key limits
+     * @param resultSize estimates the bytes a result takes
+     */
+    public IdempotencyStore(String name, IdempotencyProperties properties, ToIntFunction<? super T> resultSize) {
+        this.name = name;
+        this.resultSize = resultSize;
+        this.maxKeyLength = properties.getMaxKeyLength();
+        this.waitTimeout = properties.getWaitTimeout();
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumWeight(properties.getMaxMemory().toBytes())
+                .weigher((ScopedKey key, Entry entry) -> 2 * (key.client().length() + key.key().length()) + entry.size)
+                .build();
+    }
+
+    /**
+     * Runs an action once per client and key, or returns the result of its first run.
+     *
+     * @param client the identity of the client sending the key
+     * @param key the Idempotency-Key sent by the client
+     * @param fingerprint the fingerprint of the request, see {@link #fingerprint(Object...)}
+     * @param action the action to run for the first request with the key
+     * @return the result of the action and whether it was replayed
+     * @throws BadRequestException if the key is blank or too long
+     * @throws ResponseStatusException with status 422 if the key was used for another
+     *         request, or 409 if the request using it is still running after the wait timeout
+     */
+    public Result<T> execute(String client, String key, byte[] fingerprint, Supplier<T> action) {
+        if (key.isBlank() || key.length() > maxKeyLength) {
+            throw new BadRequestException(IDEMPOTENCY_KEY + " must be 1 to " + maxKeyLength + " characters");
+        }
+        ScopedKey scopedKey = new ScopedKey(client, key);
+        Map<ScopedKey, Entry> map = entries.asMap();
+        while (true) {
+            Entry entry = new Entry(fingerprint);
+            Entry existing = map.putIfAbsent(scopedKey, entry);
+            if (existing == null) {
+                return new Result<>(run(map, scopedKey, entry, action), false);
+            }
+            if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                mismatched.increment();
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        IDEMPOTENCY_KEY + " was already used for a different request");
+            }
+            try {
+                T result = existing.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                replayed.increment();
+                return new Result<>(result, true);
+            } catch (ExecutionException ex) {
+                // The first request failed and was forgotten; run this one in its place.
+            } catch (TimeoutException ex) {
+                timedOut.increment();
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "A request with this " + IDEMPOTENCY_KEY + " is still in progress");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Interrupted while waiting for a request with this " + IDEMPOTENCY_KEY);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of stored keys, including those of requests still running.
+     *
+     * @return the approximate number of keys
+     */
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("idempotency.keys", entries, Cache::estimatedSize)
+                .description("Idempotency keys whose response is stored")
+                .tag("store", name)
+                .register(registry);
+        requests(registry, "executed", executed);
+        requests(registry, "replayed", replayed);
+        requests(registry, "mismatched", mismatched);
+        requests(registry, "timed-out", timedOut);
+    }
+
+    /**
+     * Computes the SHA-256 fingerprint of a request from its significant values. Decimals
+     * are compared by value, so 10.5 and 10.50 have the same fingerprint.
+     *
+     * @param values the values, any of which may be null
+     * @return the fingerprint
+     */
+    public static byte[] fingerprint(Object... values) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+        for (Object value : values) {
+            if (value == null) {
+                digest.update((byte) 0);
+                continue;
+            }
+            String text = value instanceof BigDecimal decimal
+                    ? decimal.stripTrailingZeros().toPlainString()
+                    : value.toString();
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            // Length-prefixed, so the boundaries between values are part of the fingerprint.
+            digest.update((byte) 1);
+            digest.update(new byte[]{(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+                    (byte) (bytes.length >>> 8), (byte) bytes.length});
+            digest.update(bytes);
+        }
+        return digest.digest();
+    }
+
+    private T run(Map<ScopedKey, Entry> map, ScopedKey key, Entry entry, Supplier<T> action) {
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error ex) {
+            map.remove(key, entry);
+            entry.result.completeExceptionally(ex);
+            throw ex;
+        }
+        entry.size = ENTRY_OVERHEAD + resultSize.applyAsInt(result);
+        entry.result.complete(result);
+        // Re-inserting the entry makes the cache weigh it again, now with its result.
+        map.replace(key, entry, entry);
+        executed.increment();
+        return result;
+    }
+
+    private void requests(MeterRegistry registry, String outcome, LongAdder count) {
+        FunctionCounter.builder("idempotency.requests", count, LongAdder::sum)
+                .description("Requests carrying an Idempotency-Key by outcome")
+                .tag("store", name)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * The result of {@link #execute(String, String, byte[], Supplier)}.
+     *
+     * @param value the result of the action
+     * @param replayed whether the value is the stored result of an earlier request
+     * @param <T> the type of the result
+     */
+    public record Result<T>(T value, boolean replayed) {
+    }
+
+    /**
+     * An Idempotency-Key in the scope of the client that sent it.
+     */
+    private record ScopedKey(String client, String key) {
+    }
+
+    /**
+     * A key's request fingerprint and the result of its first request, completed once
+     * that request has finished.
+     */
+    private final class Entry {
+
+        private final byte[] fingerprint;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile int size = ENTRY_OVERHEAD;
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
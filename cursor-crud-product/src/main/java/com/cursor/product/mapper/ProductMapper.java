@@ -3,6 +3,7 @@ package com.cursor.product.mapper;
 import com.cursor.product.domain.ProductDto;
 import com.cursor.product.model.Product;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
@@ -29,20 +30,25 @@ public interface ProductMapper {
     ProductDto toDto(Product product);
 
     /**
-     * Converts a ProductDto to a Product entity.
+     * Converts a ProductDto to a new Product entity.
+     * The id and version are server-managed and are not copied, so the entity is always
+     * persisted as a new row.
      *
      * @param productDto the ProductDto to convert
      * @return the converted Product entity
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product toEntity(ProductDto productDto);
 
     /**
      * Updates an existing Product entity with data from ProductDto.
-     * Null values in the DTO are ignored during update.
+     * Null values in the DTO are ignored during update, and the version is never copied.
      *
      * @param productDto the ProductDto containing updated data
      * @param product the Product entity to update (modified in place)
      */
+    @Mapping(target = "version", ignore = true)
     void updateEntity(ProductDto productDto, @MappingTarget Product product);
 }
 
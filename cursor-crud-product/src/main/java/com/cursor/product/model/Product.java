@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 
@@ -11,7 +12,9 @@ import java.math.BigDecimal;
  * Product entity class representing a product in the database.
  * <p>
  * This is a JPA entity that maps to the "products" table in the database.
- * It contains product information including id, name, description, and price.
+ * It contains product information including id, name, description, price, and version.
+ * The composite (name, id) and (price, id) indexes back keyset pagination on
+ * those sort keys.
  * </p>
  *
  * @author Cursor Product Team
@@ -19,7 +22,10 @@ import java.math.BigDecimal;
  * @since 1.0.0
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -54,5 +60,29 @@ public class Product {
      */
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal price;
+
+    /**
+     * Optimistic locking version, incremented by Hibernate on every update.
+     * Defaults to 0 in the schema so rows inserted outside JPA start versioned.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Constructs a Product without a version; Hibernate assigns it on persist.
+     *
+     * @param id the product id
+     * @param name the product name
+     * @param description the product description
+     * @param price the product price
+     */
+    public Product(Long id, String name, String description, BigDecimal price) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+    }
 }
 
@@ -0,0 +1,69 @@
+package com.cursor.product.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of a CSV product import, mapped to the "product_imports" table.
+ * <p>
+ * It is advanced in the same transaction as each chunk of inserted products, so
+ * {@code committedRows} is always exactly the number of CSV rows whose products are in
+ * the database, and an upload of the same file under the same import id resumes there.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "product_imports")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImport {
+
+    /**
+     * Client-chosen id of the import.
+     */
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    /**
+     * Number of data rows, counted from the first row after the header, that have been
+     * created or rejected and committed.
+     */
+    @Column(nullable = false)
+    private long committedRows;
+
+    /**
+     * Number of products created by the import.
+     */
+    @Column(nullable = false)
+    private long created;
+
+    /**
+     * Number of rows rejected by the import.
+     */
+    @Column(nullable = false)
+    private long rejected;
+
+    /**
+     * When the import was first started.
+     */
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * When the checkpoint was last advanced.
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,211 @@
+package com.cursor.product.ratelimit;
+
+import com.cursor.product.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets: one for reads, one for writes and one for bulk ingest writes.
+ * <p>
+ * Each bucket is a single timestamp, the time at which it would be full again, updated
+ * with compare-and-set (the virtual scheduling form of a token bucket). Taking a token
+ * moves the timestamp one token interval into the future; the request is refused when that
+ * would put it further ahead of now than the burst allows. No locks are taken, and a client
+ * costs three longs besides its map entry.
+ * </p>
+ * <p>
+ * Clients are dropped after the idle timeout, by which time their buckets have refilled,
+ * and the number of clients is capped as well. Decisions are counted as
+ * {@code ratelimit.requests}, tagged with the budget and the outcome, and the tracked
+ * clients are published as {@code ratelimit.clients}.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ClientRateLimiter implements MeterBinder {
+
+    private final Cache<String, ClientBuckets> clients;
+    private final LongSupplier nanoTime;
+    private final Limit read;
+    private final Limit write;
+    private final Limit ingest;
+
+    /**
+     * Creates the limiter.
+     *
+     * @param properties the budgets and client eviction settings
+     */
+    public ClientRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Creates the limiter with its own clock.
+     *
+     * @param properties the budgets and client eviction settings
+     * @param nanoTime the clock, in nanoseconds
+     */
+    public ClientRateLimiter(RateLimitProperties properties, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.read = new Limit(properties.getRead());
+        this.write = new Limit(properties.getWrite());
+        this.ingest = new Limit(properties.getIngest());
+        this.clients = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .maximumSize(properties.getMaxClients())
+                .ticker(nanoTime::getAsLong)
+                .build();
+    }
+
+    /**
+     * Takes a token from one of the client's buckets.
+     *
+     * @param client the client identity
+     * @param bucket the bucket the request counts against
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String client, Bucket bucket) {
+        long now = nanoTime.getAsLong();
+        ClientBuckets buckets = clients.get(client, key -> new ClientBuckets(now));
+        Limit limit = limit(bucket);
+        long wait = buckets.acquire(ClientBuckets.updater(bucket), now, limit);
+        (wait == 0 ? limit.allowed : limit.limited).increment();
+        return wait;
+    }
+
+    /**
+     * Returns the number of clients whose state is kept, after dropping idle ones.
+     *
+     * @return the number of clients
+     */
+    public long clientCount() {
+        clients.cleanUp();
+        return clients.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ratelimit.clients", clients, Cache::estimatedSize)
+                .description("Clients whose rate limit state is kept")
+                .register(registry);
+        for (Bucket bucket : Bucket.values()) {
+            requests(registry, bucket.name().toLowerCase(Locale.ROOT), limit(bucket));
+        }
+    }
+
+    private Limit limit(Bucket bucket) {
+        return switch (bucket) {
+            case READ -> read;
+            case WRITE -> write;
+            case INGEST -> ingest;
+        };
+    }
+
+    private static void requests(MeterRegistry registry, String budget, Limit limit) {
+        requests(registry, budget, "allowed", limit.allowed);
+        requests(registry, budget, "limited", limit.limited);
+    }
+
+    private static void requests(MeterRegistry registry, String budget, String outcome, LongAdder count) {
+        FunctionCounter.builder("ratelimit.requests", count, LongAdder::sum)
+                .description("Rate limited API requests by budget and outcome")
+                .tag("budget", budget)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * The buckets of a client, each with its own budget.
+     */
+    public enum Bucket {
+
+        /**
+         * GET, HEAD and OPTIONS requests.
+         */
+        READ,
+
+        /**
+         * All other requests, except those counted as {@link #INGEST}.
+         */
+        WRITE,
+
+        /**
+         * Writes to the bulk ingest and import endpoints, which take many products per
+         * client and are throttled by their own queue and chunk sizes as well.
+         */
+        INGEST
+    }
+
+    /**
+     * A budget converted to nanoseconds, with its decision counters.
+     */
+    private static final class Limit {
+
+        private final long interval;
+        private final long tolerance;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder limited = new LongAdder();
+
+        private Limit(RateLimitProperties.Budget budget) {
+            this.interval = Math.max(1, Math.round(1_000_000_000 / budget.getRatePerSecond()));
+            this.tolerance = interval * Math.max(1, budget.getBurst());
+        }
+    }
+
+    /**
+     * The buckets of one client, each the time at which it is full again.
+     */
+    private static final class ClientBuckets {
+
+        private static final AtomicLongFieldUpdater<ClientBuckets> READ =
+                AtomicLongFieldUpdater.newUpdater(ClientBuckets.class, "readFull");
+        private static final AtomicLongFieldUpdater<ClientBuckets> WRITE =
+                AtomicLongFieldUpdater.newUpdater(ClientBuckets.class, "writeFull");
+        private static final AtomicLongFieldUpdater<ClientBuckets> INGEST =
+                AtomicLongFieldUpdater.newUpdater(ClientBuckets.class, "ingestFull");
+
+        private volatile long readFull;
+        private volatile long writeFull;
+        private volatile long ingestFull;
+
+        private ClientBuckets(long now) {
+            this.readFull = now;
+            this.writeFull = now;
+            this.ingestFull = now;
+        }
+
+        private static AtomicLongFieldUpdater<ClientBuckets> updater(Bucket bucket) {
+            return switch (bucket) {
+                case READ -> READ;
+                case WRITE -> WRITE;
+                case INGEST -> INGEST;
+            };
+        }
+
+        private long acquire(AtomicLongFieldUpdater<ClientBuckets> bucket, long now, Limit limit) {
+            while (true) {
+                long full = bucket.get(this);
+                // An idle bucket is full; time before now does not add tokens beyond the burst.
+                long next = (full - now > 0 ? full : now) + limit.interval;
+                long ahead = next - now;
+                if (ahead > limit.tolerance) {
+                    return ahead - limit.tolerance;
+                }
+                if (bucket.compareAndSet(this, full, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.cursor.product.ratelimit;
+
+import com.cursor.product.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Identifies the client that sent a request, for the rate limits and other per-client state.
+ * <p>
+ * Only an identity the client cannot pick for itself is used: the authenticated user when
+ * the request has one, then the API key header if it carries one of the configured keys,
+ * and otherwise the IP address. An unknown API key is ignored, so sending a new key with
+ * every request does not make a client look like a new one.
+ * </p>
+ * <p>
+ * Behind a load balancer every request comes from the balancer's address. When that
+ * address is one of the configured trusted proxies, the client address is read from
+ * X-Forwarded-For instead: the right-most entry that is not itself a trusted proxy. The
+ * entries to its left were sent by the client and could be anything, so they are ignored.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class ClientResolver {
+
+    /**
+     * Header in which proxies append the address of the peer they received a request from.
+     */
+    public static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final Set<String> trustedProxies;
+
+    /**
+     * Creates the resolver.
+     *
+     * @param properties the API key header, the known API keys and the trusted proxies
+     */
+    public ClientResolver(RateLimitProperties properties) {
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.apiKeys = Set.copyOf(properties.getApiKeys());
+        this.trustedProxies = Set.copyOf(properties.getTrustedProxies());
+    }
+
+    /**
+     * Returns the identity of the client that sent a request.
+     *
+     * @param request the request
+     * @return {@code user:<name>}, {@code key:<API key>} or {@code ip:<address>}
+     */
+    public String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + clientAddress(request);
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address)) {
+            return address;
+        }
+        List<String> forwarded = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders(FORWARDED_FOR_HEADER))) {
+            for (String hop : header.split(",")) {
+                if (!hop.isBlank()) {
+                    forwarded.add(hop.strip());
+                }
+            }
+        }
+        for (int i = forwarded.size() - 1; i >= 0 && trustedProxies.contains(address); i--) {
+            address = forwarded.get(i);
+        }
+        return address;
+    }
+}
@@ -0,0 +1,68 @@
+package com.cursor.product.ratelimit;
+
+import com.cursor.product.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Applies the per-client rate limits before a request reaches its controller.
+ * <p>
+ * Clients are identified by the {@link ClientResolver}, so an unknown API key counts
+ * against the budget of the address it comes from. GET, HEAD and OPTIONS requests count
+ * against the read budget and all others against the interceptor's write bucket, which is
+ * the ingest budget for the bulk endpoints. A request over its budget is refused with a
+ * {@link TooManyRequestsException}, answered with 429 and the Retry-After header.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final ClientRateLimiter rateLimiter;
+    private final ClientResolver clientResolver;
+    private final ClientRateLimiter.Bucket writeBucket;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param rateLimiter the per-client buckets
+     * @param clientResolver identifies the client of a request
+     * @param writeBucket the bucket that requests other than GET, HEAD and OPTIONS count against
+     */
+    public RateLimitInterceptor(ClientRateLimiter rateLimiter, ClientResolver clientResolver,
+                                ClientRateLimiter.Bucket writeBucket) {
+        this.rateLimiter = rateLimiter;
+        this.clientResolver = clientResolver;
+        this.writeBucket = writeBucket;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ClientRateLimiter.Bucket bucket = isWrite(request.getMethod()) ? writeBucket : ClientRateLimiter.Bucket.READ;
+        long wait = rateLimiter.tryAcquire(clientResolver.resolve(request), bucket);
+        if (wait > 0) {
+            throw new TooManyRequestsException("Rate limit exceeded for " + description(bucket)
+                    + ", please retry later", Duration.ofNanos(wait));
+        }
+        return true;
+    }
+
+    private static String description(ClientRateLimiter.Bucket bucket) {
+        return switch (bucket) {
+            case READ -> "reads";
+            case WRITE -> "writes";
+            case INGEST -> "ingest writes";
+        };
+    }
+
+    private static boolean isWrite(String method) {
+        return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method));
+    }
+}
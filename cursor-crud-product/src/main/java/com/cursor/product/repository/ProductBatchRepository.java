@@ -0,0 +1,75 @@
+package com.cursor.product.repository;
+
+import com.cursor.product.model.Product;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for set-based product writes.
+ * <p>
+ * {@link ProductRepository} extends this interface; Spring Data wires in
+ * {@link ProductBatchRepositoryImpl} as the implementation.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ProductBatchRepository {
+
+    /**
+     * Inserts the given products with a single JDBC batch and assigns the
+     * database-generated ids back onto them.
+     * <p>
+     * Hibernate cannot batch inserts for IDENTITY-generated ids, so this goes
+     * straight to JDBC. It joins the surrounding transaction.
+     * </p>
+     *
+     * @param products the products to insert; their ids must be null
+     * @return the same products with ids populated
+     */
+    List<Product> insertAll(List<Product> products);
+
+    /**
+     * Deletes the products with the given ids in one statement, without loading them.
+     *
+     * @param ids the ids to delete; unknown ids are ignored
+     * @return the id and price of every row that was actually deleted
+     */
+    List<DeletedProduct> deleteAllByIdReturning(Collection<Long> ids);
+
+    /**
+     * Deletes at most {@code limit} products priced within the given inclusive range
+     * in one statement, without loading them.
+     *
+     * @param minPrice the lowest price to delete
+     * @param maxPrice the highest price to delete
+     * @param limit the maximum number of rows to delete
+     * @return the id and price of every row that was deleted
+     */
+    List<DeletedProduct> deleteByPriceBetweenReturning(BigDecimal minPrice, BigDecimal maxPrice, int limit);
+
+    /**
+     * Sets the given columns of one product and increments its version in a single
+     * {@code UPDATE}, without loading the entity first.
+     *
+     * @param id the id of the product to update
+     * @param columns new values by column name; only name, description and price are allowed
+     * @param expectedVersion if not null, the row is only updated while it is at this version
+     * @return the row as it was before the update, or empty if no row was updated
+     */
+    Optional<Product> updateColumnsReturningPrevious(Long id, Map<String, Object> columns, Long expectedVersion);
+
+    /**
+     * Key columns of a row removed by a set-based delete.
+     *
+     * @param id the id of the deleted product
+     * @param price the price the product had when it was deleted
+     */
+    record DeletedProduct(Long id, BigDecimal price) {
+    }
+}
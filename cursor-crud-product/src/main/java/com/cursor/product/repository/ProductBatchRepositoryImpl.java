@@ -0,0 +1,142 @@
+package com.cursor.product.repository;
+
+import com.cursor.product.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JDBC implementation of {@link ProductBatchRepository}.
+ * <p>
+ * Deletes and column updates use H2's data change delta tables
+ * ({@code OLD TABLE (DELETE ...)}, {@code OLD TABLE (UPDATE ...)}), which change and
+ * return the affected rows in a single statement.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ProductBatchRepositoryImpl implements ProductBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO products (name, description, price) VALUES (?, ?, ?)";
+
+    private static final String DELETE_BY_IDS_SQL =
+            "SELECT id, price FROM OLD TABLE (DELETE FROM products WHERE id = ANY(?))";
+
+    private static final String DELETE_BY_PRICE_SQL =
+            "SELECT id, price FROM OLD TABLE ("
+                    + "DELETE FROM products WHERE price BETWEEN ? AND ? FETCH FIRST ? ROWS ONLY)";
+
+    private static final Set<String> UPDATABLE_COLUMNS = Set.of("name", "description", "price");
+
+    private static final RowMapper<Product> PRODUCT_MAPPER = (rs, rowNum) -> {
+        Product product = new Product(rs.getLong("id"), rs.getString("name"),
+                rs.getString("description"), rs.getBigDecimal("price"));
+        product.setVersion(rs.getLong("version"));
+        return product;
+    };
+
+    private static final RowMapper<DeletedProduct> DELETED_PRODUCT_MAPPER =
+            (rs, rowNum) -> new DeletedProduct(rs.getLong("id"), rs.getBigDecimal("price"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return products;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Product product = products.get(i);
+                        ps.setString(1, product.getName());
+                        ps.setString(2, product.getDescription());
+                        ps.setBigDecimal(3, product.getPrice());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return products.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < products.size(); i++) {
+            products.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+        return products;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DeletedProduct> deleteAllByIdReturning(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_BY_IDS_SQL);
+            ps.setArray(1, connection.createArrayOf("BIGINT", ids.toArray()));
+            return ps;
+        }, DELETED_PRODUCT_MAPPER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DeletedProduct> deleteByPriceBetweenReturning(BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        return jdbcTemplate.query(DELETE_BY_PRICE_SQL, DELETED_PRODUCT_MAPPER, minPrice, maxPrice, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> updateColumnsReturningPrevious(Long id, Map<String, Object> columns, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, name, description, price, version FROM OLD TABLE (UPDATE products SET ");
+        List<Object> args = new ArrayList<>();
+        columns.forEach((column, value) -> {
+            // Column names are spliced into the SQL, so only known columns are accepted.
+            if (!UPDATABLE_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Column cannot be updated: " + column);
+            }
+            sql.append(column).append(" = ?, ");
+            args.add(value);
+        });
+        sql.append("version = version + 1 WHERE id = ?");
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        sql.append(')');
+        return jdbcTemplate.query(sql.toString(), PRODUCT_MAPPER, args.toArray()).stream().findFirst();
+    }
+}
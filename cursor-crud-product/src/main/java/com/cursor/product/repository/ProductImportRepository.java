@@ -0,0 +1,41 @@
+package com.cursor.product.repository;
+
+import com.cursor.product.model.ProductImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for ProductImport checkpoints.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ProductImportRepository extends JpaRepository<ProductImport, String> {
+
+    /**
+     * Moves a checkpoint forward, provided no other upload has moved it since it was read.
+     * Must run in the transaction that writes the rows it accounts for.
+     *
+     * @param id the import id
+     * @param expectedRows the committed rows the caller last saw
+     * @param committedRows the new number of committed rows
+     * @param created the number of products created since the last checkpoint
+     * @param rejected the number of rows rejected since the last checkpoint
+     * @param updatedAt the time of the update
+     * @return 1 if the checkpoint was advanced, 0 if it had moved
+     */
+    @Modifying
+    @Query("UPDATE ProductImport i SET i.committedRows = :committedRows, i.created = i.created + :created, "
+            + "i.rejected = i.rejected + :rejected, i.updatedAt = :updatedAt "
+            + "WHERE i.id = :id AND i.committedRows = :expectedRows")
+    int advance(@Param("id") String id, @Param("expectedRows") long expectedRows,
+                @Param("committedRows") long committedRows, @Param("created") long created,
+                @Param("rejected") long rejected, @Param("updatedAt") LocalDateTime updatedAt);
+}
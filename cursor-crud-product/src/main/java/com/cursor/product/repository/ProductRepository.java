@@ -1,14 +1,36 @@
 package com.cursor.product.repository;
 
+import com.cursor.product.domain.ProductDto;
 import com.cursor.product.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for Product entity.
  * <p>
  * This interface extends JpaRepository to provide CRUD operations
- * and standard query methods for Product entities.
+ * and standard query methods for Product entities, and ProductBatchRepository
+ * for JDBC batch inserts.
+ * </p>
+ * <p>
+ * Read-only list queries return {@link ProductDto} projections built directly from the
+ * selected columns, so no managed entities, dirty-checking snapshots or persistence context
+ * entries are created for them. The scrolling queries take the type to return, either
+ * {@link ProductDto} or {@link Product}; windows of DTOs cannot compute their own scroll
+ * positions, so callers build the next keyset from the last row's sort values.
  * </p>
  *
  * @author Cursor Product Team
@@ -16,6 +38,144 @@ import org.springframework.stereotype.Repository;
  * @since 1.0.0
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
-}
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductBatchRepository {
+
+    /**
+     * Number of rows the JDBC driver fetches per round trip when streaming.
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
+    /**
+     * JPQL selecting every product as a {@link ProductDto} through its constructor.
+     */
+    String SELECT_DTO = "select new com.cursor.product.domain.ProductDto(p.id, p.name, p.description, p.price, p.version)"
+            + " from Product p";
+
+    /**
+     * Finds all products as DTOs.
+     *
+     * @return every product, unordered
+     */
+    @Query(SELECT_DTO)
+    List<ProductDto> findAllAsDtos();
+
+    /**
+     * Scrolls through all products using the given position, sort and limit.
+     * <p>
+     * With a keyset position this issues a seek query
+     * ({@code WHERE (key, id) > (?, ?) ORDER BY key, id LIMIT n + 1}), so every
+     * page costs the same regardless of how deep it is.
+     * </p>
+     *
+     * @param position the scroll position to continue from
+     * @param sort the sort order; must end with a unique property
+     * @param limit the maximum number of products to return
+     * @param type the type to return, {@link ProductDto} to skip entity hydration
+     * @param <T> the returned type
+     * @return a window of products with a flag telling whether more rows follow
+     */
+    <T> Window<T> findAllBy(ScrollPosition position, Sort sort, Limit limit, Class<T> type);
+
+    /**
+     * Scrolls through products priced within an inclusive range.
+     * <p>
+     * Sorted by price this is a range scan over the (price, id) index that starts at
+     * the keyset position and stops after {@code limit + 1} rows.
+     * </p>
+     *
+     * @param minPrice the lowest price to include
+     * @param maxPrice the highest price to include
+     * @param position the scroll position to continue from
+     * @param sort the sort order; must end with a unique property
+     * @param limit the maximum number of products to return
+     * @param type the type to return, {@link ProductDto} to skip entity hydration
+     * @param <T> the returned type
+     * @return a window of products with a flag telling whether more rows follow
+     */
+    <T> Window<T> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice,
+                                     ScrollPosition position, Sort sort, Limit limit, Class<T> type);
 
+    /**
+     * Scrolls through products priced at or above a minimum.
+     *
+     * @param minPrice the lowest price to include
+     * @param position the scroll position to continue from
+     * @param sort the sort order; must end with a unique property
+     * @param limit the maximum number of products to return
+     * @param type the type to return, {@link ProductDto} to skip entity hydration
+     * @param <T> the returned type
+     * @return a window of products with a flag telling whether more rows follow
+     */
+    <T> Window<T> findByPriceGreaterThanEqual(BigDecimal minPrice, ScrollPosition position, Sort sort, Limit limit,
+                                              Class<T> type);
+
+    /**
+     * Scrolls through products priced at or below a maximum.
+     *
+     * @param maxPrice the highest price to include
+     * @param position the scroll position to continue from
+     * @param sort the sort order; must end with a unique property
+     * @param limit the maximum number of products to return
+     * @param type the type to return, {@link ProductDto} to skip entity hydration
+     * @param <T> the returned type
+     * @return a window of products with a flag telling whether more rows follow
+     */
+    <T> Window<T> findByPriceLessThanEqual(BigDecimal maxPrice, ScrollPosition position, Sort sort, Limit limit,
+                                           Class<T> type);
+
+    /**
+     * Streams all products as DTOs in id order over a forward-only cursor.
+     * <p>
+     * Rows are fetched {@value #STREAM_FETCH_SIZE} at a time instead of being
+     * materialized as a list, and nothing is kept in the persistence context, so heap
+     * use stays flat however many rows are read. Must be called inside a transaction
+     * and the stream must be closed by the caller.
+     * </p>
+     *
+     * @return a stream of all products ordered by id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SELECT_DTO + " order by p.id")
+    Stream<ProductDto> streamAllAsDtos();
+
+    /**
+     * Finds the cheapest product. Served by the (price, id) index without a table scan.
+     *
+     * @return the product with the lowest price, if any
+     */
+    Optional<Product> findFirstByOrderByPriceAscIdAsc();
+
+    /**
+     * Finds the most expensive product. Served by the (price, id) index without a table scan.
+     *
+     * @return the product with the highest price, if any
+     */
+    Optional<Product> findFirstByOrderByPriceDescIdDesc();
+
+    /**
+     * Computes the product count and price total with a single aggregate query.
+     * <p>
+     * This reads every row and is only meant for reconciliation, not for serving requests.
+     * </p>
+     *
+     * @return the count and sum of prices
+     */
+    @Query("select count(p) as count, coalesce(sum(p.price), 0) as sum from Product p")
+    ProductTotals computeTotals();
+
+    /**
+     * Projection for {@link #computeTotals()}.
+     */
+    interface ProductTotals {
+
+        /**
+         * @return the number of products
+         */
+        long getCount();
+
+        /**
+         * @return the sum of all product prices
+         */
+        BigDecimal getSum();
+    }
+}
@@ -0,0 +1,183 @@
+package com.cursor.product.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Stands in for database replication when the primary and the replicas are local H2 databases,
+ * so read/write routing can be tried and tested without a replicated database server.
+ * <p>
+ * Every interval the tables of the primary's {@code PUBLIC} schema are copied in full to each
+ * replica, each replica in one transaction, so readers of a replica see either the previous or
+ * the new copy. Replicas therefore lag the primary by up to one interval, much like
+ * asynchronous replication. A replica missing a table gets the primary's schema first.
+ * Copying everything is only practical for small development and test catalogs.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class H2ReplicationStandIn implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String TABLES_QUERY = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES"
+            + " WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME";
+
+    private final DataSource primary;
+    private final List<ReadReplica> replicas;
+
+    /**
+     * Creates the stand-in.
+     *
+     * @param primary the H2 database copied from
+     * @param replicas the H2 databases copied to
+     */
+    public H2ReplicationStandIn(DataSource primary, List<ReadReplica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    /**
+     * Makes the first copy once the schema and the initial data exist on the primary,
+     * before the application accepts requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try (Connection source = primary.getConnection()) {
+            String product = source.getMetaData().getDatabaseProductName();
+            if (!"H2".equals(product)) {
+                throw new IllegalStateException("The replication stand-in only supports H2, not " + product);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not connect to the primary database", ex);
+        }
+        replicate();
+    }
+
+    /**
+     * Copies the primary to every replica. A replica that cannot be written to is skipped
+     * until the next run.
+     */
+    @Scheduled(initialDelayString = "${product.datasource.routing.replication-stand-in.interval-ms:1000}",
+            fixedDelayString = "${product.datasource.routing.replication-stand-in.interval-ms:1000}")
+    public synchronized void replicate() {
+        try (Connection source = primary.getConnection()) {
+            List<String> tables = tables(source);
+            List<String> schema = null;
+            for (ReadReplica replica : replicas) {
+                try (Connection target = replica.getDataSource().getConnection()) {
+                    if (!tables(target).containsAll(tables)) {
+                        schema = schema != null ? schema : schema(source);
+                        createSchema(target, schema);
+                    }
+                    copy(source, target, tables);
+                } catch (SQLException ex) {
+                    log.warn("Replicating to {} failed: {}", replica.getName(), ex.getMessage());
+                }
+            }
+        } catch (SQLException ex) {
+            log.warn("Reading the primary for replication failed: {}", ex.getMessage());
+        }
+    }
+
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(TABLES_QUERY)) {
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Reads the DDL of the primary, without users, settings or data.
+     */
+    private static List<String> schema(Connection source) throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet resultSet = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS NOVERSION")) {
+            while (resultSet.next()) {
+                String sql = resultSet.getString(1);
+                if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    statements.add(sql);
+                }
+            }
+        }
+        return statements;
+    }
+
+    private static void createSchema(Connection target, List<String> schema) throws SQLException {
+        try (Statement statement = target.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : schema) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static void copy(Connection source, Connection target, List<String> tables) throws SQLException {
+        target.setAutoCommit(false);
+        try {
+            for (String table : tables) {
+                copyTable(source, target, table);
+            }
+            target.commit();
+        } catch (SQLException ex) {
+            target.rollback();
+            throw ex;
+        } finally {
+            target.setAutoCommit(true);
+        }
+    }
+
+    private static void copyTable(Connection source, Connection target, String table) throws SQLException {
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quote(table));
+        }
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + quote(table))) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            int columns = metaData.getColumnCount();
+            StringJoiner names = new StringJoiner(", ", "(", ")");
+            StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+            for (int i = 1; i <= columns; i++) {
+                names.add(quote(metaData.getColumnName(i)));
+                placeholders.add("?");
+            }
+            try (PreparedStatement insert = target.prepareStatement(
+                    "INSERT INTO " + quote(table) + " " + names + " VALUES " + placeholders)) {
+                int batched = 0;
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rows.getObject(i));
+                    }
+                    insert.addBatch();
+                    if (++batched % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,117 @@
+package com.cursor.product.routing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A read replica with its connection pool and last known health.
+ * <p>
+ * A replica counts as healthy until a health check or a connection attempt fails, and
+ * becomes healthy again with the next successful health check.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReadReplica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final LongAdder reads = new LongAdder();
+    private volatile boolean healthy = true;
+    private volatile Instant lastChecked;
+    private volatile String lastError;
+
+    /**
+     * Creates a replica.
+     *
+     * @param name the name used in logs, metrics and health details
+     * @param dataSource the connection pool of the replica
+     */
+    public ReadReplica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Borrows a connection for a read and counts the read.
+     *
+     * @return the connection
+     * @throws SQLException if the replica cannot hand out a connection
+     */
+    Connection getConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        reads.increment();
+        return connection;
+    }
+
+    /**
+     * Checks that the replica hands out a valid connection within the timeout.
+     *
+     * @param timeout how long the connection may take to validate
+     * @return whether the replica is healthy
+     */
+    public boolean checkHealth(Duration timeout) {
+        lastChecked = Instant.now();
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(Math.max(1, (int) timeout.toSeconds()))) {
+                markDown("Connection validation failed");
+                return false;
+            }
+        } catch (SQLException ex) {
+            markDown(ex.getMessage());
+            return false;
+        }
+        if (!healthy) {
+            log.info("Read replica {} is healthy again", name);
+        }
+        lastError = null;
+        healthy = true;
+        return true;
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful health check.
+     *
+     * @param error why the replica is unhealthy
+     */
+    void markDown(String error) {
+        if (healthy) {
+            log.warn("Read replica {} is unhealthy, its reads go elsewhere: {}", name, error);
+        }
+        lastError = error;
+        healthy = false;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public Instant getLastChecked() {
+        return lastChecked;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public long getReads() {
+        return reads.sum();
+    }
+}
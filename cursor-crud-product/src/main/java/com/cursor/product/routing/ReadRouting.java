@@ -0,0 +1,141 @@
+package com.cursor.product.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread control over where reads are routed: pins reads to the primary database, and
+ * records whether a read replica served a read.
+ * <p>
+ * Read-only transactions normally go to a read replica, which may lag behind the primary.
+ * Code that must see every committed write, or that would keep a stale result around for
+ * longer than the replica lag, runs its reads pinned to the primary instead. Pins nest, and
+ * they have no effect while read/write routing is disabled.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    private static final ThreadLocal<ReplicaReads> REPLICA_READS = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Returns whether reads of the current thread go to the primary.
+     *
+     * @return true while a pin is open on this thread
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /**
+     * Pins the reads of the current thread to the primary until the returned pin is closed.
+     *
+     * @return the pin, to be closed in a try-with-resources block
+     */
+    public static Pin pinToPrimary() {
+        Boolean previous = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PINNED_TO_PRIMARY.remove();
+            }
+        };
+    }
+
+    /**
+     * Runs a read pinned to the primary.
+     *
+     * @param read the read
+     * @param <T> the result type
+     * @return the result of the read
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        try (Pin ignored = pinToPrimary()) {
+            return read.get();
+        }
+    }
+
+    /**
+     * Wraps a task so that it runs pinned to the primary on whichever thread executes it.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    public static Runnable pinnedToPrimary(Runnable task) {
+        return () -> {
+            try (Pin ignored = pinToPrimary()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * Starts recording whether a replica serves any read of the current thread, for callers
+     * that have to know whether their result may lag behind the primary.
+     *
+     * @return the record, to be closed in a try-with-resources block
+     */
+    public static ReplicaReads trackReplicaReads() {
+        ReplicaReads reads = new ReplicaReads(REPLICA_READS.get());
+        REPLICA_READS.set(reads);
+        return reads;
+    }
+
+    /**
+     * Notes that a replica handed out a connection on the current thread.
+     */
+    static void replicaServedRead() {
+        ReplicaReads reads = REPLICA_READS.get();
+        if (reads != null) {
+            reads.any = true;
+        }
+    }
+
+    /**
+     * An open pin; closing it restores the routing that applied before it was opened.
+     */
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Records whether a replica served a read while it was open.
+     */
+    public static final class ReplicaReads implements AutoCloseable {
+
+        private final ReplicaReads enclosing;
+        private boolean any;
+
+        private ReplicaReads(ReplicaReads enclosing) {
+            this.enclosing = enclosing;
+        }
+
+        /**
+         * Returns whether a replica has served a read since the record was opened.
+         *
+         * @return true if a replica handed out a connection
+         */
+        public boolean any() {
+            return any;
+        }
+
+        @Override
+        public void close() {
+            if (enclosing == null) {
+                REPLICA_READS.remove();
+            } else {
+                enclosing.any |= any;
+                REPLICA_READS.set(enclosing);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.cursor.product.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Sends the reads of a client that has just written to the primary, so the client sees its
+ * own writes even while the replicas lag behind.
+ * <p>
+ * A request that may write sets the {@value #COOKIE} cookie to the time until which the
+ * client's reads should stay on the primary, and the whole request runs pinned to the primary.
+ * Later requests carrying an unexpired cookie are pinned as well. The cookie is set before
+ * the request is handled, because the response may be committed by then; a failed write
+ * therefore also pins the client for one window, which costs nothing but replica offload.
+ * Deadlines further away than one window are ignored, so a client cannot pin itself for good.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the cookie holding the epoch millisecond until which reads go to the primary.
+     */
+    public static final String COOKIE = "read-your-writes";
+
+    private static final Set<String> SAFE_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(),
+            HttpMethod.OPTIONS.name(), HttpMethod.TRACE.name());
+
+    private final Duration window;
+    private final Clock clock;
+
+    /**
+     * Creates the filter.
+     *
+     * @param window how long after a write the client's reads go to the primary
+     * @param clock the clock deadlines are measured with
+     */
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return window.isZero() || window.isNegative();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            response.addCookie(cookie(request, now + window.toMillis()));
+        }
+        if (!write && !withinWindow(request, now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (ReadRouting.Pin ignored = ReadRouting.pinToPrimary()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private boolean withinWindow(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    long deadline = Long.parseLong(cookie.getValue());
+                    return deadline > now && deadline <= now + window.toMillis();
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Cookie cookie(HttpServletRequest request, long deadline) {
+        Cookie cookie = new Cookie(COOKIE, Long.toString(deadline));
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds() + 1));
+        cookie.setHttpOnly(true);
+        return cookie;
+    }
+}
@@ -0,0 +1,53 @@
+package com.cursor.product.routing;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports the last health check of every read replica.
+ * <p>
+ * The indicator stays UP while replicas are down, since their reads fail over to the
+ * primary and the application keeps working; alert on {@code datasource.replica.healthy}
+ * instead. It does not connect to the replicas itself, so probing it is cheap.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ReplicaHealthIndicator extends AbstractHealthIndicator {
+
+    private final ReplicaRouter router;
+
+    /**
+     * Creates the indicator.
+     *
+     * @param router the router whose replicas are reported
+     */
+    public ReplicaHealthIndicator(ReplicaRouter router) {
+        super("Read replica health check failed");
+        this.router = router;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        long healthy = 0;
+        for (ReadReplica replica : router.getReplicas()) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("status", replica.isHealthy() ? "UP" : "DOWN");
+            details.put("lastChecked", replica.getLastChecked());
+            if (replica.getLastError() != null) {
+                details.put("error", replica.getLastError());
+            }
+            details.put("reads", replica.getReads());
+            builder.withDetail(replica.getName(), details);
+            if (replica.isHealthy()) {
+                healthy++;
+            }
+        }
+        builder.up().withDetail("healthy", healthy).withDetail("configured", router.getReplicas().size());
+    }
+}
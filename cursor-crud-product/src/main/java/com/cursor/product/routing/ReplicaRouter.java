@@ -0,0 +1,218 @@
+package com.cursor.product.routing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Decides which database serves each connection: read-only transactions go to a healthy
+ * read replica, everything else to the primary.
+ * <p>
+ * Replicas are used round robin. A replica that fails a health check or cannot hand out a
+ * connection is skipped until its next successful health check, and its reads fail over to
+ * the other replicas and finally to the primary. Reads pinned with {@link ReadRouting} go
+ * to the primary as well.
+ * </p>
+ * <p>
+ * Every routed connection is counted as {@code datasource.routing.connections}, tagged with
+ * the target and the reason, and the health of each replica is published as
+ * {@code datasource.replica.healthy}.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaRouter implements MeterBinder, AutoCloseable {
+
+    /**
+     * Name of the primary in logs, metrics and health details.
+     */
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<ReadReplica> replicas;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<PrimaryReason, LongAdder> primaryConnections = new EnumMap<>(PrimaryReason.class);
+
+    /**
+     * Creates the router.
+     *
+     * @param primary the primary data source, which serves all writes
+     * @param replicas the read replicas, possibly none
+     * @param healthCheckTimeout how long a replica may take to prove it is healthy
+     */
+    public ReplicaRouter(DataSource primary, List<ReadReplica> replicas, Duration healthCheckTimeout) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthCheckTimeout = healthCheckTimeout;
+        for (PrimaryReason reason : PrimaryReason.values()) {
+            primaryConnections.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * Borrows a connection from the database that should serve the current transaction.
+     *
+     * @return the connection
+     * @throws SQLException if the primary cannot hand out a connection
+     */
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primaryConnection(PrimaryReason.READ_WRITE);
+        }
+        if (ReadRouting.isPinnedToPrimary()) {
+            return primaryConnection(PrimaryReason.PINNED);
+        }
+        boolean failedOver = false;
+        for (ReadReplica replica = selectReplica(); replica != null; replica = selectReplica()) {
+            try {
+                Connection connection = replica.getConnection();
+                ReadRouting.replicaServedRead();
+                return connection;
+            } catch (SQLException ex) {
+                replica.markDown(ex.getMessage());
+                failedOver = true;
+            }
+        }
+        return primaryConnection(failedOver ? PrimaryReason.FAILOVER : PrimaryReason.NO_REPLICA);
+    }
+
+    /**
+     * Checks every replica, taking failing ones out of rotation and returning recovered ones.
+     */
+    @Scheduled(fixedDelayString = "${product.datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (ReadReplica replica : replicas) {
+            replica.checkHealth(healthCheckTimeout);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        primaryConnections.forEach((reason, count) ->
+                routedConnections(registry, PRIMARY, reason.tag(), count, LongAdder::sum));
+        for (ReadReplica replica : replicas) {
+            routedConnections(registry, replica.getName(), "read-only", replica, ReadReplica::getReads);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("Whether the read replica is in rotation")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Closes the connection pools of the primary and the replicas.
+     */
+    @Override
+    public void close() {
+        closePool(primary);
+        replicas.forEach(replica -> closePool(replica.getDataSource()));
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Returns how many connections the primary served for a reason.
+     *
+     * @param reason the reason
+     * @return the number of connections
+     */
+    public long getPrimaryConnections(PrimaryReason reason) {
+        return primaryConnections.get(reason).sum();
+    }
+
+    private Connection primaryConnection(PrimaryReason reason) throws SQLException {
+        Connection connection = primary.getConnection();
+        primaryConnections.get(reason).increment();
+        return connection;
+    }
+
+    private ReadReplica selectReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReadReplica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static <T> void routedConnections(MeterRegistry registry, String target, String reason, T counted,
+                                              ToDoubleFunction<T> count) {
+        FunctionCounter.builder("datasource.routing.connections", counted, count)
+                .description("Connections handed out by read/write routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static void closePool(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                log.warn("Closing a connection pool failed", ex);
+            }
+        }
+    }
+
+    /**
+     * Why a connection went to the primary.
+     */
+    public enum PrimaryReason {
+
+        /**
+         * The transaction may write, or there is no transaction.
+         */
+        READ_WRITE,
+
+        /**
+         * A read-only transaction pinned to the primary.
+         */
+        PINNED,
+
+        /**
+         * A read-only transaction while no replica was healthy.
+         */
+        NO_REPLICA,
+
+        /**
+         * A read-only transaction whose replicas all failed to hand out a connection.
+         */
+        FAILOVER;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+}
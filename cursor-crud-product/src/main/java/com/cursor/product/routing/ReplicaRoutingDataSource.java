@@ -0,0 +1,59 @@
+package com.cursor.product.routing;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Data source whose connections come from the primary or a read replica, as decided by a
+ * {@link ReplicaRouter}.
+ * <p>
+ * The transaction manager borrows its connection before it marks the transaction read-only,
+ * so the routing data source has to sit behind a {@link LazyConnectionDataSourceProxy}: the
+ * proxy only asks for a physical connection at the first statement, when the read-only flag
+ * is known. {@link #lazy(ReplicaRouter)} creates that pair.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final ReplicaRouter router;
+
+    /**
+     * Creates the data source.
+     *
+     * @param router decides which database serves each connection
+     */
+    public ReplicaRoutingDataSource(ReplicaRouter router) {
+        this.router = router;
+    }
+
+    /**
+     * Creates a routing data source behind a lazy connection proxy.
+     *
+     * @param router decides which database serves each connection
+     * @return the data source for the application to use
+     */
+    public static LazyConnectionDataSourceProxy lazy(ReplicaRouter router) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(router));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return router.getConnection();
+    }
+
+    /**
+     * Not supported: the primary and the replicas use the credentials they were configured with.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Routed connections use the configured credentials");
+    }
+}
@@ -0,0 +1,34 @@
+package com.cursor.product.service;
+
+import com.cursor.product.domain.ProductImportResult;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for importing products from CSV files.
+ * <p>
+ * The file is parsed as it is read, validated row by row and inserted in fixed-size
+ * chunks, each committed in its own transaction together with the import's checkpoint.
+ * If an upload stops, uploading the same file again under the same import id skips the
+ * committed rows and continues with the next one.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ProductImportService {
+
+    /**
+     * Imports, or resumes importing, products from a UTF-8 CSV file with a header row
+     * naming at least the name, description and price columns. Other columns are ignored.
+     *
+     * @param importId the id under which progress is kept; letters, digits, '.', '_' and '-'
+     * @param csv the file contents; read to the end unless the upload stops early, not closed
+     * @return the summary, with status STOPPED if a malformed row, a read error or a
+     *         database failure ended the upload before the end of the file
+     * @throws com.cursor.product.exception.BadRequestException if the import id is invalid
+     *         or the header is missing or lacks a required column
+     */
+    ProductImportResult importCsv(String importId, InputStream csv);
+}
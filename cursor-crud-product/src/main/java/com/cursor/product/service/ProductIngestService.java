@@ -0,0 +1,40 @@
+package com.cursor.product.service;
+
+import com.cursor.product.domain.IngestJob;
+import com.cursor.product.domain.ProductDto;
+
+/**
+ * Service interface for asynchronous product ingestion.
+ * <p>
+ * Submitted products are queued and written by a background writer in batched
+ * transactions, so callers do not wait for a commit. Every accepted job ends up either
+ * persisted or failed, and its status can be looked up by id.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ProductIngestService {
+
+    /**
+     * Queues a validated product for creation. Its id, if any, is ignored.
+     *
+     * @param productDto the product to create
+     * @return the job, in status QUEUED
+     * @throws com.cursor.product.exception.TooManyRequestsException if the queue is full
+     * @throws org.springframework.web.server.ResponseStatusException with status 503 if
+     *         the service is shutting down
+     */
+    IngestJob submit(ProductDto productDto);
+
+    /**
+     * Retrieves the status of a job.
+     *
+     * @param jobId the id returned by {@link #submit(ProductDto)}
+     * @return the job
+     * @throws com.cursor.product.exception.ResourceNotFoundException if the job is unknown
+     *         or its status is no longer retained
+     */
+    IngestJob getJob(String jobId);
+}
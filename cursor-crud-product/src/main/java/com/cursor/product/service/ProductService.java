@@ -1,8 +1,19 @@
 package com.cursor.product.service;
 
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.BulkDeleteRequest;
+import com.cursor.product.domain.BulkDeleteResult;
 import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductPage;
+import com.cursor.product.domain.ProductPageRequest;
+import com.cursor.product.domain.ProductPatch;
+import com.cursor.product.domain.ProductSearchRequest;
+import com.cursor.product.domain.ProductSearchResult;
+import com.cursor.product.domain.ProductStats;
+import com.cursor.product.domain.SearchIndexRebuildResult;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Product business logic operations.
@@ -25,6 +36,21 @@ public interface ProductService {
      */
     ProductDto createProduct(ProductDto productDto);
 
+    /**
+     * Creates many products at once.
+     * <p>
+     * Every item is validated individually; valid items are inserted in JDBC batches,
+     * each batch in its own transaction, so one failing batch does not undo the others.
+     * Ids supplied in the request are ignored.
+     * </p>
+     *
+     * @param productDtos the products to create
+     * @return the number of created, rejected and failed items and the outcome of each
+     * @throws com.cursor.product.exception.BadRequestException if more items are
+     *         supplied than the configured maximum
+     */
+    BulkCreateResult createProducts(List<ProductDto> productDtos);
+
     /**
      * Retrieves a product by its unique identifier.
      *
@@ -41,15 +67,100 @@ public interface ProductService {
      */
     List<ProductDto> getAllProducts();
 
+    /**
+     * Retrieves one page of products using keyset (seek) pagination.
+     *
+     * @param request the sort, direction, page size and optional page token
+     * @return the requested page and a token for the next page, if any
+     * @throws com.cursor.product.exception.BadRequestException if the sort, direction,
+     *         size or page token is invalid
+     */
+    ProductPage getProductPage(ProductPageRequest request);
+
+    /**
+     * Retrieves catalog-wide statistics: product count, total value, and the most
+     * and least expensive products.
+     *
+     * @return the current catalog statistics
+     */
+    ProductStats getProductStats();
+
+    /**
+     * Returns an opaque catalog version that changes whenever any product write commits.
+     * <p>
+     * Read it before reading products: a response built afterwards is then never
+     * newer-than-labelled in a way that could hide a change.
+     * </p>
+     *
+     * @return the current catalog version
+     */
+    String getCatalogVersion();
+
+    /**
+     * Searches product names and descriptions, most relevant first.
+     * <p>
+     * Served from the embedded search index, which reflects committed writes after a
+     * short delay of at most {@code product.search.max-staleness}.
+     * </p>
+     *
+     * @param request the search text, page and page size
+     * @return the requested page of matching products
+     * @throws com.cursor.product.exception.BadRequestException if the query is blank or the page is out of range
+     */
+    ProductSearchResult searchProducts(ProductSearchRequest request);
+
+    /**
+     * Rebuilds the search index from the database, for example after a cold start
+     * with an empty or outdated index.
+     *
+     * @return the number of products indexed
+     */
+    SearchIndexRebuildResult rebuildSearchIndex();
+
+    /**
+     * Streams every product, in id order, to the given consumer.
+     * <p>
+     * Products are read over a database cursor and handed over one at a time,
+     * so memory use does not grow with the size of the catalog.
+     * </p>
+     *
+     * @param consumer receives each product DTO as it is read
+     */
+    void exportProducts(Consumer<ProductDto> consumer);
+
     /**
      * Updates an existing product.
+     * <p>
+     * When an expected version is given the update only succeeds if it is still the
+     * current version when the change is written, so concurrent writers never overwrite
+     * each other without noticing.
+     * </p>
      *
      * @param id the unique identifier of the product to update
      * @param productDto the product DTO containing updated information
+     * @param expectedVersion the version the caller based the update on, or null for an unconditional update
      * @return the updated product as a DTO
      * @throws com.cursor.product.exception.ResourceNotFoundException if product is not found
+     * @throws com.cursor.product.exception.PreconditionFailedException if the product is no longer at the expected version
      */
-    ProductDto updateProduct(Long id, ProductDto productDto);
+    ProductDto updateProduct(Long id, ProductDto productDto, Long expectedVersion);
+
+    /**
+     * Applies a partial update to an existing product.
+     * <p>
+     * Only the fields present in the patch are validated and written, with a single
+     * {@code UPDATE} that does not load the product first.
+     * </p>
+     *
+     * @param id the unique identifier of the product to patch
+     * @param patch the fields to change and their new values
+     * @param expectedVersion the version the caller based the patch on, or null for an unconditional patch
+     * @return the patched product as a DTO
+     * @throws com.cursor.product.exception.ResourceNotFoundException if product is not found
+     * @throws com.cursor.product.exception.PreconditionFailedException if the product is no longer at the expected version
+     * @throws jakarta.validation.ConstraintViolationException if a patched field is invalid
+     */
+    ProductDto patchProduct(Long id, ProductPatch patch, Long expectedVersion);
 
     /**
      * Deletes a product by its unique identifier.
@@ -58,5 +169,19 @@ public interface ProductService {
      * @throws com.cursor.product.exception.ResourceNotFoundException if product is not found
      */
     void deleteProduct(Long id);
+
+    /**
+     * Deletes products by id list or by inclusive price range.
+     * <p>
+     * Rows are removed with set-based statements in bounded chunks, each chunk in its
+     * own transaction, without loading any entities.
+     * </p>
+     *
+     * @param request the ids or price range to delete
+     * @return the number of products deleted
+     * @throws com.cursor.product.exception.BadRequestException if the criteria are
+     *         missing, ambiguous or invalid
+     */
+    BulkDeleteResult deleteProducts(BulkDeleteRequest request);
 }
 
@@ -0,0 +1,65 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.domain.ProductSortField;
+import com.cursor.product.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for the paged product list.
+ * <p>
+ * A token records the sort field and direction it was issued for together with
+ * the (sort key, id) pair of the last row on the page. It is rendered as
+ * URL-safe Base64 so clients treat it as an opaque string.
+ * </p>
+ *
+ * @param sortField the field the page was sorted by
+ * @param direction the sort direction
+ * @param lastId the id of the last row on the page
+ * @param lastKey the sort key of the last row on the page
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+record PageToken(ProductSortField sortField, Sort.Direction direction, Long lastId, Object lastKey) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the URL-safe token
+     */
+    String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortField.name(), direction.name(),
+                String.valueOf(lastId), String.valueOf(lastKey));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque token
+     * @return the decoded cursor
+     * @throws BadRequestException if the token is malformed
+     */
+    static PageToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort key goes last so that names containing the separator survive the split.
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid page token");
+            }
+            ProductSortField field = ProductSortField.valueOf(parts[1]);
+            return new PageToken(field, Sort.Direction.valueOf(parts[2]),
+                    Long.valueOf(parts[3]), field.parseKey(parts[4]));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid page token", ex);
+        }
+    }
+}
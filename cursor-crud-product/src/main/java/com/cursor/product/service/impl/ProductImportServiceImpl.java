@@ -0,0 +1,389 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.config.ImportProperties;
+import com.cursor.product.domain.ImportRejectedRow;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductImportResult;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.model.Product;
+import com.cursor.product.model.ProductImport;
+import com.cursor.product.repository.ProductImportRepository;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.service.ProductImportService;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Implementation of the ProductImportService interface.
+ * <p>
+ * Rows are pulled one at a time from Jackson's streaming CSV parser, so memory use is
+ * bounded by the chunk size rather than the file size. Every chunk of rows is committed in
+ * one transaction: its valid products in a single JDBC batch, with the statistics and search
+ * index following as they do for bulk creates, and the import's checkpoint moved past its
+ * last row. A chunk whose batch violates a database constraint is retried row by row, and
+ * the offending rows are rejected. Any other database failure, a malformed row or a read
+ * error stops the upload after the last committed chunk.
+ * </p>
+ * <p>
+ * The checkpoint is only advanced from the position the upload started from, so two
+ * uploads of the same import cannot both write a chunk. Created and rejected rows are
+ * counted in {@code product.import.rows}, tagged with the outcome.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService, MeterBinder {
+
+    private static final Pattern IMPORT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private static final List<String> COLUMNS = List.of("name", "description", "price");
+    private static final int NAME = 0;
+    private static final int DESCRIPTION = 1;
+    private static final int PRICE = 2;
+
+    private static final ObjectReader CSV_READER = CsvMapper.builder()
+            .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build()
+            .readerFor(String[].class);
+
+    private final ProductRepository productRepository;
+    private final ProductImportRepository productImportRepository;
+    private final ProductMapper productMapper;
+    private final ProductStatsTracker productStatsTracker;
+    private final ProductSearchIndex productSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ImportProperties importProperties;
+
+    private final LongAdder createdRows = new LongAdder();
+    private final LongAdder rejectedRows = new LongAdder();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProductImportResult importCsv(String importId, InputStream csv) {
+        if (importId == null || !IMPORT_ID.matcher(importId).matches()) {
+            throw new BadRequestException("Import id must be 1 to 64 letters, digits, '.', '_' or '-'");
+        }
+        long started = System.nanoTime();
+        ImportRun run;
+        String error;
+        try (MappingIterator<String[]> records = CSV_READER.readValues(csv)) {
+            int[] columns = readHeader(records);
+            run = new ImportRun(checkpoint(importId));
+            error = readRows(run, records, columns);
+        } catch (IOException ex) {
+            // Reading the rows handles its own I/O errors; this is the header.
+            throw new BadRequestException("Cannot read the CSV header: " + ex.getMessage());
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        long rowsPerSecond = elapsedNanos > 0 ? Math.round(run.rowsRead * 1e9 / elapsedNanos) : 0;
+        ProductImportResult result = new ProductImportResult(importId,
+                error == null ? ProductImportResult.Status.COMPLETED : ProductImportResult.Status.STOPPED,
+                error, run.resumedFrom, run.rowsRead, run.committedRows, run.created, run.rejected,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond, run.reported);
+        if (error == null) {
+            log.info("Import {} completed: {} rows in {} ms ({} rows/s), {} created and {} rejected in total",
+                    importId, run.rowsRead, result.getElapsedMillis(), rowsPerSecond, run.created, run.rejected);
+        } else {
+            log.warn("Import {} stopped with {} rows committed: {}", importId, run.committedRows, error);
+        }
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        rows(registry, "created", createdRows);
+        rows(registry, "rejected", rejectedRows);
+    }
+
+    /**
+     * Reads the data rows after the header, committing a chunk whenever enough rows have
+     * accumulated and once more at the end.
+     *
+     * @return null if the whole file was imported, otherwise why the upload stopped
+     */
+    private String readRows(ImportRun run, MappingIterator<String[]> records, int[] columns) {
+        int chunkSize = Math.max(1, importProperties.getChunkSize());
+        long row = 0;
+        String error = null;
+        try {
+            try {
+                while (records.hasNextValue()) {
+                    String[] record = records.nextValue();
+                    row++;
+                    if (row <= run.resumedFrom) {
+                        continue;
+                    }
+                    run.rowsRead++;
+                    accept(run, row, record, columns);
+                    if (run.pending.size() + run.pendingRejections.size() == chunkSize) {
+                        commitChunk(run, row);
+                    }
+                }
+            } catch (IOException ex) {
+                error = "Stopped reading the CSV after row " + row + ": " + describe(ex);
+            }
+            // Rows read before a malformed row or a broken upload are still committed.
+            commitChunk(run, row);
+        } catch (DataAccessException | TransactionException ex) {
+            error = "Writing the rows after row " + run.committedRows + " failed: "
+                    + ex.getMostSpecificCause().getMessage();
+        }
+        return error;
+    }
+
+    private void accept(ImportRun run, long row, String[] record, int[] columns) {
+        List<String> errors = new ArrayList<>();
+        BigDecimal price = null;
+        String priceText = column(record, columns[PRICE]);
+        boolean priceParsed = true;
+        if (priceText != null && !priceText.isEmpty()) {
+            try {
+                price = new BigDecimal(priceText);
+            } catch (NumberFormatException ex) {
+                errors.add("price: must be a decimal number");
+                priceParsed = false;
+            }
+        }
+        ProductDto product = new ProductDto(null, column(record, columns[NAME]),
+                column(record, columns[DESCRIPTION]), price);
+        for (ConstraintViolation<ProductDto> violation : validator.validate(product)) {
+            String property = violation.getPropertyPath().toString();
+            if (priceParsed || !property.equals("price")) {
+                errors.add(property + ": " + violation.getMessage());
+            }
+        }
+        if (errors.isEmpty()) {
+            run.pending.add(new PendingRow(row, product));
+        } else {
+            errors.sort(null);
+            run.pendingRejections.add(new ImportRejectedRow(row, errors));
+        }
+    }
+
+    /**
+     * Commits the pending rows, through the given row, in one transaction. If the batch
+     * violates a database constraint, the rows are committed one by one instead, so only
+     * the offending rows are rejected.
+     */
+    private void commitChunk(ImportRun run, long throughRow) {
+        if (throughRow <= run.committedRows) {
+            return;
+        }
+        try {
+            commit(run, throughRow, run.pending, run.pendingRejections);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Chunk of import {} ending at row {} failed, retrying its rows one by one",
+                    run.importId, throughRow, ex);
+            commitRowByRow(run, throughRow);
+        }
+        run.pending.clear();
+        run.pendingRejections.clear();
+    }
+
+    private void commitRowByRow(ImportRun run, long throughRow) {
+        int nextRejection = 0;
+        for (PendingRow pending : run.pending) {
+            List<ImportRejectedRow> rejections = new ArrayList<>();
+            while (nextRejection < run.pendingRejections.size()
+                    && run.pendingRejections.get(nextRejection).getRow() < pending.row()) {
+                rejections.add(run.pendingRejections.get(nextRejection++));
+            }
+            try {
+                commit(run, pending.row(), List.of(pending), rejections);
+            } catch (DataIntegrityViolationException ex) {
+                rejections.add(new ImportRejectedRow(pending.row(),
+                        List.of("database: " + ex.getMostSpecificCause().getMessage())));
+                commit(run, pending.row(), List.of(), rejections);
+            }
+        }
+        commit(run, throughRow, List.of(),
+                run.pendingRejections.subList(nextRejection, run.pendingRejections.size()));
+    }
+
+    private void commit(ImportRun run, long throughRow, List<PendingRow> rows, List<ImportRejectedRow> rejections) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!rows.isEmpty()) {
+                List<Product> products = new ArrayList<>(rows.size());
+                for (PendingRow row : rows) {
+                    products.add(productMapper.toEntity(row.product()));
+                }
+                productRepository.insertAll(products).stream()
+                        .map(productMapper::toDto)
+                        .forEach(created -> {
+                            productStatsTracker.recordCreate(created);
+                            productSearchIndex.index(created);
+                        });
+            }
+            int advanced = productImportRepository.advance(run.importId, run.committedRows, throughRow,
+                    rows.size(), rejections.size(), LocalDateTime.now());
+            if (advanced == 0) {
+                throw new OptimisticLockingFailureException(
+                        "Import " + run.importId + " was advanced by another upload");
+            }
+        });
+        run.committed(throughRow, rows.size(), rejections);
+    }
+
+    /**
+     * Loads the checkpoint of an import, creating it on the first upload.
+     */
+    private ProductImport checkpoint(String importId) {
+        return productImportRepository.findById(importId).orElseGet(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                return productImportRepository.saveAndFlush(new ProductImport(importId, 0, 0, 0, now, now));
+            } catch (DataIntegrityViolationException ex) {
+                // Another upload of the same import created it first.
+                return productImportRepository.findById(importId).orElseThrow(() -> ex);
+            }
+        });
+    }
+
+    /**
+     * Finds the required columns in the header row.
+     *
+     * @return the position of the name, description and price columns
+     */
+    private static int[] readHeader(MappingIterator<String[]> records) throws IOException {
+        if (!records.hasNextValue()) {
+            throw new BadRequestException("CSV is empty; expected a header row with the columns "
+                    + String.join(", ", COLUMNS));
+        }
+        String[] header = records.nextValue();
+        int[] columns = new int[COLUMNS.size()];
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i].replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            int column = COLUMNS.indexOf(name);
+            if (column >= 0 && columns[column] < 0) {
+                columns[column] = i;
+            }
+        }
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] < 0) {
+                missing.add(COLUMNS.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("CSV header is missing the columns " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    /**
+     * Describes a read error: a parse error with its line in the file, an I/O error of the
+     * upload without the wrapping Jackson adds to it.
+     */
+    private static String describe(IOException ex) {
+        if (ex instanceof JsonMappingException && ex.getCause() instanceof IOException cause) {
+            return describe(cause);
+        }
+        if (ex instanceof JsonProcessingException processing) {
+            JsonLocation location = processing.getLocation();
+            return location != null && location.getLineNr() > 0
+                    ? processing.getOriginalMessage() + " (line " + location.getLineNr() + ")"
+                    : processing.getOriginalMessage();
+        }
+        return ex.getMessage();
+    }
+
+    private static String column(String[] record, int index) {
+        return index < record.length ? record[index] : null;
+    }
+
+    private static void rows(MeterRegistry registry, String outcome, LongAdder count) {
+        FunctionCounter.builder("product.import.rows", count, LongAdder::sum)
+                .description("Imported CSV rows by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * A valid row waiting for its chunk to be committed.
+     */
+    private record PendingRow(long row, ProductDto product) {
+    }
+
+    /**
+     * Progress of one upload: the committed position and totals, and the rows read since.
+     */
+    private final class ImportRun {
+
+        private final String importId;
+        private final long resumedFrom;
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final List<ImportRejectedRow> pendingRejections = new ArrayList<>();
+        private final List<ImportRejectedRow> reported = new ArrayList<>();
+        private long committedRows;
+        private long created;
+        private long rejected;
+        private long rowsRead;
+
+        private ImportRun(ProductImport checkpoint) {
+            this.importId = checkpoint.getId();
+            this.resumedFrom = checkpoint.getCommittedRows();
+            this.committedRows = checkpoint.getCommittedRows();
+            this.created = checkpoint.getCreated();
+            this.rejected = checkpoint.getRejected();
+        }
+
+        private void committed(long throughRow, int createdCount, List<ImportRejectedRow> rejections) {
+            committedRows = throughRow;
+            created += createdCount;
+            rejected += rejections.size();
+            createdRows.add(createdCount);
+            rejectedRows.add(rejections.size());
+            for (ImportRejectedRow rejection : rejections) {
+                if (reported.size() >= importProperties.getMaxReportedRejections()) {
+                    break;
+                }
+                reported.add(rejection);
+            }
+        }
+    }
+}
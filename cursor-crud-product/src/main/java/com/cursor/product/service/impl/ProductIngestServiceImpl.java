@@ -0,0 +1,321 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.config.BulkProperties;
+import com.cursor.product.config.IngestProperties;
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.BulkItemResult;
+import com.cursor.product.domain.IngestJob;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.ResourceNotFoundException;
+import com.cursor.product.exception.TooManyRequestsException;
+import com.cursor.product.service.ProductIngestService;
+import com.cursor.product.service.ProductService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of the ProductIngestService interface.
+ * <p>
+ * Accepted products wait in a bounded in-process queue. A single writer thread takes
+ * whatever has accumulated, up to the batch size, and creates it through
+ * {@link ProductService#createProducts(List)}, so a burst of callers shares a few JDBC
+ * batches and commits instead of paying for one each, and the statistics, catalog version
+ * and search index follow as they do for bulk creates. Jobs of a batch that fails are
+ * retried one by one, so a single bad product does not fail the others. A batch must fit
+ * in one bulk insert transaction, so that a failed batch has written nothing and its
+ * retries cannot create a product twice; the ingest batch size therefore may not exceed
+ * {@code product.bulk.batch-size}.
+ * </p>
+ * <p>
+ * The writer is started and stopped with the application context, after the web server
+ * has stopped taking requests. Stopping drains the queue; jobs still queued when the
+ * shutdown timeout runs out are marked failed. The queue lives in memory, so jobs that
+ * are queued when the process dies are lost together with their status.
+ * </p>
+ * <p>
+ * Queued jobs can always be looked up. Finished jobs are kept for the configured
+ * retention, up to a maximum number. The queue length is published as
+ * {@code product.ingest.queue.size} and the jobs by outcome as {@code product.ingest.jobs}.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class ProductIngestServiceImpl implements ProductIngestService, SmartLifecycle, MeterBinder {
+
+    private static final String SHUTDOWN_ERROR = "Shut down before the product was written";
+
+    private final ProductService productService;
+    private final IngestProperties ingestProperties;
+    private final BlockingQueue<PendingJob> queue;
+    private final Map<String, PendingJob> queued = new ConcurrentHashMap<>();
+    private final Cache<String, IngestJob> finished;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * Creates the service.
+     *
+     * @param productService the product service the writer creates products through
+     * @param ingestProperties the queue, batch and retention settings
+     * @param bulkProperties the bulk insert settings, whose batch size bounds the ingest batch size
+     * @throws IllegalStateException if the ingest batch size exceeds the bulk insert batch size
+     */
+    public ProductIngestServiceImpl(ProductService productService, IngestProperties ingestProperties,
+                                    BulkProperties bulkProperties) {
+        if (ingestProperties.getBatchSize() > bulkProperties.getBatchSize()) {
+            throw new IllegalStateException("product.ingest.batch-size (" + ingestProperties.getBatchSize()
+                    + ") must not exceed product.bulk.batch-size (" + bulkProperties.getBatchSize()
+                    + "), so that each ingest batch is written in one transaction");
+        }
+        this.productService = productService;
+        this.ingestProperties = ingestProperties;
+        this.queue = new ArrayBlockingQueue<>(ingestProperties.getQueueCapacity());
+        this.finished = Caffeine.newBuilder()
+                .expireAfterWrite(ingestProperties.getJobRetention())
+                .maximumSize(ingestProperties.getMaxRetainedJobs())
+                .build();
+    }
+
+    @Override
+    public IngestJob submit(ProductDto productDto) {
+        if (!accepting) {
+            throw shuttingDown();
+        }
+        ProductDto product = new ProductDto(null, productDto.getName(), productDto.getDescription(),
+                productDto.getPrice());
+        IngestJob job = new IngestJob(UUID.randomUUID().toString(), IngestJob.Status.QUEUED, null, null,
+                LocalDateTime.now(), null);
+        PendingJob pending = new PendingJob(job, product);
+        // Registered before it is queued, so the writer never finishes a job that cannot be looked up.
+        queued.put(job.getId(), pending);
+        if (!queue.offer(pending)) {
+            queued.remove(job.getId());
+            rejected.increment();
+            throw new TooManyRequestsException("Ingest queue is full, please retry later",
+                    ingestProperties.getRetryAfter());
+        }
+        // A shutdown that started meanwhile may have drained the queue already.
+        if (!accepting && queue.remove(pending)) {
+            queued.remove(job.getId());
+            throw shuttingDown();
+        }
+        accepted.increment();
+        return copy(job);
+    }
+
+    @Override
+    public IngestJob getJob(String jobId) {
+        PendingJob pending = queued.get(jobId);
+        if (pending != null) {
+            return copy(pending.job());
+        }
+        IngestJob job = finished.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Ingest job not found with id: " + jobId);
+        }
+        return copy(job);
+    }
+
+    /**
+     * Returns the number of jobs waiting for the writer.
+     *
+     * @return the queue length
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        accepting = true;
+        writer = new Thread(this::drain, "product-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        try {
+            writer.join(ingestProperties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingJob> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.error("Failing {} ingest jobs that were not written before shutdown: {}", remaining.size(),
+                    remaining.stream().map(pending -> pending.job().getId()).toList());
+            remaining.forEach(pending -> fail(pending, List.of(SHUTDOWN_ERROR)));
+        }
+        // A batch still being written keeps its jobs; they are recorded if its transaction completes.
+        writer.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, so requests still being served can queue their jobs,
+     * and before the data source is closed, so the queue can be drained.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("product.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Ingest jobs waiting for the background writer")
+                .register(registry);
+        jobs(registry, "accepted", accepted);
+        jobs(registry, "rejected", rejected);
+        jobs(registry, "persisted", persisted);
+        jobs(registry, "failed", failed);
+    }
+
+    /**
+     * Writer loop: takes the jobs that have accumulated, up to a batch, until the
+     * service is stopped and the queue is empty.
+     */
+    private void drain() {
+        int batchSize = Math.max(1, ingestProperties.getBatchSize());
+        List<PendingJob> batch = new ArrayList<>(batchSize);
+        while (true) {
+            PendingJob first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            if (first == null) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingJob> batch) {
+        BulkCreateResult result;
+        try {
+            result = productService.createProducts(batch.stream().map(PendingJob::product).toList());
+        } catch (RuntimeException ex) {
+            log.warn("Writing a batch of {} ingest jobs failed", batch.size(), ex);
+            if (batch.size() > 1) {
+                retryOneByOne(batch);
+            } else {
+                fail(batch.get(0), List.of(ex.getMessage() != null ? ex.getMessage() : ex.getClass().getName()));
+            }
+            return;
+        }
+        List<PendingJob> retries = new ArrayList<>();
+        for (BulkItemResult item : result.getItems()) {
+            PendingJob pending = batch.get(item.getIndex());
+            switch (item.getStatus()) {
+                case CREATED -> persist(pending, item.getId());
+                case REJECTED -> fail(pending, item.getErrors());
+                case FAILED -> {
+                    if (batch.size() > 1) {
+                        retries.add(pending);
+                    } else {
+                        fail(pending, item.getErrors());
+                    }
+                }
+            }
+        }
+        retryOneByOne(retries);
+    }
+
+    private void retryOneByOne(List<PendingJob> jobs) {
+        for (PendingJob pending : jobs) {
+            write(List.of(pending));
+        }
+    }
+
+    private void persist(PendingJob pending, Long productId) {
+        IngestJob job = copy(pending.job());
+        job.setStatus(IngestJob.Status.PERSISTED);
+        job.setProductId(productId);
+        finish(job);
+        persisted.increment();
+    }
+
+    private void fail(PendingJob pending, List<String> errors) {
+        IngestJob job = copy(pending.job());
+        job.setStatus(IngestJob.Status.FAILED);
+        job.setErrors(errors);
+        finish(job);
+        failed.increment();
+    }
+
+    private void finish(IngestJob job) {
+        job.setCompletedAt(LocalDateTime.now());
+        // Retained before it stops being queued, so lookups always find one or the other.
+        finished.put(job.getId(), job);
+        queued.remove(job.getId());
+    }
+
+    private static IngestJob copy(IngestJob job) {
+        return new IngestJob(job.getId(), job.getStatus(), job.getProductId(), job.getErrors(),
+                job.getSubmittedAt(), job.getCompletedAt());
+    }
+
+    private static ResponseStatusException shuttingDown() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Ingestion is shutting down");
+    }
+
+    private static void jobs(MeterRegistry registry, String outcome, LongAdder count) {
+        FunctionCounter.builder("product.ingest.jobs", count, LongAdder::sum)
+                .description("Ingest jobs by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * An accepted job and the product it creates.
+     */
+    private record PendingJob(IngestJob job, ProductDto product) {
+    }
+}
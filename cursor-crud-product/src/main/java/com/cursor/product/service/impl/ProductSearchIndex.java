@@ -0,0 +1,532 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.config.SearchProperties;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductSearchResult;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.routing.ReadRouting;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over product name and description.
+ * <p>
+ * Product writes are applied to the index after their transaction commits and become
+ * searchable within {@code product.search.max-staleness} through a near-real-time
+ * reader. Every product field needed for a result is stored in the index, so a search
+ * never touches the database. Queries collect only the top hits of the requested page
+ * and stop counting matches early, which keeps latency independent of catalog size.
+ * </p>
+ * <p>
+ * Changes from concurrent transactions can reach the index in a different order than they
+ * committed, so a change carrying an older version than the indexed one, or one for a
+ * product whose deletion is pending, is skipped. The indexed version is read from the
+ * product's document. Changes that searches cannot see yet are tracked on the side, and
+ * only until the next refresh makes them visible, so that bookkeeping is bounded by the
+ * writes of one refresh interval rather than by the catalog. A change delayed past the
+ * refresh that shows its product's deletion would re-add the product; the next rebuild
+ * drops it again.
+ * </p>
+ * <p>
+ * A rebuild re-indexes every product from the database and then drops documents it
+ * did not see, so searches keep working while it runs. Products deleted while it runs are
+ * deleted again once it has finished, since it may have read them before their deletion.
+ * </p>
+ * <p>
+ * With {@code product.search.enabled=false} no index is opened: writes are not indexed,
+ * and searches and rebuilds are refused with 503.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String DESCRIPTION = "description";
+    static final String PRICE = "price";
+    static final String VERSION = "version";
+    static final String GENERATION = "generation";
+
+    /**
+     * The only indexed text field. Name and description share one field so a query walks
+     * one posting list per term instead of one per field; the name is added twice, which
+     * ranks name matches above description-only matches.
+     */
+    static final String TEXT = "text";
+
+    /**
+     * Matches are counted exactly up to this many hits; beyond it only a lower bound is reported.
+     */
+    private static final int TOTAL_HITS_THRESHOLD = 1000;
+
+    /**
+     * Indexed version of a product without a document.
+     */
+    private static final long NOT_INDEXED = -1;
+
+    /**
+     * {@link #rebuildingGeneration} while no rebuild runs.
+     */
+    private static final long NOT_REBUILDING = -1;
+
+    private final ProductRepository productRepository;
+    private final SearchProperties searchProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Serializes rebuilds. A lock rather than {@code synchronized}, because a rebuild streams
+     * the whole catalog from the database and would otherwise pin a virtual thread's carrier.
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Index changes that searches may not see yet, by product. Index changes of a product
+     * are applied inside {@link ConcurrentHashMap#compute}, so they are serialized per
+     * product. An entry is dropped once a refresh has made its change visible, except that
+     * deletions made during a rebuild are kept until the rebuild has re-applied them.
+     */
+    private final ConcurrentHashMap<Long, PendingChange> pendingChanges = new ConcurrentHashMap<>();
+
+    /**
+     * The generation of the running rebuild, or {@link #NOT_REBUILDING}.
+     */
+    private volatile long rebuildingGeneration = NOT_REBUILDING;
+
+    /**
+     * Sequence number of the last index change the refresh in progress makes visible.
+     */
+    private volatile long refreshingSequenceNumber;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    /**
+     * Opens the index directory and starts the near-real-time reader.
+     *
+     * @throws IOException if the index cannot be opened
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        if (!searchProperties.isEnabled()) {
+            log.info("Product search is disabled");
+            return;
+        }
+        directory = isPersistent()
+                ? FSDirectory.open(Path.of(searchProperties.getIndexDir()))
+                : new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, new SearcherFactory());
+        searcherManager.addListener(new ReferenceManager.RefreshListener() {
+            @Override
+            public void beforeRefresh() {
+                refreshingSequenceNumber = writer.getMaxCompletedSequenceNumber();
+            }
+
+            @Override
+            public void afterRefresh(boolean didRefresh) {
+                dropVisibleChanges(refreshingSequenceNumber);
+            }
+        });
+        double maxStaleSec = Math.max(0.01, searchProperties.getMaxStaleness().toMillis() / 1000.0);
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSec, 0.0);
+        reopenThread.setName("product-search-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    /**
+     * Populates the index once the application, including data.sql, is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+        if (!isPersistent() || searchProperties.isRebuildOnStartup() || writer.getDocStats().numDocs == 0) {
+            long indexed = rebuild();
+            log.info("Built product search index with {} products", indexed);
+        }
+    }
+
+    /**
+     * Indexes a created or updated product once the current transaction commits.
+     *
+     * @param product the product as persisted
+     */
+    public void index(ProductDto product) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+        afterCommit(() -> update(product, generation.get()));
+    }
+
+    /**
+     * Removes a deleted product from the index once the current transaction commits.
+     *
+     * @param id the id of the deleted product
+     */
+    public void remove(Long id) {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+        afterCommit(() -> pendingChanges.compute(id, (key, pending) ->
+                PendingChange.deleted(delete(List.of(id)), generation.get())));
+    }
+
+    /**
+     * Searches name and description, ranking name matches above description-only matches.
+     *
+     * @param text the user's search text
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the requested page of results, most relevant first
+     * @throws ResponseStatusException with 503 if search is disabled
+     */
+    public ProductSearchResult search(String text, int page, int size) {
+        requireEnabled();
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, TEXT);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query query = parser.parse(text);
+        if (query == null) {
+            // Nothing searchable left after analysis, e.g. only stop words.
+            return new ProductSearchResult(List.of(), page, size, 0, true);
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query,
+                        TopScoreDocCollector.createSharedManager((page + 1) * size, null, TOTAL_HITS_THRESHOLD));
+                StoredFields storedFields = searcher.storedFields();
+                List<ProductDto> items = new ArrayList<>(size);
+                for (int i = page * size; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc hit = topDocs.scoreDocs[i];
+                    items.add(toProduct(storedFields.document(hit.doc)));
+                }
+                return new ProductSearchResult(items, page, size, topDocs.totalHits.value,
+                        topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Product search failed", ex);
+        }
+    }
+
+    /**
+     * Re-indexes every product from the database.
+     * <p>
+     * Products are re-added under a new generation, and documents still carrying an
+     * older generation afterwards, i.e. products that no longer exist, are deleted. So are
+     * products deleted while the rebuild ran, in case it re-added them.
+     * </p>
+     *
+     * @return the number of products indexed
+     * @throws ResponseStatusException with 503 if search is disabled
+     */
+    public long rebuild() {
+        requireEnabled();
+        rebuildLock.lock();
+        try {
+            long rebuildGeneration = generation.incrementAndGet();
+            rebuildingGeneration = rebuildGeneration;
+            TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+            // Read from the primary, or a lagging replica would drop recently indexed products.
+            Long indexed = ReadRouting.onPrimary(() -> readOnly.execute(status -> {
+                long count = 0;
+                try (Stream<ProductDto> products = productRepository.streamAllAsDtos()) {
+                    for (ProductDto product : (Iterable<ProductDto>) products::iterator) {
+                        update(product, rebuildGeneration);
+                        count++;
+                    }
+                }
+                return count;
+            }));
+            try {
+                writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+                List<Long> deletedDuringRebuild = pendingChanges.entrySet().stream()
+                        .filter(entry -> entry.getValue().isDeletedIn(rebuildGeneration))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                delete(deletedDuringRebuild);
+                writer.commit();
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Rebuilding the product search index failed", ex);
+            }
+            return indexed == null ? 0 : indexed;
+        } finally {
+            rebuildingGeneration = NOT_REBUILDING;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Makes all index changes applied so far visible to searches.
+     */
+    public void refresh() {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Refreshing the product search index failed", ex);
+        }
+    }
+
+    /**
+     * Commits pending index changes so an on-disk index survives a crash.
+     */
+    @Scheduled(initialDelayString = "${product.search.commit-interval-ms:60000}",
+            fixedDelayString = "${product.search.commit-interval-ms:60000}")
+    public void commit() {
+        if (!searchProperties.isEnabled() || !isPersistent() || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException ex) {
+            log.warn("Committing the product search index failed", ex);
+        }
+    }
+
+    /**
+     * Stops the reader thread and commits and closes the index.
+     *
+     * @throws IOException if the index cannot be closed cleanly
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        if (!searchProperties.isEnabled()) {
+            return;
+        }
+        reopenThread.close();
+        searcherManager.close();
+        if (isPersistent()) {
+            writer.commit();
+        }
+        writer.close();
+        directory.close();
+    }
+
+    private void requireEnabled() {
+        if (!searchProperties.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Product search is disabled");
+        }
+    }
+
+    private boolean isPersistent() {
+        return StringUtils.hasText(searchProperties.getIndexDir());
+    }
+
+    private void afterCommit(IndexChange change) {
+        Runnable apply = () -> {
+            try {
+                change.apply();
+            } catch (IOException | RuntimeException ex) {
+                // The write itself has committed; a rebuild brings the index back in line.
+                log.warn("Updating the product search index failed", ex);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * Adds or replaces the document of a product, unless a newer version of it has been
+     * indexed or its deletion is pending.
+     */
+    private void update(ProductDto product, long documentGeneration) {
+        pendingChanges.compute(product.getId(), (id, pending) -> {
+            if (pending != null && pending.deleted()) {
+                return pending;
+            }
+            try {
+                // The searcher shows every change that is no longer pending.
+                long current = pending != null ? pending.version() : indexedVersion(id);
+                if (product.getVersion() != null && product.getVersion() < current) {
+                    return pending;
+                }
+                long sequenceNumber = writer.updateDocument(idTerm(id), toDocument(product, documentGeneration));
+                long version = product.getVersion() != null ? product.getVersion() : Math.max(current, 0);
+                return PendingChange.updated(version, sequenceNumber);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Indexing product " + id + " failed", ex);
+            }
+        });
+    }
+
+    private long indexedVersion(Long id) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(new TermQuery(idTerm(id)), 1);
+            if (topDocs.scoreDocs.length == 0) {
+                return NOT_INDEXED;
+            }
+            Document document = searcher.storedFields().document(topDocs.scoreDocs[0].doc, Set.of(VERSION));
+            return document.getField(VERSION) != null ? document.getField(VERSION).numericValue().longValue() : 0;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Drops the pending changes a refresh has made visible, keeping deletions made during
+     * the running rebuild.
+     */
+    private void dropVisibleChanges(long visibleSequenceNumber) {
+        long rebuilding = rebuildingGeneration;
+        pendingChanges.values().removeIf(change -> change.sequenceNumber() <= visibleSequenceNumber
+                && !change.isDeletedIn(rebuilding));
+    }
+
+    /**
+     * Returns the number of index changes that searches may not see yet.
+     */
+    int pendingChangeCount() {
+        return pendingChanges.size();
+    }
+
+    private long delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return writer.getMaxCompletedSequenceNumber();
+        }
+        try {
+            return writer.deleteDocuments(ids.stream().map(ProductSearchIndex::idTerm).toArray(Term[]::new));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Removing products " + ids + " from the index failed", ex);
+        }
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, Long.toString(id));
+    }
+
+    private static Document toDocument(ProductDto product, long generation) {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(product.getId()), Field.Store.YES));
+        document.add(new StoredField(NAME, product.getName()));
+        document.add(new StoredField(DESCRIPTION, product.getDescription()));
+        document.add(new TextField(TEXT, product.getName(), Field.Store.NO));
+        document.add(new TextField(TEXT, product.getName(), Field.Store.NO));
+        document.add(new TextField(TEXT, product.getDescription(), Field.Store.NO));
+        document.add(new StoredField(PRICE, product.getPrice().toPlainString()));
+        if (product.getVersion() != null) {
+            document.add(new StoredField(VERSION, product.getVersion()));
+        }
+        document.add(new LongPoint(GENERATION, generation));
+        return document;
+    }
+
+    private static ProductDto toProduct(Document document) {
+        ProductDto product = new ProductDto(Long.valueOf(document.get(ID)), document.get(NAME),
+                document.get(DESCRIPTION), new BigDecimal(document.get(PRICE)));
+        if (document.getField(VERSION) != null) {
+            product.setVersion(document.getField(VERSION).numericValue().longValue());
+        }
+        return product;
+    }
+
+    @FunctionalInterface
+    private interface IndexChange {
+        void apply() throws IOException;
+    }
+
+    /**
+     * An index change of a product that searches may not see yet.
+     *
+     * @param version the version indexed, unused for a deletion
+     * @param deleted whether the product was deleted
+     * @param sequenceNumber the index writer's sequence number of the change
+     * @param deletedInGeneration the rebuild generation current when the product was
+     *        deleted, or {@link #NOT_REBUILDING} for an update
+     */
+    private record PendingChange(long version, boolean deleted, long sequenceNumber, long deletedInGeneration) {
+
+        static PendingChange updated(long version, long sequenceNumber) {
+            return new PendingChange(version, false, sequenceNumber, NOT_REBUILDING);
+        }
+
+        static PendingChange deleted(long sequenceNumber, long generation) {
+            return new PendingChange(Long.MAX_VALUE, true, sequenceNumber, generation);
+        }
+
+        boolean isDeletedIn(long generation) {
+            return deleted && generation != NOT_REBUILDING && deletedInGeneration == generation;
+        }
+    }
+}
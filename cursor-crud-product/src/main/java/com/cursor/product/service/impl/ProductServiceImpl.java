@@ -1,17 +1,61 @@
 package com.cursor.product.service.impl;
 
+import com.cursor.product.config.BulkProperties;
+import com.cursor.product.config.CacheConfig;
+import com.cursor.product.config.PaginationProperties;
+import com.cursor.product.config.SearchProperties;
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.BulkDeleteRequest;
+import com.cursor.product.domain.BulkDeleteResult;
+import com.cursor.product.domain.BulkItemResult;
 import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductPage;
+import com.cursor.product.domain.ProductPageRequest;
+import com.cursor.product.domain.ProductPatch;
+import com.cursor.product.domain.ProductSearchRequest;
+import com.cursor.product.domain.ProductSearchResult;
+import com.cursor.product.domain.ProductSortField;
+import com.cursor.product.domain.ProductStats;
+import com.cursor.product.domain.SearchIndexRebuildResult;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.exception.PreconditionFailedException;
 import com.cursor.product.exception.ResourceNotFoundException;
 import com.cursor.product.mapper.ProductMapper;
 import com.cursor.product.model.Product;
+import com.cursor.product.repository.ProductBatchRepository.DeletedProduct;
 import com.cursor.product.repository.ProductRepository;
 import com.cursor.product.service.ProductService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of ProductService interface.
@@ -19,6 +63,12 @@ import java.util.stream.Collectors;
  * This service class provides business logic for product operations including
  * CRUD operations. All methods are transactional.
  * </p>
+ * <p>
+ * Single-product reads go through the {@value CacheConfig#PRODUCTS_CACHE} cache.
+ * Updates and deletes evict the cached entry once their transaction has committed, so the
+ * next read loads the committed row. Updates do not put their result instead: the puts of
+ * two concurrent updates can be applied out of commit order and leave the older version cached.
+ * </p>
  *
  * @author Cursor Product Team
  * @version 1.0.0
@@ -31,6 +81,13 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final PaginationProperties paginationProperties;
+    private final ProductStatsTracker productStatsTracker;
+    private final BulkProperties bulkProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ProductSearchIndex productSearchIndex;
+    private final SearchProperties searchProperties;
 
     /**
      * {@inheritDoc}
@@ -39,7 +96,49 @@ public class ProductServiceImpl implements ProductService {
     public ProductDto createProduct(ProductDto productDto) {
         Product product = productMapper.toEntity(productDto);
         Product savedProduct = productRepository.save(product);
-        return productMapper.toDto(savedProduct);
+        ProductDto createdProduct = productMapper.toDto(savedProduct);
+        productStatsTracker.recordCreate(createdProduct);
+        productSearchIndex.index(createdProduct);
+        return createdProduct;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkCreateResult createProducts(List<ProductDto> productDtos) {
+        if (productDtos.size() > bulkProperties.getMaxItems()) {
+            throw new BadRequestException("Bulk request contains " + productDtos.size()
+                    + " items, the maximum is " + bulkProperties.getMaxItems());
+        }
+        int batchSize = Math.max(1, bulkProperties.getBatchSize());
+        BulkItemResult[] results = new BulkItemResult[productDtos.size()];
+        List<Integer> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < productDtos.size(); i++) {
+            List<String> errors = validateBulkItem(productDtos.get(i));
+            if (!errors.isEmpty()) {
+                results[i] = new BulkItemResult(i, BulkItemResult.Status.REJECTED, null, errors);
+                continue;
+            }
+            batch.add(i);
+            if (batch.size() == batchSize) {
+                insertBatch(productDtos, batch, results);
+                batch.clear();
+            }
+        }
+        insertBatch(productDtos, batch, results);
+
+        int created = 0;
+        int rejected = 0;
+        for (BulkItemResult result : results) {
+            if (result.getStatus() == BulkItemResult.Status.CREATED) {
+                created++;
+            } else if (result.getStatus() == BulkItemResult.Status.REJECTED) {
+                rejected++;
+            }
+        }
+        return new BulkCreateResult(created, rejected, results.length - created - rejected, Arrays.asList(results));
     }
 
     /**
@@ -47,6 +146,7 @@ public class ProductServiceImpl implements ProductService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id", sync = true)
     public ProductDto getProductById(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
@@ -59,32 +159,388 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public List<ProductDto> getAllProducts() {
-        return productRepository.findAll()
-                .stream()
-                .map(productMapper::toDto)
-                .collect(Collectors.toList());
+        return productRepository.findAllAsDtos();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public ProductDto updateProduct(Long id, ProductDto productDto) {
+    @Transactional(readOnly = true)
+    public ProductPage getProductPage(ProductPageRequest request) {
+        PageToken token = StringUtils.hasText(request.getPageToken())
+                ? PageToken.decode(request.getPageToken())
+                : null;
+        ProductSortField sortField = resolveSortField(request.getSort(), token);
+        Sort.Direction direction = resolveDirection(request.getDirection(), token);
+        if (token != null && (token.sortField() != sortField || token.direction() != direction)) {
+            throw new BadRequestException("Page token was issued for a different sort order");
+        }
+        int size = resolvePageSize(request.getSize());
+        BigDecimal minPrice = request.getMinPrice();
+        BigDecimal maxPrice = request.getMaxPrice();
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new BadRequestException("minPrice must not be greater than maxPrice");
+        }
+
+        ScrollPosition position = token == null
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(cursorKeys(sortField, token.lastKey(), token.lastId()));
+        Sort sort = keysetSort(sortField, direction);
+        Limit limit = Limit.of(size);
+        Window<ProductDto> window;
+        if (minPrice != null && maxPrice != null) {
+            window = productRepository.findByPriceBetween(minPrice, maxPrice, position, sort, limit, ProductDto.class);
+        } else if (minPrice != null) {
+            window = productRepository.findByPriceGreaterThanEqual(minPrice, position, sort, limit, ProductDto.class);
+        } else if (maxPrice != null) {
+            window = productRepository.findByPriceLessThanEqual(maxPrice, position, sort, limit, ProductDto.class);
+        } else {
+            window = productRepository.findAllBy(position, sort, limit, ProductDto.class);
+        }
+
+        List<ProductDto> items = window.getContent();
+        String nextPageToken = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            ProductDto last = items.get(items.size() - 1);
+            nextPageToken = new PageToken(sortField, direction, last.getId(), sortKey(sortField, last)).encode();
+        }
+        return new ProductPage(items, size, nextPageToken);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows are streamed as DTO projections, which the persistence context does not track,
+     * so nothing accumulates for the length of the export.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProducts(Consumer<ProductDto> consumer) {
+        try (Stream<ProductDto> products = productRepository.streamAllAsDtos()) {
+            products.forEach(consumer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public ProductDto updateProduct(Long id, ProductDto productDto, Long expectedVersion) {
         Product existingProduct = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existingProduct.getVersion())) {
+            throw new PreconditionFailedException("Product " + id + " is at version "
+                    + existingProduct.getVersion() + ", not " + expectedVersion);
+        }
+        BigDecimal previousPrice = existingProduct.getPrice();
         productMapper.updateEntity(productDto, existingProduct);
         Product updatedProduct = productRepository.save(existingProduct);
-        return productMapper.toDto(updatedProduct);
+        try {
+            // Flush now so the returned DTO carries the incremented version. The
+            // UPDATE is guarded by the version read above, so a writer that committed in between
+            // makes it fail here instead of being overwritten.
+            productRepository.flush();
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Product " + id + " was modified after version "
+                        + expectedVersion, ex);
+            }
+            throw ex;
+        }
+        ProductDto updatedDto = productMapper.toDto(updatedProduct);
+        productStatsTracker.recordUpdate(previousPrice, updatedDto);
+        productSearchIndex.index(updatedDto);
+        return updatedDto;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The row as it was before the update comes back from the same statement, which
+     * supplies the previous price for the statistics and the unchanged columns for the
+     * returned DTO. On a miss, the row is only looked up to tell 412 from 404.
+     * </p>
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public ProductDto patchProduct(Long id, ProductPatch patch, Long expectedVersion) {
+        ProductDto values = patch.getValues();
+        Set<ConstraintViolation<ProductDto>> violations = new LinkedHashSet<>();
+        Map<String, Object> columns = new LinkedHashMap<>();
+        for (String field : patch.getFields()) {
+            violations.addAll(validator.validateProperty(values, field));
+            switch (field) {
+                case "name" -> columns.put(field, values.getName());
+                case "description" -> columns.put(field, values.getDescription());
+                case "price" -> columns.put(field, values.getPrice());
+                default -> throw new BadRequestException("Field cannot be patched: " + field);
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        if (columns.isEmpty()) {
+            Product current = productRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new PreconditionFailedException("Product " + id + " is at version "
+                        + current.getVersion() + ", not " + expectedVersion);
+            }
+            return productMapper.toDto(current);
+        }
+
+        Product previous = productRepository.updateColumnsReturningPrevious(id, columns, expectedVersion)
+                .orElseThrow(() -> expectedVersion != null && productRepository.existsById(id)
+                        ? new PreconditionFailedException("Product " + id + " is no longer at version " + expectedVersion)
+                        : new ResourceNotFoundException("Product not found with id: " + id));
+        ProductDto patched = productMapper.toDto(previous);
+        if (columns.containsKey("name")) {
+            patched.setName(values.getName());
+        }
+        if (columns.containsKey("description")) {
+            patched.setDescription(values.getDescription());
+        }
+        if (columns.containsKey("price")) {
+            patched.setPrice(values.getPrice());
+        }
+        patched.setVersion(previous.getVersion() + 1);
+        productStatsTracker.recordUpdate(previous.getPrice(), patched);
+        productSearchIndex.index(patched);
+        return patched;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Issues a single {@code DELETE ... WHERE id = ?} and decides on 404 from the
+     * affected rows, without loading the entity first.
+     * </p>
      */
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
     public void deleteProduct(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
-        productRepository.delete(product);
+        List<DeletedProduct> deleted = productRepository.deleteAllByIdReturning(List.of(id));
+        if (deleted.isEmpty()) {
+            throw new ResourceNotFoundException("Product not found with id: " + id);
+        }
+        deleted.forEach(this::recordDelete);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole product cache is cleared afterwards, since a price range delete does not
+     * know up front which ids it will remove.
+     * </p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, allEntries = true)
+    public BulkDeleteResult deleteProducts(BulkDeleteRequest request) {
+        boolean byIds = request.getIds() != null;
+        boolean byPrice = request.getMinPrice() != null || request.getMaxPrice() != null;
+        if (byIds == byPrice) {
+            throw new BadRequestException("Specify either ids or minPrice and maxPrice");
+        }
+        int chunkSize = Math.max(1, bulkProperties.getBatchSize());
+        return new BulkDeleteResult(byIds
+                ? deleteByIds(request.getIds(), chunkSize)
+                : deleteByPriceRange(request.getMinPrice(), request.getMaxPrice(), chunkSize));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Served from incrementally maintained aggregates, so no transaction is started.
+     * </p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProductStats getProductStats() {
+        return productStatsTracker.getStats();
     }
-}
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getCatalogVersion() {
+        return productStatsTracker.catalogVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProductSearchResult searchProducts(ProductSearchRequest request) {
+        if (!StringUtils.hasText(request.getQuery())) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        int page = request.getPage() == null ? 0 : request.getPage();
+        if (page < 0) {
+            throw new BadRequestException("Page must not be negative");
+        }
+        int size = resolvePageSize(request.getSize());
+        if ((long) (page + 1) * size > searchProperties.getMaxResultWindow()) {
+            throw new BadRequestException("Search results are limited to the first "
+                    + searchProperties.getMaxResultWindow() + " matches; refine the query");
+        }
+        return productSearchIndex.search(request.getQuery(), page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SearchIndexRebuildResult rebuildSearchIndex() {
+        return new SearchIndexRebuildResult(productSearchIndex.rebuild());
+    }
+
+    private ProductSortField resolveSortField(String sort, PageToken token) {
+        if (!StringUtils.hasText(sort)) {
+            return token != null ? token.sortField() : ProductSortField.ID;
+        }
+        return ProductSortField.fromParameter(sort);
+    }
+
+    private Sort.Direction resolveDirection(String direction, PageToken token) {
+        if (!StringUtils.hasText(direction)) {
+            return token != null ? token.direction() : Sort.Direction.ASC;
+        }
+        return Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BadRequestException("Unsupported sort direction: " + direction
+                        + " (expected asc or desc)"));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return Math.min(paginationProperties.getDefaultPageSize(), paginationProperties.getMaxPageSize());
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Math.min(size, paginationProperties.getMaxPageSize());
+    }
+
+    /**
+     * Builds the (sort key, id) ordering; id breaks ties so the cursor is unique.
+     */
+    private static Sort keysetSort(ProductSortField sortField, Sort.Direction direction) {
+        if (sortField == ProductSortField.ID) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortField.getProperty(), "id");
+    }
+
+    private static Map<String, Object> cursorKeys(ProductSortField sortField, Object lastKey, Long lastId) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sortField != ProductSortField.ID) {
+            keys.put(sortField.getProperty(), lastKey);
+        }
+        keys.put("id", lastId);
+        return keys;
+    }
+
+    private static Object sortKey(ProductSortField sortField, ProductDto product) {
+        return switch (sortField) {
+            case ID -> product.getId();
+            case NAME -> product.getName();
+            case PRICE -> product.getPrice();
+        };
+    }
+
+    private List<String> validateBulkItem(ProductDto productDto) {
+        if (productDto == null) {
+            return List.of("item: must not be null");
+        }
+        return validator.validate(productDto).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Inserts one batch of validated items in its own transaction and records the outcome of each.
+     */
+    private void insertBatch(List<ProductDto> productDtos, List<Integer> indexes, BulkItemResult[] results) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        try {
+            List<ProductDto> created = transactionTemplate.execute(status -> {
+                List<Product> products = new ArrayList<>(indexes.size());
+                for (Integer index : indexes) {
+                    products.add(productMapper.toEntity(productDtos.get(index)));
+                }
+                List<ProductDto> createdDtos = productRepository.insertAll(products)
+                        .stream()
+                        .map(productMapper::toDto)
+                        .collect(Collectors.toList());
+                createdDtos.forEach(productStatsTracker::recordCreate);
+                createdDtos.forEach(productSearchIndex::index);
+                return createdDtos;
+            });
+            for (int k = 0; k < indexes.size(); k++) {
+                int index = indexes.get(k);
+                results[index] = new BulkItemResult(index, BulkItemResult.Status.CREATED, created.get(k).getId(), null);
+            }
+        } catch (DataAccessException | TransactionException ex) {
+            List<String> errors = List.of("batch: " + ex.getMostSpecificCause().getMessage());
+            for (Integer index : indexes) {
+                results[index] = new BulkItemResult(index, BulkItemResult.Status.FAILED, null, errors);
+            }
+        }
+    }
+
+    private long deleteByIds(List<Long> ids, int chunkSize) {
+        if (ids.size() > bulkProperties.getMaxItems()) {
+            throw new BadRequestException("Bulk delete contains " + ids.size()
+                    + " ids, the maximum is " + bulkProperties.getMaxItems());
+        }
+        long deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            deleted += deleteChunk(() -> productRepository.deleteAllByIdReturning(chunk));
+        }
+        return deleted;
+    }
+
+    private long deleteByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int chunkSize) {
+        if (minPrice == null || maxPrice == null) {
+            throw new BadRequestException("Both minPrice and maxPrice are required for a price range delete");
+        }
+        if (minPrice.compareTo(maxPrice) > 0) {
+            throw new BadRequestException("minPrice must not be greater than maxPrice");
+        }
+        long deleted = 0;
+        int removed;
+        do {
+            removed = deleteChunk(() -> productRepository.deleteByPriceBetweenReturning(minPrice, maxPrice, chunkSize));
+            deleted += removed;
+        } while (removed == chunkSize);
+        return deleted;
+    }
+
+    /**
+     * Runs one delete chunk in its own transaction and records the removed rows.
+     */
+    private int deleteChunk(Supplier<List<DeletedProduct>> delete) {
+        Integer removed = transactionTemplate.execute(status -> {
+            List<DeletedProduct> deleted = delete.get();
+            deleted.forEach(this::recordDelete);
+            return deleted.size();
+        });
+        return removed == null ? 0 : removed;
+    }
+
+    private void recordDelete(DeletedProduct deleted) {
+        productStatsTracker.recordDelete(deleted.id(), deleted.price());
+        productSearchIndex.remove(deleted.id());
+    }
+}
@@ -0,0 +1,278 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductStats;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.routing.ReadRouting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Incrementally maintained catalog statistics.
+ * <p>
+ * Count, price total, cheapest and most expensive product are kept in an immutable
+ * snapshot that product writes adjust after their transaction commits, so reading the
+ * statistics never scans the products table. When the current cheapest or most
+ * expensive product is deleted or moves away from the extreme, that side is marked
+ * stale and re-resolved on the next read through the (price, id) index.
+ * </p>
+ * <p>
+ * A scheduled reconciliation recomputes the aggregates from the database and replaces
+ * the snapshot if it has drifted.
+ * </p>
+ * <p>
+ * Because every committed product write passes through this tracker, it also keeps
+ * the catalog-wide change counter used for list ETags.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStatsTracker {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * Records a newly created product.
+     *
+     * @param created the product as persisted
+     */
+    public void recordCreate(ProductDto created) {
+        afterCommit(s -> s.withCreated(created));
+    }
+
+    /**
+     * Records a change to an existing product.
+     *
+     * @param previousPrice the price before the update
+     * @param updated the product as persisted after the update
+     */
+    public void recordUpdate(BigDecimal previousPrice, ProductDto updated) {
+        afterCommit(s -> s.withUpdated(previousPrice, updated));
+    }
+
+    /**
+     * Records the deletion of a product.
+     *
+     * @param id the id of the deleted product
+     * @param price the price of the deleted product
+     */
+    public void recordDelete(Long id, BigDecimal price) {
+        afterCommit(s -> s.withDeleted(id, price));
+    }
+
+    /**
+     * Returns the current statistics.
+     * <p>
+     * This is O(1) unless the cheapest or most expensive product has to be re-resolved,
+     * which is a single index lookup.
+     * </p>
+     *
+     * @return the catalog statistics
+     */
+    public ProductStats getStats() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = load();
+        }
+        if (current.minStale() || current.maxStale()) {
+            Snapshot resolved = current.withExtremes(
+                    current.minStale() ? cheapest() : current.min(),
+                    current.maxStale() ? mostExpensive() : current.max());
+            // If a write slipped in meanwhile, keep its snapshot; the next read resolves again.
+            snapshot.compareAndSet(current, resolved);
+            current = resolved;
+        }
+        return new ProductStats(current.count(), current.sum(), current.max(), current.min());
+    }
+
+    /**
+     * Returns an opaque token that changes whenever a product write commits.
+     * <p>
+     * The token includes a per-process epoch, so values issued before a restart never
+     * match values issued after it.
+     * </p>
+     *
+     * @return the current catalog version
+     */
+    public String catalogVersion() {
+        return epoch + "." + writeSequence.get();
+    }
+
+    /**
+     * Builds the initial snapshot once the application, including data.sql, is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        load();
+    }
+
+    /**
+     * Recomputes the aggregates from the products table and replaces the snapshot
+     * if it has drifted from the database.
+     */
+    @Scheduled(initialDelayString = "${product.stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${product.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long sequence = writeSequence.get();
+        Snapshot current = snapshot.get();
+        Snapshot fresh = readFromDatabase();
+        if (writeSequence.get() != sequence) {
+            log.debug("Skipping product stats reconciliation, writes committed while it ran");
+            return;
+        }
+        if (current == null || !current.sameAggregates(fresh)) {
+            if (current != null) {
+                log.warn("Product stats drifted from database, replacing {} with {}", current, fresh);
+            }
+            if (snapshot.compareAndSet(current, fresh) && current != null) {
+                // The stats representation changed without a write; invalidate catalog ETags.
+                writeSequence.incrementAndGet();
+            }
+        }
+    }
+
+    private Snapshot load() {
+        Snapshot fresh = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long sequence = writeSequence.get();
+            fresh = readFromDatabase();
+            if (writeSequence.get() == sequence) {
+                break;
+            }
+        }
+        // A write racing every attempt is corrected by the next reconciliation.
+        snapshot.compareAndSet(null, fresh);
+        return snapshot.get();
+    }
+
+    private Snapshot readFromDatabase() {
+        // A lagging read replica would make recent writes look like drift and undo them.
+        return ReadRouting.onPrimary(() -> {
+            ProductRepository.ProductTotals totals = productRepository.computeTotals();
+            return new Snapshot(totals.getCount(), totals.getSum(), cheapest(), mostExpensive(), false, false);
+        });
+    }
+
+    private ProductDto cheapest() {
+        return productRepository.findFirstByOrderByPriceAscIdAsc().map(productMapper::toDto).orElse(null);
+    }
+
+    private ProductDto mostExpensive() {
+        return productRepository.findFirstByOrderByPriceDescIdDesc().map(productMapper::toDto).orElse(null);
+    }
+
+    private void afterCommit(UnaryOperator<Snapshot> change) {
+        Runnable apply = () -> {
+            writeSequence.incrementAndGet();
+            snapshot.updateAndGet(s -> s == null ? null : change.apply(s));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * Immutable aggregate state. A stale side means the extreme product is unknown
+     * and must be looked up before it can be reported.
+     */
+    record Snapshot(long count, BigDecimal sum, ProductDto min, ProductDto max,
+                    boolean minStale, boolean maxStale) {
+
+        Snapshot withCreated(ProductDto created) {
+            BigDecimal price = created.getPrice();
+            boolean newMin = !minStale && (min == null || price.compareTo(min.getPrice()) < 0);
+            boolean newMax = !maxStale && (max == null || price.compareTo(max.getPrice()) > 0);
+            return new Snapshot(count + 1, sum.add(price),
+                    newMin ? created : min, newMax ? created : max, minStale, maxStale);
+        }
+
+        Snapshot withUpdated(BigDecimal previousPrice, ProductDto updated) {
+            BigDecimal price = updated.getPrice();
+            ProductDto nextMin = min;
+            boolean nextMinStale = minStale;
+            if (!minStale) {
+                if (isSameProduct(min, updated)) {
+                    // Still the cheapest only if the price did not go up.
+                    nextMinStale = price.compareTo(previousPrice) > 0;
+                    nextMin = nextMinStale ? null : updated;
+                } else if (min == null || price.compareTo(min.getPrice()) < 0) {
+                    nextMin = updated;
+                }
+            }
+            ProductDto nextMax = max;
+            boolean nextMaxStale = maxStale;
+            if (!maxStale) {
+                if (isSameProduct(max, updated)) {
+                    nextMaxStale = price.compareTo(previousPrice) < 0;
+                    nextMax = nextMaxStale ? null : updated;
+                } else if (max == null || price.compareTo(max.getPrice()) > 0) {
+                    nextMax = updated;
+                }
+            }
+            return new Snapshot(count, sum.add(price).subtract(previousPrice),
+                    nextMin, nextMax, nextMinStale, nextMaxStale);
+        }
+
+        Snapshot withDeleted(Long id, BigDecimal price) {
+            boolean minGone = min != null && Objects.equals(min.getId(), id);
+            boolean maxGone = max != null && Objects.equals(max.getId(), id);
+            return new Snapshot(count - 1, sum.subtract(price),
+                    minGone ? null : min, maxGone ? null : max,
+                    minStale || minGone, maxStale || maxGone);
+        }
+
+        Snapshot withExtremes(ProductDto newMin, ProductDto newMax) {
+            return new Snapshot(count, sum, newMin, newMax, false, false);
+        }
+
+        boolean sameAggregates(Snapshot other) {
+            return count == other.count
+                    && sum.compareTo(other.sum) == 0
+                    && (minStale || samePrice(min, other.min))
+                    && (maxStale || samePrice(max, other.max));
+        }
+
+        private static boolean isSameProduct(ProductDto current, ProductDto candidate) {
+            return current != null && Objects.equals(current.getId(), candidate.getId());
+        }
+
+        private static boolean samePrice(ProductDto a, ProductDto b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            return a.getPrice().compareTo(b.getPrice()) == 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.cursor.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Main application class for the reactive variant of the Product CRUD service.
+ * <p>
+ * Serves the core {@code /api/product} contract with WebFlux functional handlers and an
+ * R2DBC repository, so no thread is held while a database call is in flight. It always
+ * runs with the {@code reactive} profile, which selects the reactive web stack, the
+ * R2DBC database and port 9092, and can run side by side with the servlet application.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootApplication
+public class ReactiveProductApplication {
+
+    /**
+     * Name of the profile holding the reactive configuration.
+     */
+    public static final String PROFILE = "reactive";
+
+    /**
+     * Main method to start the reactive application.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveProductApplication.class)
+                .profiles(PROFILE)
+                .run(args);
+    }
+}
@@ -0,0 +1,30 @@
+package com.cursor.reactive.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class selecting Reactor Netty as the reactive web server.
+ * <p>
+ * Tomcat is on the classpath for the servlet application and would otherwise be
+ * preferred; Netty serves every connection from a small event-loop group.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class NettyServerConfig {
+
+    /**
+     * Creates the Netty server factory; port and other server properties are applied by Spring Boot.
+     *
+     * @return the server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
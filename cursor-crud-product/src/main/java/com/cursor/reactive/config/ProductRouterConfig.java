@@ -0,0 +1,41 @@
+package com.cursor.reactive.config;
+
+import com.cursor.reactive.handler.ReactiveExceptionHandler;
+import com.cursor.reactive.handler.ReactiveProductHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Configuration class routing the reactive {@code /api/product} endpoints to their handlers.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class ProductRouterConfig {
+
+    /**
+     * Creates the product routes.
+     *
+     * @param handler the product handler functions
+     * @param exceptionHandler maps handler errors to error responses
+     * @return the router function
+     */
+    @Bean
+    public RouterFunction<ServerResponse> productRoutes(ReactiveProductHandler handler,
+                                                        ReactiveExceptionHandler exceptionHandler) {
+        return RouterFunctions.route()
+                .POST("/api/product", handler::createProduct)
+                .GET("/api/product", handler::getAllProducts)
+                .GET("/api/product/export", handler::exportProducts)
+                .GET("/api/product/{id}", handler::getProductById)
+                .PUT("/api/product/{id}", handler::updateProduct)
+                .DELETE("/api/product/{id}", handler::deleteProduct)
+                .onError(Throwable.class, exceptionHandler::handle)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.cursor.reactive.handler;
+
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.exception.ErrorResponse;
+import com.cursor.product.exception.PreconditionFailedException;
+import com.cursor.product.exception.ResourceNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maps errors from the reactive product handlers to error responses.
+ * <p>
+ * Produces the same {@link ErrorResponse} bodies, statuses and messages as
+ * {@code GlobalExceptionHandler} does for the servlet API, so clients see one error
+ * shape whichever variant serves them.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class ReactiveExceptionHandler {
+
+    /**
+     * Builds the error response for an exception.
+     *
+     * @param ex the exception that was signalled
+     * @param request the request that caused the exception
+     * @return the error response
+     */
+    public Mono<ServerResponse> handle(Throwable ex, ServerRequest request) {
+        String path = request.path();
+        ErrorResponse errorResponse;
+        if (ex instanceof ResourceNotFoundException) {
+            errorResponse = error(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), path);
+        } else if (ex instanceof BadRequestException) {
+            errorResponse = error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), path);
+        } else if (ex instanceof PreconditionFailedException) {
+            errorResponse = error(HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage(), path);
+        } else if (ex instanceof OptimisticLockingFailureException) {
+            errorResponse = error(HttpStatus.CONFLICT, "Conflict",
+                    "The product was modified concurrently, please retry", path);
+        } else if (ex instanceof BindingResult bindingResult) {
+            errorResponse = error(HttpStatus.BAD_REQUEST, "Validation Failed", "Invalid input data", path);
+            errorResponse.setValidationErrors(bindingResult.getAllErrors().stream()
+                    .map(error -> ((FieldError) error).getField() + ": " + error.getDefaultMessage())
+                    .collect(Collectors.toList()));
+        } else if (ex instanceof ServerWebInputException || ex instanceof DecodingException) {
+            errorResponse = error(HttpStatus.BAD_REQUEST, "Malformed Request",
+                    "Request body is missing or not valid JSON", path);
+        } else if (ex instanceof ConstraintViolationException violations) {
+            errorResponse = error(HttpStatus.BAD_REQUEST, "Constraint Violation", "Validation failed", path);
+            List<String> errors = violations.getConstraintViolations().stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.toList());
+            errorResponse.setValidationErrors(errors);
+        } else {
+            errorResponse = error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", ex.getMessage(), path);
+        }
+        return ServerResponse.status(errorResponse.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(errorResponse);
+    }
+
+    private static ErrorResponse error(HttpStatus status, String error, String message, String path) {
+        return new ErrorResponse(LocalDateTime.now(), status.value(), error, message, path);
+    }
+}
@@ -0,0 +1,158 @@
+package com.cursor.reactive.handler;
+
+import com.cursor.product.controller.ProductController;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.reactive.service.ReactiveProductService;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux handler functions for the reactive product API.
+ * <p>
+ * Offers the same contract as the core endpoints of {@link ProductController}: the same
+ * paths, status codes, validation rules, product ETags and If-Match handling. Lists are
+ * streamed from the database, either as a JSON array or, when the client accepts
+ * {@code application/x-ndjson}, as one product per line, and rows are only fetched as
+ * fast as the client reads them.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveProductHandler {
+
+    private final ReactiveProductService productService;
+    private final Validator validator;
+
+    /**
+     * Creates a new product.
+     *
+     * @param request the request carrying the product as JSON
+     * @return the created product with HTTP status 201 (CREATED)
+     */
+    public Mono<ServerResponse> createProduct(ServerRequest request) {
+        return validBody(request)
+                .flatMap(productService::createProduct)
+                .flatMap(product -> withProductETag(ServerResponse.status(HttpStatus.CREATED), product)
+                        .bodyValue(product));
+    }
+
+    /**
+     * Retrieves a product by its unique identifier, answering 304 when If-None-Match
+     * carries its current ETag.
+     *
+     * @param request the request with the product id as path variable
+     * @return the product with HTTP status 200 (OK)
+     */
+    public Mono<ServerResponse> getProductById(ServerRequest request) {
+        return id(request)
+                .flatMap(productService::getProductById)
+                .flatMap(product -> {
+                    String eTag = ProductController.productETag(product);
+                    Mono<ServerResponse> ok = withProductETag(ServerResponse.ok(), product).bodyValue(product);
+                    return eTag == null ? ok : request.checkNotModified(eTag).switchIfEmpty(ok);
+                });
+    }
+
+    /**
+     * Streams all products, as NDJSON if the client accepts it and as a JSON array otherwise.
+     *
+     * @param request the request
+     * @return the streaming response with HTTP status 200 (OK)
+     */
+    public Mono<ServerResponse> getAllProducts(ServerRequest request) {
+        boolean ndjson = request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        return ServerResponse.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(productService.getAllProducts(), ProductDto.class);
+    }
+
+    /**
+     * Exports the full catalog as newline-delimited JSON, ordered by id.
+     *
+     * @param request the request
+     * @return the streaming response with HTTP status 200 (OK)
+     */
+    public Mono<ServerResponse> exportProducts(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(productService.getAllProducts(), ProductDto.class);
+    }
+
+    /**
+     * Updates an existing product, honouring an optional If-Match header.
+     *
+     * @param request the request with the product id as path variable and the product as JSON
+     * @return the updated product with HTTP status 200 (OK)
+     */
+    public Mono<ServerResponse> updateProduct(ServerRequest request) {
+        return id(request)
+                .flatMap(id -> {
+                    Long expectedVersion = ProductController.expectedVersion(id,
+                            request.headers().firstHeader(HttpHeaders.IF_MATCH));
+                    return validBody(request)
+                            .flatMap(productDto -> productService.updateProduct(id, productDto, expectedVersion));
+                })
+                .flatMap(product -> withProductETag(ServerResponse.ok(), product).bodyValue(product));
+    }
+
+    /**
+     * Deletes a product by its unique identifier.
+     *
+     * @param request the request with the product id as path variable
+     * @return an empty response with HTTP status 204 (NO_CONTENT)
+     */
+    public Mono<ServerResponse> deleteProduct(ServerRequest request) {
+        return id(request)
+                .flatMap(productService::deleteProduct)
+                .then(ServerResponse.noContent().build());
+    }
+
+    /**
+     * Reads the product from the request body and applies the validation rules declared on
+     * {@link ProductDto}, failing with a {@link BindException} like {@code @Valid} would.
+     */
+    private Mono<ProductDto> validBody(ServerRequest request) {
+        return request.bodyToMono(ProductDto.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .flatMap(productDto -> {
+                    BeanPropertyBindingResult errors = new BeanPropertyBindingResult(productDto, "productDto");
+                    new SpringValidatorAdapter(validator).validate(productDto, errors);
+                    return errors.hasErrors() ? Mono.error(new BindException(errors)) : Mono.just(productDto);
+                });
+    }
+
+    /**
+     * Parses the product id path variable, signalling a {@link BadRequestException} rather
+     * than throwing, so that the router's error handler answers 400 as the servlet API does.
+     */
+    private static Mono<Long> id(ServerRequest request) {
+        String id = request.pathVariable("id");
+        try {
+            return Mono.just(Long.valueOf(id));
+        } catch (NumberFormatException ex) {
+            return Mono.error(new BadRequestException("Invalid value '" + id + "' for parameter id"));
+        }
+    }
+
+    private static ServerResponse.BodyBuilder withProductETag(ServerResponse.BodyBuilder builder, ProductDto product) {
+        String eTag = ProductController.productETag(product);
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+}
@@ -0,0 +1,47 @@
+package com.cursor.reactive.mapper;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.reactive.model.ReactiveProduct;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Mapper interface for converting between the R2DBC product row and ProductDto.
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Mapper(componentModel = "spring")
+public interface ReactiveProductMapper {
+
+    /**
+     * Converts a product row to a ProductDto.
+     *
+     * @param product the product row to convert
+     * @return the converted ProductDto
+     */
+    ProductDto toDto(ReactiveProduct product);
+
+    /**
+     * Converts a ProductDto to a new product row.
+     * The id and version are assigned by the database.
+     *
+     * @param productDto the ProductDto to convert
+     * @return the converted product row
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    ReactiveProduct toEntity(ProductDto productDto);
+
+    /**
+     * Copies the updatable fields of a ProductDto onto an existing product row.
+     *
+     * @param productDto the ProductDto containing updated data
+     * @param product the product row to update (modified in place)
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(ProductDto productDto, @MappingTarget ReactiveProduct product);
+}
@@ -0,0 +1,57 @@
+package com.cursor.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * R2DBC mapping of a row in the products table.
+ * <p>
+ * Mirrors the JPA {@code Product} entity, including the optimistic-locking version,
+ * for the reactive variant of the service.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("products")
+public class ReactiveProduct {
+
+    /**
+     * Unique identifier for the product.
+     * Generated by the database on insert.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Name of the product.
+     */
+    private String name;
+
+    /**
+     * Description of the product.
+     */
+    private String description;
+
+    /**
+     * Price of the product.
+     */
+    private BigDecimal price;
+
+    /**
+     * Version used for optimistic locking.
+     * Incremented on every update.
+     */
+    @Version
+    private Long version;
+}
@@ -0,0 +1,20 @@
+package com.cursor.reactive.repository;
+
+import com.cursor.reactive.model.ReactiveProduct;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository for products.
+ * <p>
+ * Results are emitted as rows arrive from the database, and a slow subscriber slows
+ * down how many rows are requested from it.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ReactiveProductRepository extends R2dbcRepository<ReactiveProduct, Long> {
+}
@@ -0,0 +1,71 @@
+package com.cursor.reactive.service;
+
+import com.cursor.product.domain.ProductDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for the reactive variant of the product operations.
+ * <p>
+ * Mirrors the core CRUD operations of {@code ProductService} with non-blocking return
+ * types. Errors are signalled with the same exceptions, so they map to the same
+ * HTTP responses.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ReactiveProductService {
+
+    /**
+     * Creates a new product.
+     *
+     * @param productDto the product data transfer object containing product information
+     * @return the created product as a DTO
+     */
+    Mono<ProductDto> createProduct(ProductDto productDto);
+
+    /**
+     * Retrieves a product by its unique identifier.
+     *
+     * @param id the unique identifier of the product
+     * @return the product DTO, or a {@link com.cursor.product.exception.ResourceNotFoundException}
+     *         error if it does not exist
+     */
+    Mono<ProductDto> getProductById(Long id);
+
+    /**
+     * Streams all products ordered by id.
+     * <p>
+     * Rows are read from the database as the subscriber requests them, so a slow
+     * consumer is never buffered for.
+     * </p>
+     *
+     * @return all product DTOs
+     */
+    Flux<ProductDto> getAllProducts();
+
+    /**
+     * Updates an existing product.
+     *
+     * @param id the unique identifier of the product to update
+     * @param productDto the product data transfer object containing updated information
+     * @param expectedVersion the version the caller based the update on, or null for an unconditional update
+     * @return the updated product DTO; a {@link com.cursor.product.exception.ResourceNotFoundException}
+     *         error if it does not exist, a {@link com.cursor.product.exception.PreconditionFailedException}
+     *         error if it is no longer at {@code expectedVersion}, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} error if an
+     *         unconditional update lost a race with another writer
+     */
+    Mono<ProductDto> updateProduct(Long id, ProductDto productDto, Long expectedVersion);
+
+    /**
+     * Deletes a product by its unique identifier.
+     *
+     * @param id the unique identifier of the product to delete
+     * @return completion, or a {@link com.cursor.product.exception.ResourceNotFoundException}
+     *         error if it does not exist
+     */
+    Mono<Void> deleteProduct(Long id);
+}
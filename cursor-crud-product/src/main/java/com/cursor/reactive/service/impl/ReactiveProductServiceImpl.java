@@ -0,0 +1,99 @@
+package com.cursor.reactive.service.impl;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.PreconditionFailedException;
+import com.cursor.product.exception.ResourceNotFoundException;
+import com.cursor.reactive.mapper.ReactiveProductMapper;
+import com.cursor.reactive.model.ReactiveProduct;
+import com.cursor.reactive.repository.ReactiveProductRepository;
+import com.cursor.reactive.service.ReactiveProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of the ReactiveProductService interface.
+ * <p>
+ * Runs on R2DBC; writes use reactive transactions, and the version column guards
+ * updates against lost writes just as in the servlet variant.
+ * </p>
+ *
+ * @author Cursor Product Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveProductServiceImpl implements ReactiveProductService {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final ReactiveProductRepository productRepository;
+    private final ReactiveProductMapper productMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Mono<ProductDto> createProduct(ProductDto productDto) {
+        return productRepository.save(productMapper.toEntity(productDto))
+                .map(productMapper::toDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<ProductDto> getProductById(Long id) {
+        return findExisting(id).map(productMapper::toDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<ProductDto> getAllProducts() {
+        return productRepository.findAll(BY_ID).map(productMapper::toDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Mono<ProductDto> updateProduct(Long id, ProductDto productDto, Long expectedVersion) {
+        return findExisting(id)
+                .flatMap(existingProduct -> {
+                    if (expectedVersion != null && !expectedVersion.equals(existingProduct.getVersion())) {
+                        return Mono.error(new PreconditionFailedException("Product " + id + " is at version "
+                                + existingProduct.getVersion() + ", not " + expectedVersion));
+                    }
+                    productMapper.updateEntity(productDto, existingProduct);
+                    // The UPDATE is guarded by the version read above.
+                    return productRepository.save(existingProduct);
+                })
+                .onErrorMap(OptimisticLockingFailureException.class, ex -> expectedVersion == null ? ex
+                        : new PreconditionFailedException("Product " + id + " was modified after version "
+                        + expectedVersion, ex))
+                .map(productMapper::toDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Mono<Void> deleteProduct(Long id) {
+        return findExisting(id).flatMap(productRepository::delete);
+    }
+
+    private Mono<ReactiveProduct> findExisting(Long id) {
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Product not found with id: " + id)));
+    }
+}
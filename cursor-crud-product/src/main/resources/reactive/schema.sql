@@ -0,0 +1,10 @@
+-- Schema for the reactive variant; the servlet application lets Hibernate create it
+CREATE TABLE IF NOT EXISTS products (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    price NUMERIC(19, 2) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_products_name_id ON products (name, id);
+CREATE INDEX IF NOT EXISTS idx_products_price_id ON products (price, id);
@@ -15,6 +15,37 @@ const ProductAPI = {
         }
     },
 
+    // Get one keyset page of products
+    getPage: async ({ sort, direction, size, pageToken, minPrice, maxPrice } = {}) => {
+        try {
+            const params = new URLSearchParams();
+            if (sort) params.append('sort', sort);
+            if (direction) params.append('direction', direction);
+            if (size) params.append('size', size);
+            if (pageToken) params.append('pageToken', pageToken);
+            if (minPrice != null) params.append('minPrice', minPrice);
+            if (maxPrice != null) params.append('maxPrice', maxPrice);
+            const response = await fetch(`${API_BASE_URL}/page?${params}`);
+            if (!response.ok) throw new Error('Failed to fetch products');
+            return await response.json();
+        } catch (error) {
+            console.error('Error fetching products:', error);
+            throw error;
+        }
+    },
+
+    // Get catalog statistics
+    getStats: async () => {
+        try {
+            const response = await fetch(`${API_BASE_URL}/stats`);
+            if (!response.ok) throw new Error('Failed to fetch product statistics');
+            return await response.json();
+        } catch (error) {
+            console.error('Error fetching product statistics:', error);
+            throw error;
+        }
+    },
+
     // Get product by ID
     getById: async (id) => {
         try {
@@ -48,14 +79,18 @@ const ProductAPI = {
         }
     },
 
-    // Update product
-    update: async (id, product) => {
+    // Update product (with a version, the update is rejected if someone else saved first)
+    update: async (id, product, version) => {
         try {
+            const headers = {
+                'Content-Type': 'application/json',
+            };
+            if (version != null) {
+                headers['If-Match'] = `"${id}-${version}"`;
+            }
             const response = await fetch(`${API_BASE_URL}/${id}`, {
                 method: 'PUT',
-                headers: {
-                    'Content-Type': 'application/json',
-                },
+                headers,
                 body: JSON.stringify(product),
             });
             if (!response.ok) {
@@ -1,7 +1,12 @@
 // Dashboard State
-let allProducts = [];
+let stats = { totalProducts: 0 };
+let pageProducts = [];
 let currentPage = 1;
 let itemsPerPage = 10;
+// pageTokens[i] is the token that fetches page i + 1; the first page needs none
+let pageTokens = [null];
+let nextPageToken = null;
+const SORTABLE_COLUMNS = ['id', 'name', 'price'];
 let currentSort = { column: null, direction: 'asc' };
 let editingProductId = null;
 let isSubmitting = false;
@@ -34,10 +39,9 @@ function setupEventListeners() {
 async function loadProducts() {
     try {
         showLoading(true);
-        allProducts = await ProductAPI.getAll();
+        stats = await ProductAPI.getStats();
         updateWidgets();
-        renderTable();
-        updatePagination();
+        await loadPage();
     } catch (error) {
         showNotification('Failed to load products. Please check if the API is running.', 'error');
     } finally {
@@ -47,7 +51,7 @@ async function loadProducts() {
 
 // Update dashboard widgets
 function updateWidgets() {
-    if (allProducts.length === 0) {
+    if (stats.totalProducts === 0) {
         document.getElementById('totalProducts').textContent = '0';
         document.getElementById('mostExpensive').textContent = '$0.00';
         document.getElementById('mostExpensiveName').textContent = 'Most Expensive';
@@ -58,27 +62,47 @@ function updateWidgets() {
     }
 
     // Total Products
-    document.getElementById('totalProducts').textContent = allProducts.length;
+    document.getElementById('totalProducts').textContent = stats.totalProducts;
 
     // Most Expensive
-    const mostExpensive = allProducts.reduce((max, product) => 
-        product.price > max.price ? product : max
-    );
-    document.getElementById('mostExpensive').textContent = formatPrice(mostExpensive.price);
-    document.getElementById('mostExpensiveName').textContent = mostExpensive.name;
+    document.getElementById('mostExpensive').textContent = formatPrice(stats.mostExpensive.price);
+    document.getElementById('mostExpensiveName').textContent = stats.mostExpensive.name;
 
     // Least Expensive
-    const leastExpensive = allProducts.reduce((min, product) => 
-        product.price < min.price ? product : min
-    );
-    document.getElementById('leastExpensive').textContent = formatPrice(leastExpensive.price);
-    document.getElementById('leastExpensiveName').textContent = leastExpensive.name;
+    document.getElementById('leastExpensive').textContent = formatPrice(stats.leastExpensive.price);
+    document.getElementById('leastExpensiveName').textContent = stats.leastExpensive.name;
 
     // Total Value
-    const totalValue = allProducts.reduce((sum, product) => 
-        sum + parseFloat(product.price), 0
-    );
-    document.getElementById('totalValue').textContent = formatPrice(totalValue);
+    document.getElementById('totalValue').textContent = formatPrice(stats.totalValue);
+}
+
+// Fetch the current page from the server
+async function loadPage() {
+    const page = await ProductAPI.getPage({
+        sort: currentSort.column,
+        direction: currentSort.direction,
+        size: itemsPerPage,
+        pageToken: pageTokens[currentPage - 1],
+    });
+    pageProducts = page.items;
+    nextPageToken = page.nextPageToken;
+    pageTokens[currentPage] = nextPageToken;
+    renderTable();
+    updatePagination();
+}
+
+// Drop remembered page tokens and go back to the first page
+async function resetPaging() {
+    currentPage = 1;
+    pageTokens = [null];
+    try {
+        showLoading(true);
+        await loadPage();
+    } catch (error) {
+        showNotification('Failed to load products. Please check if the API is running.', 'error');
+    } finally {
+        showLoading(false);
+    }
 }
 
 // Render table
@@ -86,16 +110,12 @@ function renderTable() {
     const tbody = document.getElementById('tableBody');
     if (!tbody) return;
 
-    // Get sorted and paginated products
-    const sortedProducts = sortProducts([...allProducts]);
-    const paginatedProducts = paginateProducts(sortedProducts);
-
-    if (paginatedProducts.length === 0) {
+    if (pageProducts.length === 0) {
         tbody.innerHTML = '<tr><td colspan="5" style="text-align: center; padding: 40px; color: var(--text-secondary);">No products found. Create your first product!</td></tr>';
         return;
     }
 
-    tbody.innerHTML = paginatedProducts.map(product => `
+    tbody.innerHTML = pageProducts.map(product => `
         <tr>
             <td>${product.id}</td>
             <td>${escapeHtml(product.name)}</td>
@@ -109,39 +129,10 @@ function renderTable() {
     `).join('');
 }
 
-// Sort products
-function sortProducts(products) {
-    if (!currentSort.column) return products;
-
-    return products.sort((a, b) => {
-        let aVal = a[currentSort.column];
-        let bVal = b[currentSort.column];
-
-        // Handle numeric sorting for price and id
-        if (currentSort.column === 'price' || currentSort.column === 'id') {
-            aVal = parseFloat(aVal);
-            bVal = parseFloat(bVal);
-        } else {
-            // String sorting
-            aVal = String(aVal).toLowerCase();
-            bVal = String(bVal).toLowerCase();
-        }
-
-        if (aVal < bVal) return currentSort.direction === 'asc' ? -1 : 1;
-        if (aVal > bVal) return currentSort.direction === 'asc' ? 1 : -1;
-        return 0;
-    });
-}
-
-// Paginate products
-function paginateProducts(products) {
-    const start = (currentPage - 1) * itemsPerPage;
-    const end = start + itemsPerPage;
-    return products.slice(start, end);
-}
-
-// Sort table
+// Sort table (sorting is done by the server)
 function sortTable(column) {
+    if (!SORTABLE_COLUMNS.includes(column)) return;
+
     // Update sort state
     if (currentSort.column === column) {
         currentSort.direction = currentSort.direction === 'asc' ? 'desc' : 'asc';
@@ -162,53 +153,29 @@ function sortTable(column) {
         indicator.classList.add('active');
     }
 
-    // Reset to first page and re-render
-    currentPage = 1;
-    renderTable();
-    updatePagination();
+    // Reset to first page and re-fetch
+    resetPaging();
 }
 
 // Update pagination
 function updatePagination() {
-    const totalPages = Math.ceil(allProducts.length / itemsPerPage);
     const start = (currentPage - 1) * itemsPerPage + 1;
-    const end = Math.min(currentPage * itemsPerPage, allProducts.length);
+    const end = start + pageProducts.length - 1;
 
     // Update pagination info
-    document.getElementById('paginationInfo').textContent = 
-        `Showing ${allProducts.length > 0 ? start : 0}-${end} of ${allProducts.length}`;
+    document.getElementById('paginationInfo').textContent =
+        `Showing ${pageProducts.length > 0 ? start : 0}-${pageProducts.length > 0 ? end : 0} of ${stats.totalProducts}`;
 
     // Update buttons
     document.getElementById('prevBtn').disabled = currentPage === 1;
-    document.getElementById('nextBtn').disabled = currentPage >= totalPages || totalPages === 0;
+    document.getElementById('nextBtn').disabled = !nextPageToken;
 
-    // Update page numbers
+    // Keyset paging only knows the pages visited so far
     const pageNumbers = document.getElementById('pageNumbers');
     pageNumbers.innerHTML = '';
-
-    if (totalPages === 0) return;
-
-    // Show max 5 page numbers
-    let startPage = Math.max(1, currentPage - 2);
-    let endPage = Math.min(totalPages, currentPage + 2);
-
-    if (startPage > 1) {
-        addPageNumber(1);
-        if (startPage > 2) {
-            pageNumbers.innerHTML += '<span style="padding: 0 8px;">...</span>';
-        }
-    }
-
-    for (let i = startPage; i <= endPage; i++) {
+    for (let i = Math.max(1, currentPage - 2); i <= currentPage; i++) {
         addPageNumber(i);
     }
-
-    if (endPage < totalPages) {
-        if (endPage < totalPages - 1) {
-            pageNumbers.innerHTML += '<span style="padding: 0 8px;">...</span>';
-        }
-        addPageNumber(totalPages);
-    }
 }
 
 // Add page number button
@@ -220,13 +187,19 @@ function addPageNumber(page) {
     document.getElementById('pageNumbers').appendChild(button);
 }
 
-// Go to specific page
-function goToPage(page) {
-    const totalPages = Math.ceil(allProducts.length / itemsPerPage);
-    if (page >= 1 && page <= totalPages) {
-        currentPage = page;
-        renderTable();
-        updatePagination();
+// Go to a page that has already been visited, or the one after the current page
+async function goToPage(page) {
+    if (page < 1 || page > pageTokens.length || (page > 1 && !pageTokens[page - 1])) {
+        return;
+    }
+    currentPage = page;
+    try {
+        showLoading(true);
+        await loadPage();
+    } catch (error) {
+        showNotification('Failed to load products. Please check if the API is running.', 'error');
+    } finally {
+        showLoading(false);
     }
 }
 
@@ -239,8 +212,7 @@ function previousPage() {
 
 // Next page
 function nextPage() {
-    const totalPages = Math.ceil(allProducts.length / itemsPerPage);
-    if (currentPage < totalPages) {
+    if (nextPageToken) {
         goToPage(currentPage + 1);
     }
 }
@@ -248,9 +220,7 @@ function nextPage() {
 // Change items per page
 function changeItemsPerPage() {
     itemsPerPage = parseInt(document.getElementById('itemsPerPage').value);
-    currentPage = 1;
-    renderTable();
-    updatePagination();
+    resetPaging();
 }
 
 // Open add product modal
@@ -270,7 +240,7 @@ function closeModal() {
 
 // Edit product
 async function editProduct(id) {
-    const product = allProducts.find(p => p.id === id);
+    const product = pageProducts.find(p => p.id === id);
     if (!product) return;
 
     editingProductId = id;
@@ -308,7 +278,8 @@ async function handleFormSubmit(e) {
 
     try {
         if (editingProductId) {
-            await ProductAPI.update(editingProductId, product);
+            const edited = pageProducts.find(p => p.id === editingProductId);
+            await ProductAPI.update(editingProductId, product, edited ? edited.version : null);
             showNotification('Product updated successfully!');
         } else {
             await ProductAPI.create(product);
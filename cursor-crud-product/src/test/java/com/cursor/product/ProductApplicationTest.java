@@ -0,0 +1,67 @@
+package com.cursor.product;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductApplicationTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testRunImport_ImportsFileAndResumesByFileName() throws Exception {
+        Path file = directory.resolve("catalog.csv");
+        Files.writeString(file, "name,description,price\n"
+                + "Cli 1,Imported from the command line,1.00\n"
+                + "Cli 2,Imported from the command line,2.00\n"
+                + ",Imported from the command line,3.00\n");
+        String database = "jdbc:h2:file:" + directory.resolve("catalog");
+        String[] args = {file.toString(), "--spring.datasource.url=" + database, "--product.import.chunk-size=2"};
+
+        assertEquals(0, ProductApplication.runImport(args));
+        assertEquals(0, ProductApplication.runImport(args));
+
+        try (Connection connection = DriverManager.getConnection(database, "sa", "");
+             ResultSet rs = connection.createStatement().executeQuery(
+                     "SELECT (SELECT COUNT(*) FROM products), "
+                             + "committed_rows, created, rejected FROM product_imports WHERE id = 'catalog.csv'")) {
+            assertTrue(rs.next());
+            assertEquals(2, rs.getLong(1));
+            assertEquals(3, rs.getLong(2));
+            assertEquals(2, rs.getLong(3));
+            assertEquals(1, rs.getLong(4));
+        }
+    }
+
+    @Test
+    void testRunImport_InvalidArguments() {
+        assertEquals(2, ProductApplication.runImport(new String[0]));
+        assertEquals(2, ProductApplication.runImport(new String[]{directory.resolve("missing.csv").toString()}));
+    }
+
+    @Test
+    void testRunImport_RefusesInMemoryDatabase() throws Exception {
+        Path file = directory.resolve("catalog.csv");
+        Files.writeString(file, "name,description,price\nCli 1,Imported from the command line,1.00\n");
+
+        assertEquals(2, ProductApplication.runImport(new String[]{file.toString()}));
+        assertEquals(2, ProductApplication.runImport(new String[]{file.toString(),
+                "--spring.datasource.url=jdbc:h2:mem:cliimport;DB_CLOSE_DELAY=-1"}));
+
+        // Refused before the application started, so the schema was never created.
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:cliimport;DB_CLOSE_DELAY=-1", "sa", "");
+             ResultSet rs = connection.createStatement().executeQuery(
+                     "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'PRODUCTS'")) {
+            assertTrue(rs.next());
+            assertEquals(0, rs.getLong(1));
+        }
+    }
+}
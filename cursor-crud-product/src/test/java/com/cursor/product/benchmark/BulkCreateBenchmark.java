@@ -0,0 +1,66 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares one-at-a-time creates with the batched bulk create path.
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test}.
+ * The row count can be changed with {@code -Dbenchmark.rows=N}.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class BulkCreateBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void compareSingleAndBulkCreate() {
+        List<ProductDto> warmup = products("warmup", 2_000);
+        warmup.subList(0, 1_000).forEach(productService::createProduct);
+        productService.createProducts(warmup.subList(1_000, 2_000));
+
+        List<ProductDto> single = products("single", ROWS);
+        long start = System.nanoTime();
+        single.forEach(productService::createProduct);
+        long singleNanos = System.nanoTime() - start;
+
+        List<ProductDto> bulk = products("bulk", ROWS);
+        start = System.nanoTime();
+        BulkCreateResult result = productService.createProducts(bulk);
+        long bulkNanos = System.nanoTime() - start;
+
+        assertEquals(ROWS, result.getCreated());
+        report("POST /api/product (one per row)", singleNanos);
+        report("POST /api/product/bulk", bulkNanos);
+        System.out.printf("speed-up: %.1fx%n", (double) singleNanos / bulkNanos);
+    }
+
+    private static List<ProductDto> products(String prefix, int count) {
+        List<ProductDto> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(new ProductDto(null, prefix + " " + i, "Benchmark product " + i,
+                    BigDecimal.valueOf(100 + i % 10_000, 2)));
+        }
+        return products;
+    }
+
+    private static void report(String label, long nanos) {
+        System.out.printf("%-34s %,8d rows in %,7d ms = %,10.0f rows/s%n",
+                label, ROWS, nanos / 1_000_000, ROWS / (nanos / 1e9));
+    }
+}
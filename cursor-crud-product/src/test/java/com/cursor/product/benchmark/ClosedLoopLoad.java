@@ -0,0 +1,87 @@
+package com.cursor.product.benchmark;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load shared by the server benchmarks: every connection sends its next
+ * request as soon as the previous response arrives.
+ */
+final class ClosedLoopLoad {
+
+    private ClosedLoopLoad() {
+    }
+
+    /**
+     * Creates a client that completes responses on a fixed pair of threads, so the load
+     * generator's thread count does not grow with the number of connections.
+     *
+     * @return the client
+     */
+    static HttpClient newClient() {
+        return HttpClient.newBuilder().executor(Executors.newFixedThreadPool(2)).build();
+    }
+
+    /**
+     * Keeps the given number of requests in flight for the given duration.
+     *
+     * @param client the client, which opens one connection per request in flight
+     * @param request the request to repeat
+     * @param connections the number of requests in flight
+     * @param duration how long to keep sending
+     * @return the latencies of the successful (2xx) responses, sorted, and the error count
+     */
+    static Result run(HttpClient client, HttpRequest request, int connections, Duration duration) {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<CompletableFuture<Void>> loops = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            send(client, request, deadline, latencies, errors, done);
+            loops.add(done);
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(sorted, errors.get(), sorted.length * 1000.0 / duration.toMillis());
+    }
+
+    private static void send(HttpClient client, HttpRequest request, long deadline,
+                             ConcurrentLinkedQueue<Long> latencies, AtomicLong errors, CompletableFuture<Void> done) {
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            long received = System.nanoTime();
+            if (error != null || response.statusCode() / 100 != 2) {
+                errors.incrementAndGet();
+            } else if (received <= deadline) {
+                latencies.add(received - sent);
+            }
+            if (received < deadline) {
+                send(client, request, deadline, latencies, errors, done);
+            } else {
+                done.complete(null);
+            }
+        });
+    }
+
+    record Result(long[] latencies, long errors, double throughput) {
+
+        long percentile(int percentile) {
+            return latencies.length == 0 ? 0 : latencies[(int) ((long) latencies.length * percentile / 100)];
+        }
+
+        String format(String label, int connections) {
+            return String.format("%-8s %,6d connections: %,8.0f req/s, p50 %,8.1f ms, p99 %,8.1f ms, errors %d",
+                    label, connections, throughput, percentile(50) / 1e6, percentile(99) / 1e6, errors);
+        }
+    }
+}
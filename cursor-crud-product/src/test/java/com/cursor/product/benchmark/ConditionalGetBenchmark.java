@@ -0,0 +1,102 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductPageRequest;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays the same GET requests with and without If-None-Match and compares the
+ * response bytes and server CPU time spent on them.
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test}.
+ * The number of replays can be changed with {@code -Dbenchmark.requests=N}.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "product.ratelimit.enabled=false"})
+class ConditionalGetBenchmark {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2_000);
+    private static final int CATALOG_SIZE = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void compareUnconditionalAndConditionalGet() throws Exception {
+        List<ProductDto> catalog = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            catalog.add(new ProductDto(null, "Product " + i, "Benchmark product " + i,
+                    BigDecimal.valueOf(100 + i, 2)));
+        }
+        productService.createProducts(catalog);
+        Long productId = productService.getProductPage(
+                new ProductPageRequest(null, null, 1, null)).getItems().get(0).getId();
+
+        for (String path : List.of("/api/product", "/api/product/page?size=100", "/api/product/" + productId)) {
+            HttpResponse<byte[]> first = get(path, null);
+            String eTag = first.headers().firstValue("ETag").orElseThrow();
+            replay(path, null, 200);
+            replay(path, eTag, 304);
+
+            Result full = replay(path, null, 200);
+            Result conditional = replay(path, eTag, 304);
+            report(path, "200", full);
+            report(path, "304", conditional);
+            assertTrue(conditional.bytes() < full.bytes());
+        }
+    }
+
+    private Result replay(String path, String eTag, int expectedStatus) throws Exception {
+        long bytes = 0;
+        long cpuStart = processCpuNanos();
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            HttpResponse<byte[]> response = get(path, eTag);
+            assertEquals(expectedStatus, response.statusCode());
+            bytes += response.body().length;
+        }
+        return new Result(System.nanoTime() - start, processCpuNanos() - cpuStart, bytes);
+    }
+
+    private HttpResponse<byte[]> get(String path, String eTag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (eTag != null) {
+            request.header("If-None-Match", eTag);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    private static void report(String path, String status, Result result) {
+        System.out.printf("%-28s %s %,6d requests in %,6d ms, cpu %,6d ms, %,12d body bytes%n",
+                path, status, REQUESTS, result.wallNanos() / 1_000_000, result.cpuNanos() / 1_000_000, result.bytes());
+    }
+
+    private record Result(long wallNanos, long cpuNanos, long bytes) {
+    }
+}
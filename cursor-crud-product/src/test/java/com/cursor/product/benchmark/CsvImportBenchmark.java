@@ -0,0 +1,105 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductImportResult;
+import com.cursor.product.service.ProductImportService;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares one-at-a-time creates with the streaming CSV import of a generated file, which
+ * is produced row by row as it is read and never held in memory as a whole.
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test -Dtest=CsvImportBenchmark}.
+ * The row counts can be changed with {@code -Dbenchmark.rows=N} (single creates) and
+ * {@code -Dbenchmark.importRows=N} (import).
+ * </p>
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "product.ratelimit.enabled=false"})
+class CsvImportBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int IMPORT_ROWS = Integer.getInteger("benchmark.importRows", 500_000);
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Test
+    void compareSingleCreatesAndCsvImport() {
+        for (int i = 0; i < 1_000; i++) {
+            productService.createProduct(new ProductDto(null, "warmup " + i, "Benchmark product", BigDecimal.ONE));
+        }
+        productImportService.importCsv("warmup", new GeneratedCsv("warmup", 20_000));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            productService.createProduct(new ProductDto(null, "single " + i, "Benchmark product " + i,
+                    BigDecimal.valueOf(100 + i % 10_000, 2)));
+        }
+        long singleNanos = System.nanoTime() - start;
+
+        GeneratedCsv csv = new GeneratedCsv("import", IMPORT_ROWS);
+        ProductImportResult result = productImportService.importCsv("benchmark", csv);
+
+        assertEquals(ProductImportResult.Status.COMPLETED, result.getStatus());
+        assertEquals(IMPORT_ROWS, result.getCreated());
+        System.out.printf("%-34s %,9d rows in %,7d ms = %,8.0f rows/s%n", "POST /api/product (one per row)",
+                ROWS, singleNanos / 1_000_000, ROWS / (singleNanos / 1e9));
+        System.out.printf("%-34s %,9d rows in %,7d ms = %,8d rows/s (%,d MB of CSV)%n",
+                "PUT /api/product/import/{id}", result.getRowsRead(), result.getElapsedMillis(),
+                result.getRowsPerSecond(), csv.bytes >> 20);
+    }
+
+    /**
+     * A CSV file of products generated row by row as it is read.
+     */
+    private static final class GeneratedCsv extends InputStream {
+
+        private final String prefix;
+        private final int rows;
+        private byte[] line = "name,description,price\n".getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private int row;
+        private long bytes;
+
+        private GeneratedCsv(String prefix, int rows) {
+            this.prefix = prefix;
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            byte[] buffer = new byte[1];
+            return read(buffer, 0, 1) < 0 ? -1 : buffer[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == line.length) {
+                if (row == rows) {
+                    return -1;
+                }
+                row++;
+                line = (prefix + " " + row + ",\"Imported product " + row + ", from the nightly feed\","
+                        + BigDecimal.valueOf(100 + row % 10_000, 2) + "\n").getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            bytes += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.ProductApplication;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.service.impl.ProductIngestServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays a burst of product creates against the synchronous {@code POST /api/product}
+ * and the asynchronous {@code POST /api/product/ingest}, at increasing numbers of
+ * concurrent connections, and compares what the callers see: acknowledgements per second
+ * and their latency. For ingestion it also reports how long the writer needed to drain
+ * the queue after the burst, and the rows committed per second including that tail.
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test}. The
+ * connection counts can be changed with {@code -Dbenchmark.connections=50,500}. Errors
+ * include 429 responses from a full ingest queue.
+ * </p>
+ */
+class IngestBurstBenchmark {
+
+    private static final List<Integer> CONNECTIONS = Arrays.stream(
+                    System.getProperty("benchmark.connections", "50,200,800").split(","))
+            .map(String::trim).map(Integer::valueOf).toList();
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final String BODY =
+            "{\"name\":\"Supplier product\",\"description\":\"Burst benchmark\",\"price\":19.99}";
+
+    @Test
+    void compareSynchronousAndQueuedCreates() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductApplication.class)
+                .properties("server.port=0",
+                        "server.tomcat.max-connections=20000",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-ingest",
+                        "spring.jpa.show-sql=false",
+                        "product.ratelimit.enabled=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            ProductIngestServiceImpl ingestService = context.getBean(ProductIngestServiceImpl.class);
+            HttpClient client = ClosedLoopLoad.newClient();
+            HttpRequest sync = post(port, "/api/product");
+            HttpRequest queued = post(port, "/api/product/ingest");
+
+            for (int connections : CONNECTIONS) {
+                ClosedLoopLoad.run(client, sync, connections, WARMUP);
+                ClosedLoopLoad.Result syncResult = ClosedLoopLoad.run(client, sync, connections, MEASUREMENT);
+                System.out.println(syncResult.format("sync", connections));
+
+                ClosedLoopLoad.run(client, queued, connections, WARMUP);
+                awaitDrained(ingestService);
+                long rowsBefore = productRepository.count();
+                long start = System.nanoTime();
+                ClosedLoopLoad.Result ingestResult = ClosedLoopLoad.run(client, queued, connections, MEASUREMENT);
+                long burstEnd = System.nanoTime();
+                awaitDrained(ingestService);
+                long drained = System.nanoTime();
+                long rows = productRepository.count() - rowsBefore;
+                System.out.println(ingestResult.format("ingest", connections));
+                System.out.printf("ingest   %,6d connections: drained %,d ms after the burst, %,8.0f rows/s committed%n",
+                        connections, (drained - burstEnd) / 1_000_000, rows / ((drained - start) / 1e9));
+                assertTrue(ingestResult.latencies().length > 0);
+            }
+        }
+    }
+
+    private static HttpRequest post(int port, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(1))
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+    }
+
+    private static void awaitDrained(ProductIngestServiceImpl ingestService) throws InterruptedException {
+        while (ingestService.getQueueSize() > 0) {
+            Thread.sleep(5);
+        }
+        // Let the last batch commit.
+        Thread.sleep(200);
+    }
+}
@@ -0,0 +1,91 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.domain.ProductPage;
+import com.cursor.product.domain.ProductPageRequest;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures price-range listing latency as the catalog grows, against the same query
+ * forced to scan the table.
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test}.
+ * The catalog sizes can be changed with {@code -Dbenchmark.catalog-sizes=1000000,10000000};
+ * the in-memory database needs roughly 300 MB of heap per million rows
+ * ({@code -DargLine=-Xmx4g}).
+ * </p>
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "product.search.rebuild-on-startup=false"})
+class PriceRangeBenchmark {
+
+    private static final List<Integer> CATALOG_SIZES = Arrays.stream(
+                    System.getProperty("benchmark.catalog-sizes", "1000000").split(","))
+            .map(String::trim).map(Integer::valueOf).toList();
+    private static final int REQUESTS = 500;
+    private static final int SCAN_REQUESTS = 5;
+    private static final BigDecimal MIN_PRICE = new BigDecimal("20.00");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("50.00");
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void priceRangeLatencyAcrossCatalogSizes() {
+        int rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class);
+        for (int catalogSize : CATALOG_SIZES) {
+            // Prices cycle through 0.01 .. 1000.00, so about 3% of rows fall in the range.
+            jdbcTemplate.update("INSERT INTO products (name, description, price) "
+                    + "SELECT 'Product ' || X, 'Benchmark product', (MOD(X * 7919, 100000) + 1) / 100.0 "
+                    + "FROM SYSTEM_RANGE(?, ?)", rows + 1, catalogSize);
+            rows = Math.max(rows, catalogSize);
+            jdbcTemplate.execute("ANALYZE TABLE products");
+
+            for (int i = 0; i < REQUESTS; i++) {
+                firstAndDeepPage();
+            }
+            long[] latencies = new long[REQUESTS];
+            for (int i = 0; i < REQUESTS; i++) {
+                long start = System.nanoTime();
+                firstAndDeepPage();
+                latencies[i] = (System.nanoTime() - start) / 2;
+            }
+            Arrays.sort(latencies);
+
+            long scanStart = System.nanoTime();
+            for (int i = 0; i < SCAN_REQUESTS; i++) {
+                List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM products USE INDEX () "
+                        + "WHERE price BETWEEN ? AND ? ORDER BY price, id FETCH FIRST 20 ROWS ONLY",
+                        Long.class, MIN_PRICE, MAX_PRICE);
+                assertEquals(20, ids.size());
+            }
+            long scanNanos = (System.nanoTime() - scanStart) / SCAN_REQUESTS;
+
+            System.out.printf("%,11d rows: indexed p50 %,8.1f us, p99 %,8.1f us | table scan %,10.1f us%n",
+                    catalogSize, latencies[REQUESTS / 2] / 1e3, latencies[REQUESTS * 99 / 100] / 1e3, scanNanos / 1e3);
+        }
+    }
+
+    /**
+     * Fetches the first page and the page after it.
+     */
+    private void firstAndDeepPage() {
+        ProductPage first = productService.getProductPage(
+                new ProductPageRequest("price", "asc", 20, null, MIN_PRICE, MAX_PRICE));
+        assertEquals(20, first.getItems().size());
+        ProductPage next = productService.getProductPage(
+                new ProductPageRequest("price", "asc", 20, first.getNextPageToken(), MIN_PRICE, MAX_PRICE));
+        assertEquals(20, next.getItems().size());
+    }
+}
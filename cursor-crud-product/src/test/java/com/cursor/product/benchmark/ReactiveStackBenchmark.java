@@ -0,0 +1,100 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.ProductApplication;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import com.cursor.reactive.ReactiveProductApplication;
+import com.cursor.reactive.service.ReactiveProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the servlet stack (Tomcat, JPA over JDBC) with the reactive stack (Netty,
+ * R2DBC) on the same request, at increasing numbers of concurrent connections.
+ * <p>
+ * The request lists the whole catalog, which reads the database on both stacks; the
+ * servlet product cache would otherwise serve single-product reads from memory. Besides
+ * throughput and latency the peak number of live JVM threads is reported, which
+ * includes the load generator's own threads.
+ * </p>
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test}.
+ * The connection counts can be changed with {@code -Dbenchmark.connections=1000,10000};
+ * client and server share one process, so each connection needs two file descriptors.
+ * </p>
+ */
+class ReactiveStackBenchmark {
+
+    private static final List<Integer> CONNECTIONS = Arrays.stream(
+                    System.getProperty("benchmark.connections", "1000,2500,5000,8000").split(","))
+            .map(String::trim).map(Integer::valueOf).toList();
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+    private static final int ADDED_PRODUCTS = 15;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareServletAndReactiveStacks() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductApplication.class)
+                .properties("server.port=0",
+                        "server.tomcat.max-connections=20000",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-servlet",
+                        "spring.jpa.show-sql=false",
+                        "product.ratelimit.enabled=false")
+                .run()) {
+            ProductService productService = context.getBean(ProductService.class);
+            for (ProductDto product : products()) {
+                productService.createProduct(product);
+            }
+            measure("servlet", context);
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ReactiveProductApplication.class)
+                .profiles(ReactiveProductApplication.PROFILE)
+                .properties("server.port=0",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///benchmark-reactive;DB_CLOSE_DELAY=-1")
+                .run()) {
+            ReactiveProductService productService = context.getBean(ReactiveProductService.class);
+            Flux.fromIterable(products()).concatMap(productService::createProduct).blockLast();
+            measure("reactive", context);
+        }
+    }
+
+    private void measure(String stack, ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/product"))
+                .timeout(Duration.ofMinutes(1)).build();
+        HttpClient client = ClosedLoopLoad.newClient();
+        for (int connections : CONNECTIONS) {
+            ClosedLoopLoad.run(client, request, connections, WARMUP);
+            threads.resetPeakThreadCount();
+            ClosedLoopLoad.Result result = ClosedLoopLoad.run(client, request, connections, MEASUREMENT);
+            System.out.println(result.format(stack, connections) + ", peak threads " + threads.getPeakThreadCount());
+            assertTrue(result.latencies().length > 0);
+        }
+    }
+
+    private static List<ProductDto> products() {
+        List<ProductDto> products = new ArrayList<>(ADDED_PRODUCTS);
+        for (int i = 0; i < ADDED_PRODUCTS; i++) {
+            products.add(new ProductDto(null, "Product " + i, "Benchmark product " + i, BigDecimal.valueOf(100 + i, 2)));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,102 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays the large GET requests with and without Accept-Encoding: gzip and compares the
+ * bytes on the wire and the CPU time spent per request.
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test}. Add
+ * {@code -Dproduct.json.tuned=false} for the reflective serializers, and change the number
+ * of replays with {@code -Dbenchmark.requests=N}. CPU time is that of the whole process,
+ * so it includes the client.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "product.ratelimit.enabled=false"})
+class ResponseEncodingBenchmark {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2_000);
+    private static final int CATALOG_SIZE = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    @Value("${product.json.tuned}")
+    private boolean tuned;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void compareIdentityAndGzipResponses() throws Exception {
+        List<ProductDto> catalog = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            catalog.add(new ProductDto(null, "Product " + i, "Benchmark product " + i,
+                    BigDecimal.valueOf(100 + i, 2)));
+        }
+        productService.createProducts(catalog);
+        System.out.println("product.json.tuned=" + tuned);
+
+        for (String path : List.of("/api/product", "/api/product/page?size=100", "/api/product/export")) {
+            replay(path, "identity");
+            replay(path, "gzip");
+
+            Result identity = replay(path, "identity");
+            Result gzip = replay(path, "gzip");
+            report(path, "identity", identity);
+            report(path, "gzip", gzip);
+            assertTrue(gzip.bytes() < identity.bytes());
+        }
+    }
+
+    private Result replay(String path, String encoding) throws Exception {
+        long bytes = 0;
+        long cpuStart = processCpuNanos();
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                            .header("Accept-Encoding", encoding)
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, response.statusCode());
+            assertEquals(encoding.equals("gzip"), response.headers().firstValue("Content-Encoding").isPresent());
+            bytes += response.body().length;
+        }
+        return new Result(System.nanoTime() - start, processCpuNanos() - cpuStart, bytes);
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    private static void report(String path, String encoding, Result result) {
+        System.out.printf("%-28s %-8s %,6d requests in %,6d ms, cpu %,6d us/request, %,8d bytes/request%n",
+                path, encoding, REQUESTS, result.wallNanos() / 1_000_000,
+                result.cpuNanos() / 1_000 / REQUESTS, result.bytes() / REQUESTS);
+    }
+
+    private record Result(long wallNanos, long cpuNanos, long bytes) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.config.SearchProperties;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.impl.ProductSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures search latency while the index grows, to check it stays flat with catalog size.
+ * <p>
+ * Product text is drawn from a Zipf-distributed vocabulary, like natural language, and
+ * queries pick their terms from the same distribution. A fixed list of a few dozen words
+ * would make every term match a constant fraction of the catalog, which no inverted
+ * index can answer in constant time.
+ * </p>
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test}.
+ * The catalog sizes can be changed with {@code -Dbenchmark.catalog-sizes=10000,100000}.
+ * </p>
+ */
+class SearchBenchmark {
+
+    private static final List<Integer> CATALOG_SIZES = Arrays.stream(
+                    System.getProperty("benchmark.catalog-sizes", "10000,100000,1000000").split(","))
+            .map(String::trim).map(Integer::valueOf).toList();
+    private static final int QUERIES = 2_000;
+
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ra", "te", "zu", "ne", "po", "si", "da",
+            "ve", "gu", "lin", "mar", "tos", "wen"};
+    private static final String[] QUERY_TEMPLATES = {"%s", "%s %s", "\"%s %s\"", "%s -%s", "%s*"};
+
+    private final String[] vocabulary = new String[VOCABULARY_SIZE];
+    private final double[] cumulative = new double[VOCABULARY_SIZE];
+
+    @Test
+    void searchLatencyAcrossCatalogSizes() throws Exception {
+        ProductSearchIndex index = new ProductSearchIndex(null, new SearchProperties(), null);
+        index.open();
+        Random random = new Random(42);
+        buildVocabulary();
+        try {
+            int indexed = 0;
+            for (int catalogSize : CATALOG_SIZES) {
+                for (; indexed < catalogSize; indexed++) {
+                    index.index(product(indexed + 1L, random));
+                }
+                index.refresh();
+                for (int i = 0; i < QUERIES; i++) {
+                    index.search(query(random), 0, 20);
+                }
+                long[] latencies = new long[QUERIES];
+                for (int i = 0; i < QUERIES; i++) {
+                    String query = query(random);
+                    long start = System.nanoTime();
+                    index.search(query, random.nextInt(5), 20);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(latencies);
+                System.out.printf("%,10d products: p50 %,7.1f us, p99 %,8.1f us%n", catalogSize,
+                        latencies[QUERIES / 2] / 1e3, latencies[QUERIES * 99 / 100] / 1e3);
+            }
+            assertFalse(index.search(vocabulary[0], 0, 20).getItems().isEmpty());
+        } finally {
+            index.close();
+        }
+    }
+
+    private void buildVocabulary() {
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+            StringBuilder word = new StringBuilder();
+            int n = rank;
+            do {
+                word.append(SYLLABLES[n % SYLLABLES.length]);
+                n /= SYLLABLES.length;
+            } while (n > 0);
+            vocabulary[rank] = word.append("x").toString();
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    private String word(Random random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        return vocabulary[Math.min(rank < 0 ? -rank - 1 : rank, VOCABULARY_SIZE - 1)];
+    }
+
+    private ProductDto product(long id, Random random) {
+        String name = word(random) + " " + word(random);
+        String description = word(random) + " " + word(random) + " " + word(random) + " "
+                + word(random) + " " + word(random) + " " + word(random);
+        ProductDto product = new ProductDto(id, name, description, BigDecimal.valueOf(100 + id % 10_000, 2));
+        product.setVersion(0L);
+        return product;
+    }
+
+    private String query(Random random) {
+        String template = QUERY_TEMPLATES[random.nextInt(QUERY_TEMPLATES.length)];
+        return String.format(template, word(random), word(random));
+    }
+}
@@ -0,0 +1,81 @@
+package com.cursor.product.benchmark;
+
+import com.cursor.product.ProductApplication;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares throughput and latency of the paged product list served by Tomcat's platform
+ * thread pool and by virtual threads, at increasing numbers of concurrent connections.
+ * <p>
+ * Each mode gets its own application context and in-memory database.
+ * </p>
+ * <p>
+ * Not part of the regular test run; execute with {@code mvn -Pbenchmark test} on Java 21.
+ * The connection counts can be changed with {@code -Dbenchmark.connections=1000,10000};
+ * client and server share one process, so each connection needs two file descriptors.
+ * </p>
+ */
+class VirtualThreadBenchmark {
+
+    private static final List<Integer> CONNECTIONS = Arrays.stream(
+                    System.getProperty("benchmark.connections", "1000,2500,5000,8000").split(","))
+            .map(String::trim).map(Integer::valueOf).toList();
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+    private static final int CATALOG_SIZE = 1_000;
+
+    @Test
+    void comparePlatformAndVirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21");
+        for (boolean virtual : List.of(false, true)) {
+            String mode = virtual ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductApplication.class)
+                    .properties("server.port=0",
+                            "server.tomcat.max-connections=20000",
+                            "spring.threads.virtual.enabled=" + virtual,
+                            "spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+                            "spring.jpa.show-sql=false",
+                            "product.ratelimit.enabled=false")
+                    .run()) {
+                seedCatalog(context.getBean(ProductService.class));
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/api/product/page?size=20"))
+                        .timeout(Duration.ofMinutes(1)).build();
+                HttpClient client = ClosedLoopLoad.newClient();
+                for (int connections : CONNECTIONS) {
+                    ClosedLoopLoad.run(client, request, connections, WARMUP);
+                    ClosedLoopLoad.Result result = ClosedLoopLoad.run(client, request, connections, MEASUREMENT);
+                    System.out.println(result.format(mode, connections));
+                    assertTrue(result.latencies().length > 0);
+                }
+            }
+        }
+    }
+
+    private static void seedCatalog(ProductService productService) {
+        List<ProductDto> catalog = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            catalog.add(new ProductDto(null, "Product " + i, "Benchmark product " + i,
+                    BigDecimal.valueOf(100 + i, 2)));
+        }
+        productService.createProducts(catalog);
+    }
+}
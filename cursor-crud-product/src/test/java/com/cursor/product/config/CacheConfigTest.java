@@ -0,0 +1,168 @@
+package com.cursor.product.config;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductPatch;
+import com.cursor.product.exception.ResourceNotFoundException;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.model.Product;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.service.ProductService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class CacheConfigTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @SpyBean
+    private ProductRepository productRepository;
+
+    @SpyBean
+    private ProductMapper productMapper;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.PRODUCTS_CACHE).clear();
+        productId = productService.createProduct(
+                new ProductDto(null, "Cached", "Cached product", new BigDecimal("10.00"))).getId();
+        clearInvocations(productRepository);
+    }
+
+    @Test
+    void testRepeatedReadsAreServedFromCache() {
+        productService.getProductById(productId);
+        ProductDto second = productService.getProductById(productId);
+
+        assertEquals("Cached", second.getName());
+        verify(productRepository, times(1)).findById(productId);
+    }
+
+    @Test
+    void testCallersCannotModifyTheCachedProduct() {
+        ProductDto first = productService.getProductById(productId);
+        first.setName("Changed by caller");
+        ProductDto second = productService.getProductById(productId);
+        second.setPrice(new BigDecimal("0.01"));
+
+        ProductDto third = productService.getProductById(productId);
+        assertEquals("Cached", third.getName());
+        assertEquals(new BigDecimal("10.00"), third.getPrice());
+        assertNotSame(second, third);
+        verify(productRepository, times(1)).findById(productId);
+    }
+
+    @Test
+    void testUpdateEvictsCachedEntry() {
+        productService.getProductById(productId);
+
+        productService.updateProduct(productId, new ProductDto(productId, "Renamed", "Cached product", new BigDecimal("12.00")), null);
+        ProductDto cached = productService.getProductById(productId);
+
+        assertEquals("Renamed", cached.getName());
+        // One read to fill the cache, one by the update and one to reload the evicted entry.
+        verify(productRepository, times(3)).findById(productId);
+    }
+
+    @Test
+    void testPatchEvictsCachedEntry() {
+        productService.getProductById(productId);
+
+        productService.patchProduct(productId,
+                new ProductPatch(new ProductDto(null, "Patched", null, null), Set.of("name")), null);
+
+        assertEquals("Patched", productService.getProductById(productId).getName());
+    }
+
+    @Test
+    void testRacingUpdatesLeaveTheCommittedVersionCached() {
+        productService.getProductById(productId);
+        ExecutorService secondWriter = Executors.newSingleThreadExecutor();
+        try {
+            // The first writer's cache operation is deferred to after its commit. In between, the
+            // second writer updates, commits and applies its own cache operation.
+            transactionTemplate.executeWithoutResult(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        try {
+                            secondWriter.submit(() -> productService.updateProduct(productId,
+                                    new ProductDto(productId, "Second", "Cached product", new BigDecimal("12.00")),
+                                    null)).get(30, TimeUnit.SECONDS);
+                        } catch (Exception ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    }
+                });
+                productService.updateProduct(productId,
+                        new ProductDto(productId, "First", "Cached product", new BigDecimal("11.00")), null);
+            });
+        } finally {
+            secondWriter.shutdownNow();
+        }
+
+        ProductDto cached = productService.getProductById(productId);
+        Product stored = transactionTemplate.execute(status -> productRepository.findById(productId).orElseThrow());
+        assertEquals("Second", stored.getName());
+        assertEquals(stored.getVersion(), cached.getVersion());
+        assertEquals(stored.getName(), cached.getName());
+    }
+
+    @Test
+    void testCacheStatisticsArePublishedAsMetrics() {
+        productService.getProductById(productId);
+        productService.getProductById(productId);
+
+        FunctionCounter hits = meterRegistry.find("cache.gets")
+                .tags("cache", CacheConfig.PRODUCTS_CACHE, "result", "hit")
+                .functionCounter();
+        assertNotNull(hits);
+        assertTrue(hits.count() >= 1);
+        assertNotNull(meterRegistry.find("cache.evictions").tags("cache", CacheConfig.PRODUCTS_CACHE).meter());
+        assertNotNull(meterRegistry.find("cache.load.duration").tags("cache", CacheConfig.PRODUCTS_CACHE).meter());
+    }
+
+    @Test
+    void testCacheMissesLoadOutsideTheCacheLock() {
+        AtomicReference<String> loaderThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            loaderThread.set(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(productMapper).toDto(any(Product.class));
+
+        assertEquals("Cached", productService.getProductById(productId).getName());
+        assertTrue(loaderThread.get().startsWith("product-cache-"), loaderThread.get());
+    }
+}
@@ -0,0 +1,54 @@
+package com.cursor.product.config;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.model.Product;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(properties = {"spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:virtual-threads"})
+class CacheConfigVirtualThreadTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @SpyBean
+    private ProductRepository productRepository;
+
+    @SpyBean
+    private ProductMapper productMapper;
+
+    @Test
+    void testCacheMissesLoadOutsideTheCacheLockOnVirtualThreads() {
+        Long productId = productService.createProduct(
+                new ProductDto(null, "Virtual", "Loaded on a virtual thread", new BigDecimal("10.00"))).getId();
+        AtomicReference<String> loaderThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            loaderThread.set(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(productMapper).toDto(any(Product.class));
+
+        ProductDto first = productService.getProductById(productId);
+        ProductDto second = productService.getProductById(productId);
+
+        assertEquals("Virtual", first.getName());
+        assertEquals(first, second);
+        assertTrue(loaderThread.get().startsWith("product-cache-"), loaderThread.get());
+        verify(productRepository, times(1)).findById(productId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.cursor.product.config;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class JsonConfigTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductService productService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void testTunedModeRegistersBlackbird() {
+        assertTrue(objectMapper.getRegisteredModuleIds().contains(new BlackbirdModule().getTypeId()));
+
+        new ApplicationContextRunner()
+                .withUserConfiguration(JsonConfig.class)
+                .withPropertyValues("product.json.tuned=false")
+                .run(context -> assertTrue(context.getBeansOfType(BlackbirdModule.class).isEmpty()));
+    }
+
+    @Test
+    void testLargeResponsesAreGzipped() throws Exception {
+        List<ProductDto> catalog = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            catalog.add(new ProductDto(null, "Compressed " + i, "Compressed product " + i, new BigDecimal("5.00")));
+        }
+        productService.createProducts(catalog);
+
+        HttpResponse<InputStream> response = client.send(request("/api/product").header("Accept-Encoding", "gzip").build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(response.headers().firstValue("ETag").orElseThrow().startsWith("W/"));
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            List<ProductDto> products = objectMapper.readValue(body, new TypeReference<>() {
+            });
+            assertTrue(products.size() >= 50);
+        }
+    }
+
+    @Test
+    void testSmallResponsesAndClientsWithoutGzipAreNotCompressed() throws Exception {
+        Long id = productService.createProduct(
+                new ProductDto(null, "Uncompressed", "Small response", new BigDecimal("6.00"))).getId();
+
+        HttpResponse<String> single = client.send(
+                request("/api/product/" + id).header("Accept-Encoding", "gzip").build(),
+                HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> identity = client.send(request("/api/product").build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertTrue(single.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals("Uncompressed", objectMapper.readValue(single.body(), ProductDto.class).getName());
+        assertTrue(identity.headers().firstValue("Content-Encoding").isEmpty());
+        assertTrue(identity.body().startsWith("["));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+}
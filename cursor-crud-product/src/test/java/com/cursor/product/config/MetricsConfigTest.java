@@ -0,0 +1,67 @@
+package com.cursor.product.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testRequestTimersAreTaggedWithOperationAndHandledException() throws Exception {
+        mockMvc.perform(get("/api/product/{id}", 999999)).andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"\",\"description\":\"\",\"price\":-1}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/product")).andExpect(status().isOk());
+
+        Timer notFound = meterRegistry.find("http.server.requests")
+                .tags(MetricsConfig.OPERATION_TAG, "getProductById", "status", "404",
+                        "exception", "ResourceNotFoundException", "outcome", "CLIENT_ERROR")
+                .timer();
+        assertNotNull(notFound);
+        assertTrue(notFound.count() >= 1);
+        assertNotNull(meterRegistry.find("http.server.requests")
+                .tags(MetricsConfig.OPERATION_TAG, "createProduct", "status", "400",
+                        "exception", "MethodArgumentNotValidException")
+                .timer());
+        assertNotNull(meterRegistry.find("http.server.requests")
+                .tags(MetricsConfig.OPERATION_TAG, "getAllProducts", "status", "200", "exception", "none")
+                .timer());
+    }
+
+    @Test
+    void testPrometheusEndpointExposesPercentilesAndSloBuckets() throws Exception {
+        mockMvc.perform(get("/api/product/{id}", 999999)).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds{")))
+                .andExpect(content().string(containsString("quantile=\"0.999\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("le=\"0.025\"")))
+                .andExpect(content().string(containsString("operation=\"getProductById\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"findById\"")));
+    }
+}
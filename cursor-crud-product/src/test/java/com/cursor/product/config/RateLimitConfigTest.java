@@ -0,0 +1,154 @@
+package com.cursor.product.config;
+
+import com.cursor.product.ratelimit.ClientRateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ratelimit",
+        "product.ratelimit.read.rate-per-second=0.1",
+        "product.ratelimit.read.burst=2",
+        "product.ratelimit.write.rate-per-second=0.1",
+        "product.ratelimit.write.burst=1",
+        "product.ratelimit.ingest.rate-per-second=0.1",
+        "product.ratelimit.ingest.burst=3",
+        "product.ratelimit.api-keys=dashboard,reporting,feed",
+        "product.ratelimit.trusted-proxies=10.0.0.1,10.0.0.2"
+})
+@AutoConfigureMockMvc
+class RateLimitConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testReadsOverBudgetGet429WithRetryAfter() throws Exception {
+        mockMvc.perform(get("/api/product/stats").header("X-API-Key", "dashboard")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/product/stats").header("X-API-Key", "dashboard")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/product/stats").header("X-API-Key", "dashboard"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"))
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded for reads, please retry later"));
+        mockMvc.perform(get("/api/product/stats").header("X-API-Key", "reporting")).andExpect(status().isOk());
+    }
+
+    @Test
+    void testUnknownApiKeysDoNotResetTheBudget() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            String apiKey = "rotated-" + i;
+            mockMvc.perform(get("/api/product/stats").header("X-API-Key", apiKey).with(request -> {
+                request.setRemoteAddr("192.0.2.2");
+                return request;
+            })).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/product/stats").header("X-API-Key", "rotated-2").with(request -> {
+            request.setRemoteAddr("192.0.2.2");
+            return request;
+        })).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void testWritesHaveTheirOwnBudget() throws Exception {
+        String body = "{\"name\":\"Limited\",\"description\":\"Rate limited product\",\"price\":5.00}";
+
+        mockMvc.perform(post("/api/product").header("X-API-Key", "feed")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/product").header("X-API-Key", "feed")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded for writes, please retry later"));
+
+        mockMvc.perform(get("/api/product/stats").header("X-API-Key", "feed")).andExpect(status().isOk());
+    }
+
+    @Test
+    void testIngestWritesStayWithinTheirOwnBudget() throws Exception {
+        String body = "{\"name\":\"Ingested\",\"description\":\"Rate limited feed\",\"price\":5.00}";
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/product/ingest").header("X-API-Key", "reporting")
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isAccepted());
+        }
+        mockMvc.perform(post("/api/product/ingest").header("X-API-Key", "reporting")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded for ingest writes, please retry later"));
+
+        mockMvc.perform(post("/api/product").header("X-API-Key", "reporting")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void testClientsBehindTrustedProxiesAreLimitedByForwardedAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/product/stats")
+                    .header("X-Forwarded-For", "198.51.100.9, 192.0.2.3, 10.0.0.2")
+                    .with(request -> {
+                        request.setRemoteAddr("10.0.0.1");
+                        return request;
+                    })).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/product/stats")
+                .header("X-Forwarded-For", "203.0.113.7, 192.0.2.3")
+                .with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                })).andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/product/stats")
+                .header("X-Forwarded-For", "192.0.2.4")
+                .with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                })).andExpect(status().isOk());
+        mockMvc.perform(get("/api/product/stats")
+                .header("X-Forwarded-For", "192.0.2.5")
+                .with(request -> {
+                    request.setRemoteAddr("192.0.2.3");
+                    return request;
+                })).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void testClientsWithoutApiKeyAreLimitedByAddress() throws Exception {
+        mockMvc.perform(get("/api/product/stats").with(request -> {
+            request.setRemoteAddr("192.0.2.1");
+            return request;
+        })).andExpect(status().isOk());
+        mockMvc.perform(get("/api/product/stats").with(request -> {
+            request.setRemoteAddr("192.0.2.1");
+            return request;
+        })).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/product/stats").with(request -> {
+            request.setRemoteAddr("192.0.2.1");
+            return request;
+        })).andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/actuator/health").with(request -> {
+            request.setRemoteAddr("192.0.2.1");
+            return request;
+        })).andExpect(status().isOk());
+    }
+
+    @Test
+    void testDisabled() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(RateLimitConfig.class, RateLimitProperties.class)
+                .withPropertyValues("product.ratelimit.enabled=false")
+                .run(context -> assertTrue(context.getBeansOfType(ClientRateLimiter.class).isEmpty()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.cursor.product.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:productcontroller")
+@AutoConfigureMockMvc
+class ProductControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testCreateProduct_IdInBodyIsIgnored() throws Exception {
+        String response = mockMvc.perform(post("/api/product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":424242,\"name\":\"Chosen Id\",\"description\":\"Client-supplied id\","
+                                + "\"price\":10.00}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value("Chosen Id"))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode created = objectMapper.readTree(response);
+        assertNotEquals(424242L, created.get("id").asLong());
+        mockMvc.perform(get("/api/product/{id}", created.get("id").asLong()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Chosen Id"));
+        mockMvc.perform(get("/api/product/{id}", 424242))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,27 +1,58 @@
 package com.cursor.product.controller;
 
+import com.cursor.product.config.IdempotencyConfig;
+import com.cursor.product.config.IdempotencyProperties;
+import com.cursor.product.config.RateLimitProperties;
+import com.cursor.product.config.WireFormatConfig;
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.BulkDeleteRequest;
+import com.cursor.product.domain.BulkDeleteResult;
+import com.cursor.product.domain.BulkItemResult;
 import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductPage;
+import com.cursor.product.domain.ProductPageRequest;
+import com.cursor.product.domain.ProductPatch;
+import com.cursor.product.domain.ProductSearchRequest;
+import com.cursor.product.domain.ProductSearchResult;
+import com.cursor.product.domain.ProductStats;
+import com.cursor.product.domain.SearchIndexRebuildResult;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.exception.ErrorResponse;
+import com.cursor.product.exception.PreconditionFailedException;
+import com.cursor.product.ratelimit.ClientResolver;
 import com.cursor.product.service.ProductService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(ProductController.class)
+@WebMvcTest(controllers = ProductController.class, properties = "product.ratelimit.enabled=false")
+@Import({IdempotencyConfig.class, IdempotencyProperties.class, ClientResolver.class, RateLimitProperties.class})
 class ProductControllerTest {
 
     @Autowired
@@ -56,6 +87,72 @@ class ProductControllerTest {
         verify(productService, times(1)).createProduct(any(ProductDto.class));
     }
 
+    @Test
+    void testCreateProduct_IdempotencyKeyReplaysFirstResponse() throws Exception {
+        ProductDto created = new ProductDto(7L, "Test Product", "Test Description", new BigDecimal("99.99"), 0L);
+        when(productService.createProduct(any(ProductDto.class))).thenReturn(created);
+        String body = objectMapper.writeValueAsString(new ProductDto(null, "Test Product", "Test Description",
+                new BigDecimal("99.99")));
+
+        mockMvc.perform(post("/api/product")
+                        .header("Idempotency-Key", "replay-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.id").value(7L));
+        mockMvc.perform(post("/api/product")
+                        .header("Idempotency-Key", "replay-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.replace("99.99", "99.990")))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(header().string("ETag", "\"7-0\""))
+                .andExpect(jsonPath("$.id").value(7L));
+
+        verify(productService, times(1)).createProduct(any(ProductDto.class));
+    }
+
+    @Test
+    void testCreateProduct_IdempotencyKeyReusedForDifferentProduct() throws Exception {
+        when(productService.createProduct(any(ProductDto.class))).thenReturn(productDto);
+
+        mockMvc.perform(post("/api/product")
+                        .header("Idempotency-Key", "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDto)))
+                .andExpect(status().isCreated());
+        productDto.setName("Another Product");
+        mockMvc.perform(post("/api/product")
+                        .header("Idempotency-Key", "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDto)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Idempotency-Key was already used for a different request"));
+
+        verify(productService, times(1)).createProduct(any(ProductDto.class));
+    }
+
+    @Test
+    void testCreateProduct_IdempotencyKeysAreScopedByClient() throws Exception {
+        when(productService.createProduct(any(ProductDto.class))).thenReturn(productDto);
+        String body = objectMapper.writeValueAsString(productDto);
+
+        mockMvc.perform(post("/api/product").with(request -> {
+                    request.setRemoteAddr("192.0.2.1");
+                    return request;
+                }).header("Idempotency-Key", "shared-key").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/product").with(request -> {
+                    request.setRemoteAddr("192.0.2.2");
+                    return request;
+                }).header("Idempotency-Key", "shared-key").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        verify(productService, times(2)).createProduct(any(ProductDto.class));
+    }
+
     @Test
     void testGetProductById() throws Exception {
         when(productService.getProductById(1L)).thenReturn(productDto);
@@ -70,6 +167,16 @@ class ProductControllerTest {
         verify(productService, times(1)).getProductById(1L);
     }
 
+    @Test
+    void testGetProductById_NonNumericId() throws Exception {
+        mockMvc.perform(get("/api/product/abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"))
+                .andExpect(jsonPath("$.message").value("Invalid value 'abc' for parameter id"));
+
+        verifyNoInteractions(productService);
+    }
+
     @Test
     void testGetAllProducts() throws Exception {
         List<ProductDto> products = Arrays.asList(
@@ -91,7 +198,7 @@ class ProductControllerTest {
     @Test
     void testUpdateProduct() throws Exception {
         ProductDto updatedDto = new ProductDto(1L, "Updated Product", "Updated Description", new BigDecimal("149.99"));
-        when(productService.updateProduct(eq(1L), any(ProductDto.class))).thenReturn(updatedDto);
+        when(productService.updateProduct(eq(1L), any(ProductDto.class), isNull())).thenReturn(updatedDto);
 
         mockMvc.perform(put("/api/product/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -100,7 +207,100 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.name").value("Updated Product"))
                 .andExpect(jsonPath("$.price").value(149.99));
 
-        verify(productService, times(1)).updateProduct(eq(1L), any(ProductDto.class));
+        verify(productService, times(1)).updateProduct(eq(1L), any(ProductDto.class), isNull());
+    }
+
+    @Test
+    void testUpdateProduct_IfMatch() throws Exception {
+        ProductDto updatedDto = new ProductDto(1L, "Updated Product", "Updated Description", new BigDecimal("149.99"));
+        updatedDto.setVersion(4L);
+        when(productService.updateProduct(eq(1L), any(ProductDto.class), eq(3L))).thenReturn(updatedDto);
+
+        mockMvc.perform(put("/api/product/1")
+                        .header("If-Match", "\"1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4\""));
+    }
+
+    @Test
+    void testUpdateProduct_IfMatchStale() throws Exception {
+        when(productService.updateProduct(eq(1L), any(ProductDto.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("Product 1 is at version 3, not 2"));
+
+        mockMvc.perform(put("/api/product/1")
+                        .header("If-Match", "\"1-2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Precondition Failed"));
+    }
+
+    @Test
+    void testUpdateProduct_IfMatchForOtherProduct() throws Exception {
+        mockMvc.perform(put("/api/product/1")
+                        .header("If-Match", "\"2-3\", W/\"1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDto)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(productService, never()).updateProduct(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateProduct_IfMatchAny() throws Exception {
+        when(productService.updateProduct(eq(1L), any(ProductDto.class), isNull())).thenReturn(productDto);
+
+        mockMvc.perform(put("/api/product/1")
+                        .header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPatchProduct() throws Exception {
+        ProductDto patched = new ProductDto(1L, "Test Product", "Test Description", new BigDecimal("5.00"));
+        patched.setVersion(4L);
+        when(productService.patchProduct(eq(1L), any(ProductPatch.class), eq(3L))).thenReturn(patched);
+
+        mockMvc.perform(patch("/api/product/1")
+                        .header("If-Match", "\"1-3\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"price\": 5.00}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4\""))
+                .andExpect(jsonPath("$.price").value(5.00));
+
+        verify(productService, times(1)).patchProduct(1L,
+                new ProductPatch(new ProductDto(null, null, null, new BigDecimal("5.00")), Set.of("price")), 3L);
+    }
+
+    @Test
+    void testPatchProduct_RejectsUnpatchableField() throws Exception {
+        mockMvc.perform(patch("/api/product/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"id\": 2, \"name\": \"Renamed\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Field cannot be patched: id"));
+
+        mockMvc.perform(patch("/api/product/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"price\": \"cheap\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/product/1")
+                        .contentType("application/merge-patch+json")
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/product/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\":"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).patchProduct(any(), any(), any());
     }
 
     @Test
@@ -145,7 +345,7 @@ class ProductControllerTest {
                         .content(objectMapper.writeValueAsString(invalidDto)))
                 .andExpect(status().isBadRequest());
 
-        verify(productService, never()).updateProduct(any(), any());
+        verify(productService, never()).updateProduct(any(), any(), any());
     }
 
     @Test
@@ -159,5 +359,355 @@ class ProductControllerTest {
 
         verify(productService, never()).createProduct(any());
     }
-}
 
+    @Test
+    void testGetProductPage() throws Exception {
+        ProductPage page = new ProductPage(List.of(productDto), 1, "next-token");
+        when(productService.getProductPage(any(ProductPageRequest.class))).thenReturn(page);
+
+        mockMvc.perform(get("/api/product/page")
+                        .param("sort", "price")
+                        .param("direction", "desc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.nextPageToken").value("next-token"));
+
+        verify(productService, times(1)).getProductPage(new ProductPageRequest("price", "desc", 1, null));
+    }
+
+    @Test
+    void testGetProductPage_PriceRange() throws Exception {
+        when(productService.getProductPage(any(ProductPageRequest.class))).thenReturn(new ProductPage(List.of(), 20, null));
+
+        mockMvc.perform(get("/api/product/page")
+                        .param("sort", "price")
+                        .param("minPrice", "20")
+                        .param("maxPrice", "50.00"))
+                .andExpect(status().isOk());
+
+        verify(productService, times(1)).getProductPage(new ProductPageRequest("price", null, null, null,
+                new BigDecimal("20"), new BigDecimal("50.00")));
+    }
+
+    @Test
+    void testGetProductPage_BadRequest() throws Exception {
+        when(productService.getProductPage(any(ProductPageRequest.class)))
+                .thenThrow(new BadRequestException("Invalid page token"));
+
+        mockMvc.perform(get("/api/product/page").param("pageToken", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"))
+                .andExpect(jsonPath("$.message").value("Invalid page token"));
+    }
+
+    @Test
+    void testSearchProducts() throws Exception {
+        ProductSearchResult result = new ProductSearchResult(List.of(productDto), 0, 20, 1, true);
+        when(productService.searchProducts(any(ProductSearchRequest.class))).thenReturn(result);
+
+        mockMvc.perform(get("/api/product/search").param("q", "test product"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.totalHits").value(1))
+                .andExpect(jsonPath("$.totalHitsExact").value(true));
+
+        verify(productService, times(1)).searchProducts(new ProductSearchRequest("test product", null, null));
+    }
+
+    @Test
+    void testRebuildSearchIndex() throws Exception {
+        when(productService.rebuildSearchIndex()).thenReturn(new SearchIndexRebuildResult(5));
+
+        mockMvc.perform(post("/api/product/search/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.indexed").value(5));
+    }
+
+    @Test
+    void testGetProductStats() throws Exception {
+        ProductDto cheapest = new ProductDto(2L, "Cheap", "Cheap product", new BigDecimal("9.99"));
+        ProductStats stats = new ProductStats(2L, new BigDecimal("109.98"), productDto, cheapest);
+        when(productService.getProductStats()).thenReturn(stats);
+
+        mockMvc.perform(get("/api/product/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalProducts").value(2))
+                .andExpect(jsonPath("$.totalValue").value(109.98))
+                .andExpect(jsonPath("$.mostExpensive.id").value(1L))
+                .andExpect(jsonPath("$.leastExpensive.id").value(2L));
+
+        verify(productService, times(1)).getProductStats();
+    }
+
+    @Test
+    void testGetProductById_ETag() throws Exception {
+        productDto.setVersion(3L);
+        when(productService.getProductById(1L)).thenReturn(productDto);
+
+        mockMvc.perform(get("/api/product/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""))
+                .andExpect(jsonPath("$.version").value(3));
+
+        mockMvc.perform(get("/api/product/1").header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-3\""))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/product/1").header("If-None-Match", "\"1-2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetProductById_ETagPerRepresentation() throws Exception {
+        productDto.setVersion(3L);
+        when(productService.getProductById(1L)).thenReturn(productDto);
+
+        mockMvc.perform(get("/api/product/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"1-3-cbor\""));
+        mockMvc.perform(get("/api/product/1").accept(WireFormatConfig.APPLICATION_SMILE, MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WireFormatConfig.APPLICATION_SMILE))
+                .andExpect(header().string("ETag", "\"1-3-smile\""));
+
+        mockMvc.perform(get("/api/product/1").accept(MediaType.APPLICATION_CBOR).header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3-cbor\""));
+        mockMvc.perform(get("/api/product/1").accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", "\"1-3-cbor\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testUpdateProduct_IfMatchWithBinaryRepresentationETag() throws Exception {
+        ProductDto updatedDto = new ProductDto(1L, "Updated Product", "Updated Description", new BigDecimal("149.99"));
+        updatedDto.setVersion(4L);
+        when(productService.updateProduct(eq(1L), any(ProductDto.class), eq(3L))).thenReturn(updatedDto);
+
+        mockMvc.perform(put("/api/product/1")
+                        .header("If-Match", "\"1-3-cbor\"")
+                        .accept(WireFormatConfig.APPLICATION_SMILE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4-smile\""));
+    }
+
+    @Test
+    void testGetAllProducts_NotModified() throws Exception {
+        when(productService.getCatalogVersion()).thenReturn("abc.7");
+        when(productService.getAllProducts()).thenReturn(List.of(productDto));
+
+        mockMvc.perform(get("/api/product"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"cabc.7\""));
+
+        mockMvc.perform(get("/api/product").header("If-None-Match", "W/\"cabc.7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/product").header("If-None-Match", "\"cabc.7\""))
+                .andExpect(status().isNotModified());
+
+        verify(productService, times(1)).getAllProducts();
+    }
+
+    @Test
+    void testGetProductPage_NotModified() throws Exception {
+        when(productService.getCatalogVersion()).thenReturn("abc.7");
+
+        mockMvc.perform(get("/api/product/page").header("If-None-Match", "\"cabc.7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"cabc.7\""));
+
+        verify(productService, never()).getProductPage(any());
+    }
+
+    @Test
+    void testGetProductStats_NotModified() throws Exception {
+        when(productService.getCatalogVersion()).thenReturn("abc.8");
+
+        mockMvc.perform(get("/api/product/stats").header("If-None-Match", "\"cabc.7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"cabc.8\""));
+
+        mockMvc.perform(get("/api/product/stats").header("If-None-Match", "W/\"cabc.8\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"cabc.8\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(content().string(""));
+
+        verify(productService, times(1)).getProductStats();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportProducts() throws Exception {
+        ProductDto second = new ProductDto(2L, "Product 2", "Description 2", new BigDecimal("199.99"));
+        doAnswer(invocation -> {
+            Consumer<ProductDto> consumer = invocation.getArgument(0);
+            consumer.accept(productDto);
+            consumer.accept(second);
+            return null;
+        }).when(productService).exportProducts(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/product/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String expected = objectMapper.writeValueAsString(productDto) + "\n"
+                + objectMapper.writeValueAsString(second) + "\n";
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("application/x-ndjson")))
+                .andExpect(content().string(expected));
+
+        verify(productService, times(1)).exportProducts(any(Consumer.class));
+    }
+
+    @Test
+    void testCreateProduct_Cbor() throws Exception {
+        ObjectMapper cbor = WireFormatConfig.cborMapper(objectMapper);
+        when(productService.createProduct(any(ProductDto.class))).thenReturn(productDto);
+
+        MvcResult result = mockMvc.perform(post("/api/product")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(new ProductDto(null, "Test Product", "Test Description",
+                                new BigDecimal("99.99")))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn();
+
+        assertEquals(productDto, cbor.readValue(result.getResponse().getContentAsByteArray(), ProductDto.class));
+        verify(productService).createProduct(new ProductDto(null, "Test Product", "Test Description",
+                new BigDecimal("99.99")));
+    }
+
+    @Test
+    void testCreateProduct_SmileValidationError() throws Exception {
+        ObjectMapper smile = WireFormatConfig.smileMapper(objectMapper);
+
+        MvcResult result = mockMvc.perform(post("/api/product")
+                        .contentType(WireFormatConfig.APPLICATION_SMILE)
+                        .accept(WireFormatConfig.APPLICATION_SMILE)
+                        .content(smile.writeValueAsBytes(new ProductDto(null, "", "Test Description",
+                                new BigDecimal("-1.00")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(WireFormatConfig.APPLICATION_SMILE))
+                .andReturn();
+
+        ErrorResponse error = smile.readValue(result.getResponse().getContentAsByteArray(), ErrorResponse.class);
+        assertEquals("Validation Failed", error.getError());
+        assertEquals(2, error.getValidationErrors().size());
+        assertNotNull(error.getTimestamp());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void testGetAllProducts_Smile() throws Exception {
+        ObjectMapper smile = WireFormatConfig.smileMapper(objectMapper);
+        List<ProductDto> products = List.of(productDto,
+                new ProductDto(2L, "Product 2", "Description 2", new BigDecimal("199.99")));
+        when(productService.getAllProducts()).thenReturn(products);
+
+        MvcResult result = mockMvc.perform(get("/api/product").accept(WireFormatConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WireFormatConfig.APPLICATION_SMILE))
+                .andReturn();
+
+        assertEquals(products, smile.readValue(result.getResponse().getContentAsByteArray(),
+                new TypeReference<List<ProductDto>>() {
+                }));
+    }
+
+    @Test
+    void testPatchProduct_Cbor() throws Exception {
+        ObjectMapper cbor = WireFormatConfig.cborMapper(objectMapper);
+        when(productService.patchProduct(eq(1L), any(ProductPatch.class), isNull())).thenReturn(productDto);
+
+        mockMvc.perform(patch("/api/product/1")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(Map.of("price", new BigDecimal("5.00")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+
+        verify(productService).patchProduct(1L,
+                new ProductPatch(new ProductDto(null, null, null, new BigDecimal("5.00")), Set.of("price")), null);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportProducts_CborSequence() throws Exception {
+        ObjectMapper cbor = WireFormatConfig.cborMapper(objectMapper);
+        ProductDto second = new ProductDto(2L, "Product 2", "Description 2", new BigDecimal("199.99"));
+        doAnswer(invocation -> {
+            Consumer<ProductDto> consumer = invocation.getArgument(0);
+            consumer.accept(productDto);
+            consumer.accept(second);
+            return null;
+        }).when(productService).exportProducts(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/product/export")
+                        .accept(WireFormatConfig.APPLICATION_CBOR_SEQ, MediaType.ALL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WireFormatConfig.APPLICATION_CBOR_SEQ))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(List.of(productDto, second), cbor.readerFor(ProductDto.class).readValues(body).readAll());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateProducts() throws Exception {
+        BulkCreateResult bulkResult = new BulkCreateResult(1, 1, 0, List.of(
+                new BulkItemResult(0, BulkItemResult.Status.CREATED, 1L, null),
+                new BulkItemResult(1, BulkItemResult.Status.REJECTED, null, List.of("name: Product name is required"))));
+        when(productService.createProducts(any(List.class))).thenReturn(bulkResult);
+
+        mockMvc.perform(post("/api/product/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(productDto,
+                                new ProductDto(null, "", "Description", new BigDecimal("1.00"))))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[1].errors[0]").value("name: Product name is required"));
+
+        verify(productService, times(1)).createProducts(any(List.class));
+    }
+
+    @Test
+    void testCreateProducts_MalformedBody() throws Exception {
+        mockMvc.perform(post("/api/product/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Malformed Request"));
+
+        verify(productService, never()).createProducts(any());
+    }
+
+    @Test
+    void testDeleteProducts() throws Exception {
+        BulkDeleteRequest request = new BulkDeleteRequest(null, new BigDecimal("10.00"), new BigDecimal("20.00"));
+        when(productService.deleteProducts(request)).thenReturn(new BulkDeleteResult(3));
+
+        mockMvc.perform(post("/api/product/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3));
+
+        verify(productService, times(1)).deleteProducts(request);
+    }
+}
@@ -0,0 +1,67 @@
+package com.cursor.product.controller;
+
+import com.cursor.product.domain.ImportRejectedRow;
+import com.cursor.product.domain.ProductImportResult;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.service.ProductImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ProductImportController.class, properties = "product.ratelimit.enabled=false")
+class ProductImportControllerTest {
+
+    private static final String CSV = "name,description,price\nShirt,Cotton shirt,29.99\n,No name,1.00\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductImportService productImportService;
+
+    @Test
+    void testImportProducts_StreamsBodyToService() throws Exception {
+        when(productImportService.importCsv(eq("catalog-2026"), any(InputStream.class))).thenAnswer(invocation -> {
+            String body = new String(invocation.<InputStream>getArgument(1).readAllBytes(), StandardCharsets.UTF_8);
+            if (!body.equals(CSV)) {
+                throw new AssertionError("Unexpected body: " + body);
+            }
+            return new ProductImportResult("catalog-2026", ProductImportResult.Status.COMPLETED, null, 0, 2, 2, 1, 1,
+                    12, 166, List.of(new ImportRejectedRow(2, List.of("name: Product name is required"))));
+        });
+
+        mockMvc.perform(put("/api/product/import/catalog-2026")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rowsPerSecond").value(166))
+                .andExpect(jsonPath("$.rejectedRows[0].row").value(2))
+                .andExpect(jsonPath("$.rejectedRows[0].errors[0]").value("name: Product name is required"));
+    }
+
+    @Test
+    void testImportProducts_InvalidHeader() throws Exception {
+        when(productImportService.importCsv(eq("catalog"), any(InputStream.class)))
+                .thenThrow(new BadRequestException("CSV header is missing the columns price"));
+
+        mockMvc.perform(put("/api/product/import/catalog")
+                        .contentType("text/csv")
+                        .content("name,description\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV header is missing the columns price"));
+    }
+}
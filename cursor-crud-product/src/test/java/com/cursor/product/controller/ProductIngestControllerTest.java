@@ -0,0 +1,101 @@
+package com.cursor.product.controller;
+
+import com.cursor.product.domain.IngestJob;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.ResourceNotFoundException;
+import com.cursor.product.exception.TooManyRequestsException;
+import com.cursor.product.service.ProductIngestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ProductIngestController.class, properties = "product.ratelimit.enabled=false")
+class ProductIngestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductIngestService productIngestService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ProductDto productDto = new ProductDto(null, "Supplier Product", "From a feed", new BigDecimal("12.50"));
+
+    @Test
+    void testIngestProduct_Accepted() throws Exception {
+        when(productIngestService.submit(any(ProductDto.class))).thenReturn(
+                new IngestJob("job-1", IngestJob.Status.QUEUED, null, null, LocalDateTime.now(), null));
+
+        mockMvc.perform(post("/api/product/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDto)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/product/ingest/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(productIngestService).submit(any(ProductDto.class));
+    }
+
+    @Test
+    void testIngestProduct_ValidationError() throws Exception {
+        ProductDto invalid = new ProductDto(null, "", "No name", new BigDecimal("-1.00"));
+
+        mockMvc.perform(post("/api/product/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalid)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+
+        verifyNoInteractions(productIngestService);
+    }
+
+    @Test
+    void testIngestProduct_QueueFull() throws Exception {
+        when(productIngestService.submit(any(ProductDto.class))).thenThrow(
+                new TooManyRequestsException("Ingest queue is full, please retry later", Duration.ofSeconds(1)));
+
+        mockMvc.perform(post("/api/product/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productDto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Ingest queue is full, please retry later"));
+    }
+
+    @Test
+    void testGetIngestJob_Persisted() throws Exception {
+        when(productIngestService.getJob("job-1")).thenReturn(new IngestJob("job-1", IngestJob.Status.PERSISTED,
+                42L, null, LocalDateTime.now(), LocalDateTime.now()));
+
+        mockMvc.perform(get("/api/product/ingest/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PERSISTED"))
+                .andExpect(jsonPath("$.productId").value(42));
+    }
+
+    @Test
+    void testGetIngestJob_NotFound() throws Exception {
+        when(productIngestService.getJob("missing")).thenThrow(
+                new ResourceNotFoundException("Ingest job not found with id: missing"));
+
+        mockMvc.perform(get("/api/product/ingest/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Ingest job not found with id: missing"));
+    }
+}
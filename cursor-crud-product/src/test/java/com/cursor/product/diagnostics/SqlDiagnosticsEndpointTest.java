@@ -0,0 +1,132 @@
+package com.cursor.product.diagnostics;
+
+import com.cursor.product.domain.SqlDiagnosticsStatus;
+import com.cursor.product.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diagnostics",
+        "product.diagnostics.enabled=true"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class SqlDiagnosticsEndpointTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("12345.67");
+
+    @Autowired
+    private SqlDiagnosticsEndpoint endpoint;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        endpoint.configure(true, Duration.ofMillis(200), 0.0);
+    }
+
+    @Test
+    void testSlowStatementsAreLoggedWithParameterShapeOnly(CapturedOutput output) {
+        endpoint.configure(null, Duration.ZERO, null);
+
+        countProductsAbove(PRICE);
+
+        assertTrue(output.getOut().contains("Slow SQL statement took"));
+        assertTrue(output.getOut().contains("WHERE price > ? parameters [BigDecimal]"));
+        assertFalse(output.getOut().contains("12345.67"));
+        assertTrue(endpoint.status().getSlowStatements() > 0);
+    }
+
+    @Test
+    void testSampledStatementsAreLoggedWithValues(CapturedOutput output) {
+        SqlDiagnosticsStatus status = endpoint.configure(null, Duration.ofHours(1), 1.0);
+
+        countProductsAbove(PRICE);
+
+        assertEquals(1.0, status.getSampleRate());
+        assertTrue(output.getOut().contains("Sampled SQL statement took"));
+        assertTrue(output.getOut().contains("WHERE price > ? parameters [12345.67]"));
+    }
+
+    @Test
+    void testDisablingStopsStatisticsTimingAndLogging(CapturedOutput output) {
+        Timer selects = meterRegistry.find("sql.statements").tag("command", "select").timer();
+        assertNotNull(selects);
+
+        SqlDiagnosticsStatus status = endpoint.configure(false, Duration.ZERO, 1.0);
+        long timed = selects.count();
+        countProductsAbove(PRICE);
+
+        assertFalse(status.isEnabled());
+        assertFalse(entityManagerFactory.unwrap(SessionFactory.class).getStatistics().isStatisticsEnabled());
+        assertEquals(timed, selects.count());
+        assertFalse(output.getOut().contains("SQL statement took"));
+    }
+
+    @Test
+    void testHibernateStatisticsArePublishedAsMetrics() {
+        productService.getAllProducts();
+
+        assertNotNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.entities.loads").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.flushes").functionCounter());
+        assertTrue(meterRegistry.find("sql.statements").tag("command", "select").timer().count() > 0);
+        assertTrue(endpoint.status().getQueryExecutions() > 0);
+    }
+
+    @Test
+    void testEndpointIsExposedAndRejectsInvalidSampleRate() throws Exception {
+        mockMvc.perform(get("/actuator/sqldiagnostics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.slowQueryThresholdMs").value(200));
+
+        mockMvc.perform(post("/actuator/sqldiagnostics")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sampleRate\": 2}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/actuator/sqldiagnostics")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"slowQueryThreshold\": \"50ms\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.slowQueryThresholdMs").value(50));
+    }
+
+    private void countProductsAbove(BigDecimal price) {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE price > ?", Long.class, price);
+    }
+}
@@ -0,0 +1,30 @@
+package com.cursor.product.domain;
+
+import com.cursor.product.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSortFieldTest {
+
+    @Test
+    void testFromParameterIgnoresCase() {
+        assertEquals(ProductSortField.ID, ProductSortField.fromParameter("id"));
+        assertEquals(ProductSortField.NAME, ProductSortField.fromParameter("Name"));
+        assertEquals(ProductSortField.PRICE, ProductSortField.fromParameter("PRICE"));
+    }
+
+    @Test
+    void testFromParameterRejectsUnknownField() {
+        assertThrows(BadRequestException.class, () -> ProductSortField.fromParameter("description"));
+    }
+
+    @Test
+    void testParseKey() {
+        assertEquals(5L, ProductSortField.ID.parseKey("5"));
+        assertEquals("Shirt", ProductSortField.NAME.parseKey("Shirt"));
+        assertEquals(new BigDecimal("29.99"), ProductSortField.PRICE.parseKey("29.99"));
+    }
+}
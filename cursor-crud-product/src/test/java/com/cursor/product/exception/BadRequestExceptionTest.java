@@ -0,0 +1,36 @@
+package com.cursor.product.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BadRequestExceptionTest {
+
+    @Test
+    void testConstructorWithMessage() {
+        String message = "Invalid page token";
+        BadRequestException exception = new BadRequestException(message);
+
+        assertNotNull(exception);
+        assertEquals(message, exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    void testConstructorWithMessageAndCause() {
+        String message = "Invalid page token";
+        Throwable cause = new RuntimeException("Decode error");
+        BadRequestException exception = new BadRequestException(message, cause);
+
+        assertNotNull(exception);
+        assertEquals(message, exception.getMessage());
+        assertEquals(cause, exception.getCause());
+    }
+
+    @Test
+    void testExceptionIsRuntimeException() {
+        BadRequestException exception = new BadRequestException("Test");
+        assertTrue(exception instanceof RuntimeException);
+    }
+}
+
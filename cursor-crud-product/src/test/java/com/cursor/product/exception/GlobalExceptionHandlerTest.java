@@ -8,13 +8,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -53,6 +58,64 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody().getTimestamp());
     }
 
+    @Test
+    void testHandleBadRequestException() {
+        BadRequestException ex = new BadRequestException("Invalid page token");
+
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleBadRequestException(ex, webRequest);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(400, response.getBody().getStatus());
+        assertEquals("Bad Request", response.getBody().getError());
+        assertEquals("Invalid page token", response.getBody().getMessage());
+        assertEquals("/api/product/1", response.getBody().getPath());
+    }
+
+    @Test
+    void testHandlePreconditionFailedException() {
+        PreconditionFailedException ex = new PreconditionFailedException("Product 1 is at version 3, not 2");
+
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handlePreconditionFailedException(ex, webRequest);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(412, response.getBody().getStatus());
+        assertEquals("Precondition Failed", response.getBody().getError());
+        assertEquals("Product 1 is at version 3, not 2", response.getBody().getMessage());
+        assertEquals("/api/product/1", response.getBody().getPath());
+    }
+
+    @Test
+    void testHandleOptimisticLockingFailureException() {
+        OptimisticLockingFailureException ex = new OptimisticLockingFailureException("Row was updated");
+
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleOptimisticLockingFailureException(ex, webRequest);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(409, response.getBody().getStatus());
+        assertEquals("Conflict", response.getBody().getError());
+        assertEquals("/api/product/1", response.getBody().getPath());
+    }
+
+    @Test
+    void testHandleHttpMessageNotReadableException() {
+        HttpMessageNotReadableException ex = mock(HttpMessageNotReadableException.class);
+
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleHttpMessageNotReadableException(ex, webRequest);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(400, response.getBody().getStatus());
+        assertEquals("Malformed Request", response.getBody().getError());
+        assertEquals("/api/product/1", response.getBody().getPath());
+    }
+
     @Test
     void testHandleValidationExceptions() {
         MethodArgumentNotValidException ex = mock(MethodArgumentNotValidException.class);
@@ -111,6 +174,38 @@ class GlobalExceptionHandlerTest {
         assertTrue(response.getBody().getValidationErrors().contains("Name cannot be empty"));
     }
 
+    @Test
+    void testHandleTooManyRequestsException() {
+        TooManyRequestsException ex = new TooManyRequestsException("Ingest queue is full, please retry later",
+                Duration.ofMillis(1500));
+
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleTooManyRequestsException(ex, webRequest);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(429, response.getBody().getStatus());
+        assertEquals("Too Many Requests", response.getBody().getError());
+        assertEquals("Ingest queue is full, please retry later", response.getBody().getMessage());
+        assertEquals("/api/product/1", response.getBody().getPath());
+    }
+
+    @Test
+    void testHandleResponseStatusException() {
+        ResponseStatusException ex = new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing parameters: enabled");
+
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleResponseStatusException(ex, webRequest);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(400, response.getBody().getStatus());
+        assertEquals("Bad Request", response.getBody().getError());
+        assertEquals("Missing parameters: enabled", response.getBody().getMessage());
+        assertEquals("/api/product/1", response.getBody().getPath());
+    }
+
     @Test
     void testHandleGlobalException() {
         Exception ex = new RuntimeException("Unexpected error occurred");
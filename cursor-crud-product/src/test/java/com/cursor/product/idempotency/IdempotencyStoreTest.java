@@ -0,0 +1,162 @@
+package com.cursor.product.idempotency;
+
+import com.cursor.product.config.IdempotencyProperties;
+import com.cursor.product.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private static final String CLIENT = "ip:192.0.2.1";
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private IdempotencyStore<String> store;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+        store = new IdempotencyStore<>("test", properties, String::length);
+    }
+
+    @Test
+    void testExecute_RunsOncePerKey() {
+        byte[] fingerprint = IdempotencyStore.fingerprint("Shirt", new BigDecimal("10.50"));
+
+        IdempotencyStore.Result<String> first = store.execute(CLIENT, "key-1", fingerprint, this::create);
+        IdempotencyStore.Result<String> retry = store.execute(CLIENT, "key-1",
+                IdempotencyStore.fingerprint("Shirt", new BigDecimal("10.5")), this::create);
+        IdempotencyStore.Result<String> other = store.execute(CLIENT, "key-2", fingerprint, this::create);
+
+        assertEquals(new IdempotencyStore.Result<>("created-1", false), first);
+        assertEquals(new IdempotencyStore.Result<>("created-1", true), retry);
+        assertEquals(new IdempotencyStore.Result<>("created-2", false), other);
+        assertEquals(2, runs.get());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testExecute_KeysAreScopedByClient() {
+        IdempotencyStore.Result<String> first = store.execute(CLIENT, "key", IdempotencyStore.fingerprint("Shirt"),
+                this::create);
+        IdempotencyStore.Result<String> other = store.execute("ip:192.0.2.2", "key",
+                IdempotencyStore.fingerprint("Socks"), this::create);
+
+        assertEquals(new IdempotencyStore.Result<>("created-1", false), first);
+        assertEquals(new IdempotencyStore.Result<>("created-2", false), other);
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void testExecute_DifferentRequestWithSameKey() {
+        store.execute(CLIENT, "key", IdempotencyStore.fingerprint("Shirt"), this::create);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> store.execute(CLIENT, "key", IdempotencyStore.fingerprint("Socks"), this::create));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, ex.getStatusCode());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testExecute_ConcurrentDuplicateWaitsForFirst() throws Exception {
+        byte[] fingerprint = IdempotencyStore.fingerprint("Shirt");
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyStore.Result<String>> first = CompletableFuture.supplyAsync(() ->
+                store.execute(CLIENT, "key", fingerprint, () -> {
+                    running.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<IdempotencyStore.Result<String>> duplicate = CompletableFuture.supplyAsync(() ->
+                store.execute(CLIENT, "key", fingerprint, this::create));
+        Thread.sleep(100);
+        assertFalse(duplicate.isDone());
+        release.countDown();
+
+        assertEquals(new IdempotencyStore.Result<>("created-1", false), first.get(5, TimeUnit.SECONDS));
+        assertEquals(new IdempotencyStore.Result<>("created-1", true), duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testExecute_DuplicateGivesUpAfterWaitTimeout() throws Exception {
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        store = new IdempotencyStore<>("test", properties, String::length);
+        byte[] fingerprint = IdempotencyStore.fingerprint("Shirt");
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyStore.Result<String>> first = CompletableFuture.supplyAsync(() ->
+                store.execute(CLIENT, "key", fingerprint, () -> {
+                    running.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> store.execute(CLIENT, "key", fingerprint, this::create));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        release.countDown();
+        assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+    }
+
+    @Test
+    void testExecute_FailedRequestIsForgotten() {
+        byte[] fingerprint = IdempotencyStore.fingerprint("Shirt");
+
+        assertThrows(IllegalStateException.class, () -> store.execute(CLIENT, "key", fingerprint, () -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+        IdempotencyStore.Result<String> retry = store.execute(CLIENT, "key", fingerprint, this::create);
+
+        assertEquals(new IdempotencyStore.Result<>("created-1", false), retry);
+    }
+
+    @Test
+    void testExecute_InvalidKey() {
+        byte[] fingerprint = IdempotencyStore.fingerprint("Shirt");
+
+        assertThrows(BadRequestException.class, () -> store.execute(CLIENT, " ", fingerprint, this::create));
+        assertThrows(BadRequestException.class, () -> store.execute(CLIENT, "k".repeat(256), fingerprint, this::create));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testFingerprint_KeepsValueBoundaries() {
+        assertArrayEquals(IdempotencyStore.fingerprint("ab", "c"), IdempotencyStore.fingerprint("ab", "c"));
+        assertFalse(Arrays.equals(IdempotencyStore.fingerprint("ab", "c"),
+                IdempotencyStore.fingerprint("a", "bc")));
+        assertFalse(Arrays.equals(IdempotencyStore.fingerprint(null, "x"),
+                IdempotencyStore.fingerprint("", "x")));
+    }
+
+    private String create() {
+        return "created-" + runs.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
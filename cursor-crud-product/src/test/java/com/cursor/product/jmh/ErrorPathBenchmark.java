@@ -0,0 +1,82 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.controller.ProductController;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.ErrorResponse;
+import com.cursor.product.exception.GlobalExceptionHandler;
+import com.cursor.product.exception.ResourceNotFoundException;
+import com.cursor.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * JMH benchmark of the not-found error path.
+ * <p>
+ * {@code handleNotFound} calls {@link GlobalExceptionHandler} directly, including creating
+ * the exception; {@code dispatchNotFound} sends GET /api/product/{id} through Spring MVC
+ * to a service that throws, so it also covers handler resolution and JSON rendering.
+ * Run with {@code mvn -Pjmh test -Djmh.args=ErrorPathBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+    private ServletWebRequest webRequest;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/product/42"));
+        // Every call fails like a lookup of a missing product.
+        ProductService productService = (ProductService) Proxy.newProxyInstance(
+                ProductService.class.getClassLoader(), new Class<?>[]{ProductService.class},
+                (proxy, method, args) -> {
+                    throw new ResourceNotFoundException("Product not found with id: " + args[0]);
+                });
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProductController(productService, objectMapper, null, null))
+                .setControllerAdvice(exceptionHandler)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleNotFound() {
+        return exceptionHandler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Product not found with id: 42"), webRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse dispatchNotFound() throws Exception {
+        return mockMvc.perform(get("/api/product/{id}", 42)).andReturn().getResponse();
+    }
+}
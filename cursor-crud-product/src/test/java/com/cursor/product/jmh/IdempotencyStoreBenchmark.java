@@ -0,0 +1,84 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.config.IdempotencyConfig;
+import com.cursor.product.config.IdempotencyProperties;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.idempotency.IdempotencyStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the Idempotency-Key store behind {@code POST /api/product}, filled to its
+ * memory bound so that every new key evicts an old one.
+ * <p>
+ * {@code fingerprint} hashes a product, {@code replay} looks up a stored key as a retry
+ * does, and {@code firstRequest} stores a new key. The number of keys that fit in the
+ * bound is printed during setup. Run with
+ * {@code mvn -Pjmh test -Djmh.args=IdempotencyStoreBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdempotencyStoreBenchmark {
+
+    private static final String CLIENT = "ip:192.0.2.1";
+
+    @Param({"32"})
+    public int maxMemoryMegabytes;
+
+    private IdempotencyStore<ProductDto> store;
+    private ProductDto product;
+    private byte[] fingerprint;
+    private String storedKey;
+    private long nextKey;
+
+    @Setup
+    public void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaxMemory(DataSize.ofMegabytes(maxMemoryMegabytes));
+        store = new IdempotencyConfig().productIdempotencyStore(properties);
+        product = new ProductDto(42L, "Cotton Shirt", "Comfortable cotton shirt for everyday wear",
+                new BigDecimal("29.99"), 0L);
+        fingerprint = fingerprint();
+        for (int i = 0; i < 500_000; i++) {
+            store.execute(CLIENT, UUID.randomUUID().toString(), fingerprint, () -> product);
+        }
+        storedKey = UUID.randomUUID().toString();
+        store.execute(CLIENT, storedKey, fingerprint, () -> product);
+        System.out.printf("%n%,d keys stored within %d MB%n", store.size(), maxMemoryMegabytes);
+    }
+
+    @Benchmark
+    public byte[] fingerprint() {
+        return IdempotencyStore.fingerprint(product.getId(), product.getName(), product.getDescription(),
+                product.getPrice());
+    }
+
+    @Benchmark
+    public IdempotencyStore.Result<ProductDto> replay() {
+        return store.execute(CLIENT, storedKey, fingerprint, () -> product);
+    }
+
+    @Benchmark
+    public IdempotencyStore.Result<ProductDto> firstRequest() {
+        return store.execute(CLIENT, "key-" + nextKey++, fingerprint, () -> product);
+    }
+}
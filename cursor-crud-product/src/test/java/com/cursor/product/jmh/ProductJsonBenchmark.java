@@ -0,0 +1,106 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of Jackson serialization of ProductDto, lists of it and ErrorResponse, with
+ * the object mapper configured the way Spring Boot configures it for the REST endpoints.
+ * <p>
+ * {@code tuned=true} registers the Blackbird module as {@code product.json.tuned} does.
+ * Run with {@code mvn -Pjmh test -Djmh.args=ProductJsonBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductJsonBenchmark {
+
+    @Param({"20", "100"})
+    public int listSize;
+
+    @Param({"false", "true"})
+    public boolean tuned;
+
+    private ObjectWriter productWriter;
+    private ObjectWriter errorWriter;
+    private ObjectWriter listWriter;
+    private ObjectReader productReader;
+
+    private ProductDto product;
+    private List<ProductDto> products;
+    private byte[] productJson;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (tuned) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+        productWriter = objectMapper.writerFor(ProductDto.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProductDto.class));
+        productReader = objectMapper.readerFor(ProductDto.class);
+        errorWriter = objectMapper.writerFor(ErrorResponse.class);
+
+        product = new ProductDto(42L, "Cotton Shirt", "Comfortable cotton shirt for everyday wear",
+                new BigDecimal("29.99"), 3L);
+        products = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            products.add(new ProductDto((long) i, "Product " + i, "Description of product " + i,
+                    BigDecimal.valueOf(1000 + i, 2), 0L));
+        }
+        productJson = productWriter.writeValueAsBytes(product);
+        errorResponse = new ErrorResponse(LocalDateTime.of(2024, 1, 1, 12, 0), 400, "Validation Failed",
+                "Invalid input data", "/api/product", List.of("name: Product name is required",
+                "price: Product price must be greater than 0"));
+    }
+
+    @Benchmark
+    public byte[] serializeProduct() throws IOException {
+        return productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializeProductList() throws IOException {
+        return listWriter.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws IOException {
+        return errorWriter.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public ProductDto deserializeProduct() throws IOException {
+        return productReader.readValue(productJson);
+    }
+}
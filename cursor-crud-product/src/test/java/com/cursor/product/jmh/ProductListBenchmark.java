@@ -0,0 +1,117 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.ProductApplication;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.model.Product;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the read-only list queries, loading managed entities and mapping them
+ * against projecting the rows straight into {@link ProductDto}.
+ * <p>
+ * {@code listEntities} and {@code listProjections} read the whole catalog,
+ * {@code pageEntities} and {@code pageProjections} the first keyset page ordered by price.
+ * Each runs in its own read-only transaction, as the service does. Run with
+ * {@code mvn -Pjmh test -Djmh.args=ProductListBenchmark}; {@code -prof gc} adds the
+ * allocation per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductListBenchmark {
+
+    private static final Sort BY_PRICE = Sort.by(Sort.Direction.ASC, "price", "id");
+    private static final Limit PAGE = Limit.of(100);
+
+    @Param({"100", "1000"})
+    public int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private ProductMapper productMapper;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProductApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:jmh-list",
+                        "--logging.level.root=WARN");
+        productRepository = context.getBean(ProductRepository.class);
+        productMapper = context.getBean(ProductMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        // data.sql has seeded five products already.
+        List<ProductDto> catalog = new ArrayList<>(catalogSize);
+        for (int i = 5; i < catalogSize; i++) {
+            catalog.add(new ProductDto(null, "Product " + i, "Description of product " + i,
+                    BigDecimal.valueOf(1000 + i, 2)));
+        }
+        context.getBean(ProductService.class).createProducts(catalog);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductDto> listEntities() {
+        return readOnly.execute(status -> productRepository.findAll().stream()
+                .map(productMapper::toDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<ProductDto> listProjections() {
+        return readOnly.execute(status -> productRepository.findAllAsDtos());
+    }
+
+    @Benchmark
+    public List<ProductDto> pageEntities() {
+        return readOnly.execute(status -> {
+            Window<Product> window = productRepository.findAllBy(ScrollPosition.keyset(), BY_PRICE, PAGE,
+                    Product.class);
+            return window.map(productMapper::toDto).getContent();
+        });
+    }
+
+    @Benchmark
+    public List<ProductDto> pageProjections() {
+        return readOnly.execute(status -> productRepository.findAllBy(ScrollPosition.keyset(), BY_PRICE, PAGE,
+                ProductDto.class).getContent());
+    }
+}
@@ -0,0 +1,66 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.model.Product;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the MapStruct conversions between Product and ProductDto.
+ * <p>
+ * Run with {@code mvn -Pjmh test -Djmh.args=ProductMapperBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+    private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+
+    private Product product;
+    private ProductDto productDto;
+    private Product target;
+
+    @Setup
+    public void setUp() {
+        product = new Product(42L, "Cotton Shirt", "Comfortable cotton shirt for everyday wear",
+                new BigDecimal("29.99"), 3L);
+        productDto = new ProductDto(42L, "Linen Shirt", "Breathable linen shirt for summer",
+                new BigDecimal("39.99"));
+        target = new Product(42L, "Cotton Shirt", "Comfortable cotton shirt for everyday wear",
+                new BigDecimal("29.99"), 3L);
+    }
+
+    @Benchmark
+    public ProductDto toDto() {
+        return productMapper.toDto(product);
+    }
+
+    @Benchmark
+    public Product toEntity() {
+        return productMapper.toEntity(productDto);
+    }
+
+    @Benchmark
+    public Product updateEntity() {
+        productMapper.updateEntity(productDto, target);
+        return target;
+    }
+}
@@ -0,0 +1,95 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.ProductApplication;
+import com.cursor.product.config.CacheConfig;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the product service read paths against a seeded in-memory H2 database,
+ * through the full Spring proxies (caching and transactions).
+ * <p>
+ * {@code getProductByIdCached} is served by the product cache; {@code getProductByIdUncached}
+ * evicts the entry first, so it measures the transaction, query and mapping.
+ * Run with {@code mvn -Pjmh test -Djmh.args=ProductServiceBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    @Param({"100", "1000"})
+    public int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private Cache productCache;
+    private Long productId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProductApplication.class)
+                .web(WebApplicationType.NONE)
+                // Arguments, unlike builder properties, override application.properties.
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:jmh",
+                        "--logging.level.root=WARN");
+        productService = context.getBean(ProductService.class);
+        productCache = context.getBean(CacheManager.class).getCache(CacheConfig.PRODUCTS_CACHE);
+        // data.sql has seeded five products already.
+        List<ProductDto> catalog = new ArrayList<>(catalogSize);
+        for (int i = 5; i < catalogSize; i++) {
+            catalog.add(new ProductDto(null, "Product " + i, "Description of product " + i,
+                    BigDecimal.valueOf(1000 + i, 2)));
+        }
+        productService.createProducts(catalog);
+        productId = productService.getAllProducts().get(catalogSize / 2).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductDto getProductByIdCached() {
+        return productService.getProductById(productId);
+    }
+
+    @Benchmark
+    public ProductDto getProductByIdUncached() {
+        productCache.evict(productId);
+        return productService.getProductById(productId);
+    }
+
+    @Benchmark
+    public List<ProductDto> getAllProducts() {
+        return productService.getAllProducts();
+    }
+}
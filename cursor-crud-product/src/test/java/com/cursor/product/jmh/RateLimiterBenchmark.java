@@ -0,0 +1,75 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.config.RateLimitProperties;
+import com.cursor.product.ratelimit.ClientRateLimiter;
+import com.cursor.product.ratelimit.ClientResolver;
+import com.cursor.product.ratelimit.RateLimitInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the per-request cost of rate limiting: a token taken by a known client,
+ * by a client seen for the first time, and the whole interceptor check of a request.
+ * <p>
+ * Budgets are set high enough that no request is refused. Run with
+ * {@code mvn -Pjmh test -Djmh.args=RateLimiterBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private ClientRateLimiter rateLimiter;
+    private RateLimitInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private long newClients;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRead(new RateLimitProperties.Budget(1e9, 1_000_000));
+        properties.setWrite(new RateLimitProperties.Budget(1e9, 1_000_000));
+        properties.setApiKeys(Set.of("dashboard"));
+        rateLimiter = new ClientRateLimiter(properties);
+        interceptor = new RateLimitInterceptor(rateLimiter, new ClientResolver(properties), ClientRateLimiter.Bucket.WRITE);
+        request = new MockHttpServletRequest("GET", "/api/product/1");
+        request.addHeader(properties.getApiKeyHeader(), "dashboard");
+        response = new MockHttpServletResponse();
+        for (int i = 0; i < 10_000; i++) {
+            rateLimiter.tryAcquire("ip:10.0." + (i / 256) + "." + (i % 256), ClientRateLimiter.Bucket.READ);
+        }
+    }
+
+    @Benchmark
+    public long knownClient() {
+        return rateLimiter.tryAcquire("ip:10.0.7.42", ClientRateLimiter.Bucket.READ);
+    }
+
+    @Benchmark
+    public long newClient() {
+        return rateLimiter.tryAcquire("ip:" + newClients++, ClientRateLimiter.Bucket.READ);
+    }
+
+    @Benchmark
+    public boolean interceptor() {
+        return interceptor.preHandle(request, response, null);
+    }
+}
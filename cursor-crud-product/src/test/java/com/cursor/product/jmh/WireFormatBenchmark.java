@@ -0,0 +1,107 @@
+package com.cursor.product.jmh;
+
+import com.cursor.product.config.WireFormatConfig;
+import com.cursor.product.domain.ProductDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of encoding and decoding a single ProductDto and a large list of them as
+ * JSON, CBOR and Smile, with the object mappers configured as the REST endpoints use them.
+ * <p>
+ * The payload sizes are printed during setup. Run with
+ * {@code mvn -Pjmh test -Djmh.args=WireFormatBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"1000"})
+    public int listSize;
+
+    private ObjectWriter productWriter;
+    private ObjectWriter listWriter;
+    private ObjectReader productReader;
+    private ObjectReader listReader;
+
+    private ProductDto product;
+    private List<ProductDto> products;
+    private byte[] productBytes;
+    private byte[] listBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> WireFormatConfig.cborMapper(json);
+            case "smile" -> WireFormatConfig.smileMapper(json);
+            default -> json;
+        };
+        productWriter = objectMapper.writerFor(ProductDto.class);
+        productReader = objectMapper.readerFor(ProductDto.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProductDto.class));
+        listReader = objectMapper.readerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProductDto.class));
+
+        product = new ProductDto(42L, "Cotton Shirt", "Comfortable cotton shirt for everyday wear",
+                new BigDecimal("29.99"), 3L);
+        products = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            products.add(new ProductDto((long) i, "Product " + i, "Description of product " + i,
+                    BigDecimal.valueOf(1000 + i, 2), 0L));
+        }
+        productBytes = productWriter.writeValueAsBytes(product);
+        listBytes = listWriter.writeValueAsBytes(products);
+        System.out.printf("%n%s: product %,d bytes, list of %,d %,d bytes%n",
+                format, productBytes.length, listSize, listBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeProduct() throws IOException {
+        return productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public ProductDto decodeProduct() throws IOException {
+        return productReader.readValue(productBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeList() throws IOException {
+        return listWriter.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public List<ProductDto> decodeList() throws IOException {
+        return listReader.readValue(listBytes);
+    }
+}
@@ -0,0 +1,283 @@
+package com.cursor.product.loadtest;
+
+import com.cursor.product.ProductApplication;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test of the product API.
+ * <p>
+ * Starts the application on a random port, seeds the catalog, then sends a weighted mix of
+ * create, get, list, update and delete requests at a fixed rate (an open model: requests are
+ * sent on schedule whether or not earlier ones have completed). Latency is measured from the
+ * scheduled send time, so a server that falls behind shows up in the percentiles instead of
+ * silently lowering the offered load. The latency histograms, error rates and the options of
+ * the run are written as JSON so runs can be compared.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Ploadtest test}, passing options with {@code -Dloadtest.args}:
+ * {@code --rate=200 --warmup=10s --duration=30s --mix=get:60,list:5,create:15,update:10,delete:10
+ * --catalog-size=1000 --max-in-flight=2000 --report=target/loadtest-report.json}.
+ * Any other {@code --name=value} argument is passed to the application.
+ * </p>
+ */
+public final class LoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final Operation[] schedule;
+    private final long[] seededIds;
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private LoadTest(LoadTestOptions options, HttpClient client, URI baseUri, ObjectMapper objectMapper,
+                     long[] seededIds) {
+        this.options = options;
+        this.client = client;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.seededIds = seededIds;
+        this.schedule = schedule(options.mix());
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ExecutorService responseExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // System properties override application.properties, and application arguments override them.
+        System.setProperty("server.port", "0");
+        System.setProperty("spring.jpa.show-sql", "false");
+        System.setProperty("logging.level.root", "WARN");
+        // The load comes from one client, which would otherwise be held to a single client's budget.
+        System.setProperty("product.ratelimit.enabled", "false");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductApplication.class)
+                .run(options.applicationArgs().toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            // Seeded products are only read and updated, so gets and updates never hit a deleted id.
+            long[] seededIds = seedCatalog(context.getBean(ProductService.class), options.catalogSize());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(responseExecutor)
+                    .build();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            LoadTest loadTest = new LoadTest(options, client, URI.create("http://localhost:" + port + "/api/product"),
+                    objectMapper, seededIds);
+
+            System.out.printf("Load test: %,d req/s for %s after %s warmup, mix %s%n",
+                    options.rate(), options.duration(), options.warmup(), options.mix());
+            loadTest.runPhase(options.warmup());
+            Instant startedAt = Instant.now();
+            Map<Operation, OperationStats> stats = loadTest.runPhase(options.duration());
+            loadTest.writeReport(startedAt, stats);
+        } finally {
+            responseExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends requests at the target rate for the given time, then waits for the outstanding ones.
+     *
+     * @param duration how long to send
+     * @return the stats of each operation in the mix
+     */
+    private Map<Operation, OperationStats> runPhase(Duration duration) {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        options.mix().keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+        if (duration.isZero()) {
+            return stats;
+        }
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long requests = duration.toNanos() / intervalNanos;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long i = 0; i < requests; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            send(operation, scheduled, stats.get(operation));
+        }
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return stats;
+    }
+
+    private void send(Operation operation, long scheduled, OperationStats stats) {
+        if (inFlight.get() >= options.maxInFlight()) {
+            stats.recordDropped();
+            return;
+        }
+        HttpRequest request = request(operation);
+        if (request == null) {
+            stats.recordSkipped();
+            return;
+        }
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            long latency = System.nanoTime() - scheduled;
+            if (error != null) {
+                stats.recordFailure(latency);
+            } else {
+                stats.recordResponse(response.statusCode(), latency);
+                if (operation == Operation.CREATE && response.statusCode() == 201) {
+                    // The ETag is "<id>-<version>", which spares parsing the body.
+                    response.headers().firstValue("ETag").ifPresent(this::addCreatedId);
+                }
+            }
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private HttpRequest request(Operation operation) {
+        return switch (operation) {
+            case CREATE -> json(HttpRequest.newBuilder(baseUri), "POST", product("Load test product"));
+            case GET -> HttpRequest.newBuilder(productUri(randomSeededId())).timeout(REQUEST_TIMEOUT).GET().build();
+            case LIST -> HttpRequest.newBuilder(baseUri).timeout(REQUEST_TIMEOUT).GET().build();
+            case UPDATE -> json(HttpRequest.newBuilder(productUri(randomSeededId())), "PUT",
+                    product("Updated load test product"));
+            case DELETE -> {
+                Long id = createdIds.poll();
+                yield id == null ? null
+                        : HttpRequest.newBuilder(productUri(id)).timeout(REQUEST_TIMEOUT).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, ProductDto product) {
+        try {
+            return builder.timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(product)))
+                    .build();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not serialize product", ex);
+        }
+    }
+
+    private static ProductDto product(String name) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new ProductDto(null, name + " " + random.nextInt(1_000_000), "Created by the load test",
+                BigDecimal.valueOf(random.nextInt(1, 100_000), 2));
+    }
+
+    private URI productUri(long id) {
+        return URI.create(baseUri + "/" + id);
+    }
+
+    private long randomSeededId() {
+        return seededIds[ThreadLocalRandom.current().nextInt(seededIds.length)];
+    }
+
+    private void addCreatedId(String etag) {
+        int separator = etag.lastIndexOf('-');
+        if (etag.startsWith("\"") && separator > 1) {
+            createdIds.add(Long.valueOf(etag.substring(1, separator)));
+        }
+    }
+
+    private void writeReport(Instant startedAt, Map<Operation, OperationStats> stats) throws IOException {
+        Map<String, OperationStats.OperationReport> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) -> operations.put(operation.label(), operationStats.toReport()));
+        OperationStats.OperationReport total = OperationStats.total(stats.values()).toReport();
+
+        Map<String, Object> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.label(), weight));
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("startedAt", startedAt.toString());
+        run.put("targetRate", options.rate());
+        run.put("achievedRate", (total.requests() - total.dropped()) / (options.duration().toNanos() / 1e9));
+        run.put("warmupSeconds", options.warmup().toSeconds());
+        run.put("durationSeconds", options.duration().toSeconds());
+        run.put("mix", mix);
+        run.put("catalogSize", options.catalogSize());
+        run.put("maxInFlight", options.maxInFlight());
+        run.put("applicationArgs", options.applicationArgs());
+        run.put("javaVersion", Runtime.version().toString());
+        run.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("run", run);
+        report.put("total", total);
+        report.put("operations", operations);
+
+        if (options.report().getParent() != null) {
+            Files.createDirectories(options.report().getParent());
+        }
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+
+        System.out.printf("%-8s %10s %8s %9s %9s %9s %9s %9s%n",
+                "", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        operations.forEach((label, operation) -> System.out.println(summary(label, operation)));
+        System.out.println(summary("total", total));
+        System.out.printf("Achieved %,.1f req/s; report written to %s%n", run.get("achievedRate"),
+                options.report().toAbsolutePath());
+    }
+
+    private static String summary(String label, OperationStats.OperationReport report) {
+        OperationStats.LatencyReport latency = report.latencyMs();
+        return String.format("%-8s %,10d %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f", label, report.requests(),
+                report.errorRate() * 100, latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max());
+    }
+
+    /**
+     * Expands the mix into a table with one slot per unit of weight, so picking a random slot
+     * picks each operation in proportion to its weight.
+     */
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        return slots.toArray(Operation[]::new);
+    }
+
+    private static long[] seedCatalog(ProductService productService, int catalogSize) {
+        List<ProductDto> catalog = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            catalog.add(new ProductDto(null, "Product " + i, "Load test product " + i,
+                    BigDecimal.valueOf(100 + i, 2)));
+        }
+        productService.createProducts(catalog);
+        return productService.getAllProducts().stream().mapToLong(ProductDto::getId).toArray();
+    }
+}
@@ -0,0 +1,103 @@
+package com.cursor.product.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of a load test run, parsed from {@code --name=value} arguments.
+ * <p>
+ * Arguments the load test does not know are passed on to the application, so
+ * {@code --spring.threads.virtual.enabled=true} runs the same load against virtual threads.
+ * When an option is given twice the last value wins.
+ * </p>
+ *
+ * @param rate the target rate in requests per second, independent of response times
+ * @param warmup how long to run the load before recording
+ * @param duration how long to record
+ * @param mix the relative weight of each operation
+ * @param catalogSize the number of products seeded before the run
+ * @param maxInFlight the number of outstanding requests above which new ones are dropped and counted as errors
+ * @param report the file the JSON report is written to
+ * @param applicationArgs the arguments passed on to the application
+ */
+record LoadTestOptions(int rate, Duration warmup, Duration duration, Map<Operation, Integer> mix,
+                       int catalogSize, int maxInFlight, Path report, List<String> applicationArgs) {
+
+    private static final String DEFAULT_MIX = "get:60,list:5,create:15,update:10,delete:10";
+
+    /**
+     * Parses the command line.
+     *
+     * @param args the arguments
+     * @return the options
+     * @throws IllegalArgumentException if an option value is invalid
+     */
+    static LoadTestOptions parse(String... args) {
+        int rate = 200;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        Map<Operation, Integer> mix = parseMix(DEFAULT_MIX);
+        int catalogSize = 1_000;
+        int maxInFlight = 2_000;
+        Path report = Path.of("loadtest-report.json");
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg : arg.substring(0, separator);
+            String value = separator < 0 ? "" : arg.substring(separator + 1);
+            switch (name) {
+                case "--rate" -> rate = positive(name, value);
+                case "--warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "--duration" -> duration = DurationStyle.detectAndParse(value);
+                case "--mix" -> mix = parseMix(value);
+                case "--catalog-size" -> catalogSize = positive(name, value);
+                case "--max-in-flight" -> maxInFlight = positive(name, value);
+                case "--report" -> report = Path.of(value);
+                default -> applicationArgs.add(arg);
+            }
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("--duration must be positive");
+        }
+        return new LoadTestOptions(rate, warmup, duration, Collections.unmodifiableMap(mix), catalogSize,
+                maxInFlight, report, List.copyOf(applicationArgs));
+    }
+
+    /**
+     * Parses a mix such as {@code get:8,update:2}; operations that are left out are not sent.
+     *
+     * @param value the mix
+     * @return the weight of each operation in the mix
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "'; expected operation:weight");
+            }
+            mix.merge(Operation.fromLabel(parts[0]), positive("--mix", parts[1].trim()), Integer::sum);
+        }
+        return mix;
+    }
+
+    private static int positive(String name, String value) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " must be a number: '" + value + "'");
+        }
+        if (parsed <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + parsed);
+        }
+        return parsed;
+    }
+}
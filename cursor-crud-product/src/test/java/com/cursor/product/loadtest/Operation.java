@@ -0,0 +1,39 @@
+package com.cursor.product.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The ProductController operations the load test can drive, as named in the --mix option.
+ */
+enum Operation {
+
+    CREATE,
+    GET,
+    LIST,
+    UPDATE,
+    DELETE;
+
+    /**
+     * Returns the name used in options and in the report.
+     *
+     * @return the lower-case name
+     */
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Finds an operation by its label.
+     *
+     * @param label the label, in any case
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has that label
+     */
+    static Operation fromLabel(String label) {
+        try {
+            return valueOf(label.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown operation '" + label + "'; expected one of create, get, list, update, delete");
+        }
+    }
+}
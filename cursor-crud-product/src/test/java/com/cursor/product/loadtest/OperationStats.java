@@ -0,0 +1,158 @@
+package com.cursor.product.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one operation during one phase of a load test.
+ * <p>
+ * Latencies are kept in microseconds with three significant digits, from the time the request
+ * was scheduled to be sent, so time spent queued behind a slow server is included.
+ * </p>
+ */
+final class OperationStats {
+
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * Records a response.
+     *
+     * @param status the HTTP status
+     * @param latencyNanos the time from the scheduled send to the response
+     */
+    void recordResponse(int status, long latencyNanos) {
+        latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a request that failed without a response, e.g. on a timeout or refused connection.
+     *
+     * @param latencyNanos the time from the scheduled send to the failure
+     */
+    void recordFailure(long latencyNanos) {
+        latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        failures.increment();
+    }
+
+    /**
+     * Records a request that was not sent because too many were outstanding.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Records a request that was not sent because there was nothing to send it for,
+     * i.e. a delete with no product created during the run left to delete.
+     */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    /**
+     * Combines the stats of several operations.
+     *
+     * @param operations the stats to combine
+     * @return the stats of all of them together
+     */
+    static OperationStats total(Collection<OperationStats> operations) {
+        OperationStats total = new OperationStats();
+        for (OperationStats operation : operations) {
+            total.latencies.add(operation.latencies);
+            operation.statuses.forEach((status, count) ->
+                    total.statuses.computeIfAbsent(status, key -> new LongAdder()).add(count.sum()));
+            total.failures.add(operation.failures.sum());
+            total.dropped.add(operation.dropped.sum());
+            total.skipped.add(operation.skipped.sum());
+        }
+        return total;
+    }
+
+    /**
+     * Summarizes this operation for the report.
+     *
+     * @return the summary
+     */
+    OperationReport toReport() {
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        long errorResponses = statusCounts.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 400)
+                .mapToLong(Map.Entry::getValue).sum();
+        return OperationReport.of(latencies, statusCounts, errorResponses + failures.sum() + dropped.sum(),
+                failures.sum(), dropped.sum(), skipped.sum());
+    }
+
+    /**
+     * The report of one operation, or of all operations together.
+     *
+     * @param requests the requests that were attempted, including dropped ones
+     * @param errors the error responses, failures and dropped requests
+     * @param errorRate errors divided by requests
+     * @param failures the requests that ended without a response
+     * @param dropped the requests that were not sent because too many were outstanding
+     * @param skipped the requests that were not sent because they had no target
+     * @param statuses the number of responses per HTTP status
+     * @param latencyMs the latency percentiles in milliseconds
+     * @param histogram the latency histogram in microseconds, compressed and Base64-encoded
+     *                  so runs can be merged or re-analysed with HdrHistogram tools
+     */
+    record OperationReport(long requests, long errors, double errorRate, long failures, long dropped, long skipped,
+                           Map<Integer, Long> statuses, LatencyReport latencyMs, String histogram) {
+
+        static OperationReport of(Histogram latencies, Map<Integer, Long> statuses, long errors,
+                                  long failures, long dropped, long skipped) {
+            long requests = latencies.getTotalCount() + dropped;
+            return new OperationReport(requests, errors, requests == 0 ? 0 : (double) errors / requests,
+                    failures, dropped, skipped, statuses, LatencyReport.of(latencies), encode(latencies));
+        }
+
+        private static String encode(Histogram histogram) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+        }
+    }
+
+    /**
+     * Latency percentiles in milliseconds.
+     *
+     * @param p50 the median
+     * @param p90 the 90th percentile
+     * @param p99 the 99th percentile
+     * @param p999 the 99.9th percentile
+     * @param max the maximum
+     * @param mean the mean
+     */
+    record LatencyReport(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static LatencyReport of(Histogram latencies) {
+            if (latencies.getTotalCount() == 0) {
+                return new LatencyReport(0, 0, 0, 0, 0, 0);
+            }
+            return new LatencyReport(millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)), millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()),
+                    Math.round(latencies.getMean()) / 1e3);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1e3;
+        }
+    }
+}
@@ -42,7 +42,7 @@ class ProductMapperTest {
         Product result = productMapper.toEntity(productDto);
 
         assertNotNull(result);
-        assertEquals(productDto.getId(), result.getId());
+        assertNull(result.getId());
         assertEquals(productDto.getName(), result.getName());
         assertEquals(productDto.getDescription(), result.getDescription());
         assertEquals(productDto.getPrice(), result.getPrice());
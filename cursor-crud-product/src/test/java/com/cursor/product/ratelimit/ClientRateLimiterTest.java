@@ -0,0 +1,96 @@
+package com.cursor.product.ratelimit;
+
+import com.cursor.product.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private ClientRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRead(new RateLimitProperties.Budget(10, 3));
+        properties.setWrite(new RateLimitProperties.Budget(1, 1));
+        properties.setIngest(new RateLimitProperties.Budget(1, 2));
+        properties.setIdleTimeout(Duration.ofMinutes(1));
+        rateLimiter = new ClientRateLimiter(properties, clock::get);
+    }
+
+    @Test
+    void testBurstThenLimitedUntilRefill() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ));
+        }
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ));
+        advance(50);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ));
+        advance(50);
+        assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ));
+        assertTrue(rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ) > 0);
+    }
+
+    @Test
+    void testIdleBucketRefillsOnlyUpToBurst() {
+        assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ));
+        advance(10_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ));
+        }
+        assertTrue(rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ) > 0);
+    }
+
+    @Test
+    void testReadAndWriteBudgetsAreSeparate() {
+        assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.WRITE));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.WRITE));
+
+        assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.READ));
+    }
+
+    @Test
+    void testIngestHasItsOwnBudget() {
+        assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.WRITE));
+        assertTrue(rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.WRITE) > 0);
+
+        assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.INGEST));
+        assertEquals(0, rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.INGEST));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiter.tryAcquire("client", ClientRateLimiter.Bucket.INGEST));
+    }
+
+    @Test
+    void testClientsAreLimitedIndependently() {
+        assertEquals(0, rateLimiter.tryAcquire("dashboard", ClientRateLimiter.Bucket.WRITE));
+        assertTrue(rateLimiter.tryAcquire("dashboard", ClientRateLimiter.Bucket.WRITE) > 0);
+
+        assertEquals(0, rateLimiter.tryAcquire("feed", ClientRateLimiter.Bucket.WRITE));
+    }
+
+    @Test
+    void testIdleClientsAreDropped() {
+        rateLimiter.tryAcquire("a", ClientRateLimiter.Bucket.READ);
+        rateLimiter.tryAcquire("b", ClientRateLimiter.Bucket.WRITE);
+        assertEquals(2, rateLimiter.clientCount());
+
+        advance(30_000);
+        rateLimiter.tryAcquire("b", ClientRateLimiter.Bucket.READ);
+        advance(45_000);
+
+        assertEquals(1, rateLimiter.clientCount());
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,161 @@
+package com.cursor.product.repository;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.model.Product;
+import com.cursor.product.repository.ProductBatchRepository.DeletedProduct;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testInsertAllAssignsGeneratedIds() {
+        List<Product> products = new ArrayList<>(List.of(
+                new Product(null, "Batch 1", "First", new BigDecimal("1.00")),
+                new Product(null, "Batch 2", "Second", new BigDecimal("2.00"))));
+
+        List<Product> inserted = productRepository.insertAll(products);
+
+        assertEquals(2, inserted.size());
+        assertNotNull(inserted.get(0).getId());
+        assertTrue(inserted.get(1).getId() > inserted.get(0).getId());
+        assertEquals("Batch 2", productRepository.findById(inserted.get(1).getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testInsertAllWithNoProducts() {
+        assertTrue(productRepository.insertAll(List.of()).isEmpty());
+    }
+
+    @Test
+    void testDeleteAllByIdReturningReportsOnlyExistingRows() {
+        Product saved = productRepository.save(new Product(null, "To delete", "Gone soon", new BigDecimal("7.50")));
+
+        List<DeletedProduct> deleted = productRepository.deleteAllByIdReturning(List.of(saved.getId(), -1L));
+
+        assertEquals(List.of(new DeletedProduct(saved.getId(), new BigDecimal("7.50"))), deleted);
+        assertFalse(productRepository.existsById(saved.getId()));
+    }
+
+    @Test
+    void testDeleteByPriceBetweenReturningHonoursLimit() {
+        productRepository.insertAll(new ArrayList<>(List.of(
+                new Product(null, "R1", "Range", new BigDecimal("900001.00")),
+                new Product(null, "R2", "Range", new BigDecimal("900002.00")),
+                new Product(null, "R3", "Range", new BigDecimal("900003.00")))));
+        BigDecimal min = new BigDecimal("900000.00");
+        BigDecimal max = new BigDecimal("900002.00");
+
+        List<DeletedProduct> first = productRepository.deleteByPriceBetweenReturning(min, max, 1);
+        List<DeletedProduct> rest = productRepository.deleteByPriceBetweenReturning(min, max, 10);
+
+        assertEquals(1, first.size());
+        assertEquals(1, rest.size());
+        assertTrue(productRepository.deleteByPriceBetweenReturning(min, max, 10).isEmpty());
+    }
+
+    @Test
+    void testUpdateColumnsReturningPreviousWritesOnlyGivenColumns() {
+        Product inserted = productRepository.insertAll(new ArrayList<>(List.of(
+                new Product(null, "Patch me", "Unchanged", new BigDecimal("3.00"))))).get(0);
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("price", new BigDecimal("4.00"));
+
+        Product previous = productRepository.updateColumnsReturningPrevious(inserted.getId(), columns, 0L).orElseThrow();
+        Product current = productRepository.findById(inserted.getId()).orElseThrow();
+
+        assertEquals(0, new BigDecimal("3.00").compareTo(previous.getPrice()));
+        assertEquals(0L, previous.getVersion());
+        assertEquals(0, new BigDecimal("4.00").compareTo(current.getPrice()));
+        assertEquals("Unchanged", current.getDescription());
+        assertEquals(1L, current.getVersion());
+    }
+
+    @Test
+    void testUpdateColumnsReturningPreviousMissesOnStaleVersionOrUnknownId() {
+        Product inserted = productRepository.insertAll(new ArrayList<>(List.of(
+                new Product(null, "Stale", "Versioned", new BigDecimal("3.00"))))).get(0);
+        Map<String, Object> columns = Map.of("name", "Renamed");
+
+        assertTrue(productRepository.updateColumnsReturningPrevious(inserted.getId(), columns, 5L).isEmpty());
+        assertTrue(productRepository.updateColumnsReturningPrevious(-1L, columns, null).isEmpty());
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> productRepository.updateColumnsReturningPrevious(inserted.getId(), Map.of("id", 1L), null));
+    }
+
+    @Test
+    void testFindByPriceBetweenScrollsThroughRangeInPriceOrder() {
+        productRepository.insertAll(new ArrayList<>(List.of(
+                new Product(null, "P1", "Range", new BigDecimal("800001.00")),
+                new Product(null, "P2", "Range", new BigDecimal("800003.00")),
+                new Product(null, "P3", "Range", new BigDecimal("800002.00")),
+                new Product(null, "P4", "Range", new BigDecimal("800009.00")))));
+        BigDecimal min = new BigDecimal("800001.00");
+        BigDecimal max = new BigDecimal("800003.00");
+        Sort sort = Sort.by(Sort.Direction.ASC, "price", "id");
+
+        Window<ProductDto> first = productRepository.findByPriceBetween(min, max, ScrollPosition.keyset(), sort,
+                Limit.of(2), ProductDto.class);
+        // Projected windows cannot derive positions themselves; the keyset comes from the last row.
+        ProductDto last = first.getContent().get(first.size() - 1);
+        Window<ProductDto> second = productRepository.findByPriceBetween(min, max,
+                ScrollPosition.forward(Map.of("price", last.getPrice(), "id", last.getId())), sort, Limit.of(2),
+                ProductDto.class);
+
+        assertEquals(List.of("P1", "P3"), first.map(ProductDto::getName).getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("P2"), second.map(ProductDto::getName).getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testProjectionsCarryEveryDtoField() {
+        List<Product> inserted = productRepository.insertAll(new ArrayList<>(List.of(
+                new Product(null, "Projected 1", "Projection", new BigDecimal("3.00")),
+                new Product(null, "Projected 2", "Projection", new BigDecimal("4.00")))));
+        Long id = inserted.get(1).getId();
+        productRepository.updateColumnsReturningPrevious(id, Map.of("name", "Projected 2b"), 0L);
+        ProductDto expected = new ProductDto(id, "Projected 2b", "Projection", new BigDecimal("4.00"), 1L);
+
+        assertTrue(productRepository.findAllAsDtos().contains(expected));
+        try (Stream<ProductDto> products = productRepository.streamAllAsDtos()) {
+            List<ProductDto> projected = products.filter(dto -> "Projection".equals(dto.getDescription())).toList();
+            assertEquals(List.of(inserted.get(0).getId(), id), projected.stream().map(ProductDto::getId).toList());
+            assertEquals(expected, projected.get(1));
+        }
+    }
+
+    @Test
+    void testPriceRangeQueryUsesPriceIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id, name FROM products WHERE price BETWEEN 20 AND 50 "
+                        + "AND (price > 25 OR price = 25 AND id > 7) ORDER BY price, id FETCH FIRST 21 ROWS ONLY",
+                String.class);
+
+        assertTrue(plan.toUpperCase().contains("IDX_PRODUCTS_PRICE_ID"), plan);
+        assertTrue(plan.contains("/* index sorted */"), plan);
+    }
+}
@@ -0,0 +1,143 @@
+package com.cursor.product.routing;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "product.datasource.routing.enabled=true",
+        "product.datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica1;DB_CLOSE_DELAY=-1",
+        "product.datasource.routing.replicas[1].url=jdbc:h2:mem:routing-replica2;DB_CLOSE_DELAY=-1",
+        "product.datasource.routing.health-check-interval-ms=3600000",
+        "product.datasource.routing.read-your-writes-window=1m",
+        "product.datasource.routing.replication-stand-in.enabled=true",
+        "product.datasource.routing.replication-stand-in.interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReplicaRouter replicaRouter;
+
+    @Autowired
+    private H2ReplicationStandIn replicationStandIn;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testReadOnlyTransactionsSeeReplicasOnceReplicated() {
+        String name = uniqueName();
+        productService.createProduct(new ProductDto(null, name, "Routed product", new BigDecimal("10.00")));
+
+        assertFalse(containsProduct(name));
+        assertFalse(containsProduct(name));
+
+        replicationStandIn.replicate();
+
+        assertTrue(containsProduct(name));
+        assertTrue(containsProduct(name));
+    }
+
+    @Test
+    void testReadsAlternateBetweenReplicas() {
+        long replica1Reads = replicaRouter.getReplicas().get(0).getReads();
+        long replica2Reads = replicaRouter.getReplicas().get(1).getReads();
+
+        productService.getAllProducts();
+        productService.getAllProducts();
+
+        assertEquals(replica1Reads + 1, replicaRouter.getReplicas().get(0).getReads());
+        assertEquals(replica2Reads + 1, replicaRouter.getReplicas().get(1).getReads());
+    }
+
+    @Test
+    void testCacheLoadsReadThePrimary() {
+        Long id = productService.createProduct(
+                new ProductDto(null, uniqueName(), "Routed product", new BigDecimal("11.00"))).getId();
+
+        assertEquals(id, productService.getProductById(id).getId());
+    }
+
+    @Test
+    void testClientReadsItsOwnWrites() throws Exception {
+        String name = uniqueName();
+        MvcResult created = mockMvc.perform(post("/api/product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"description\":\"Routed product\",\"price\":12.00}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+                .andReturn();
+        Cookie cookie = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        mockMvc.perform(get("/api/product").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$[*].name", hasItem(name)));
+        mockMvc.perform(get("/api/product"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$[*].name", not(hasItem(name))));
+    }
+
+    @Test
+    void testExpiredOrForgedStickinessIsIgnored() throws Exception {
+        String name = uniqueName();
+        productService.createProduct(new ProductDto(null, name, "Routed product", new BigDecimal("13.00")));
+        long now = System.currentTimeMillis();
+
+        for (long deadline : new long[]{now - 1, now + 3_600_000}) {
+            mockMvc.perform(get("/api/product").cookie(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(deadline))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].name", not(hasItem(name))));
+        }
+    }
+
+    @Test
+    void testReplicaHealthAndMetricsArePublished() throws Exception {
+        replicaRouter.checkHealth();
+        productService.getAllProducts();
+
+        mockMvc.perform(get("/actuator/health/replicas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.details.healthy").value(2))
+                .andExpect(jsonPath("$.details.replica-1.status").value("UP"));
+        assertEquals(1, meterRegistry.get("datasource.replica.healthy").tag("replica", "replica-2").gauge().value());
+        assertTrue(meterRegistry.get("datasource.routing.connections")
+                .tag("target", ReplicaRouter.PRIMARY).tag("reason", "read-write").functionCounter().count() > 0);
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-1").gauge());
+    }
+
+    private boolean containsProduct(String name) {
+        return productService.getAllProducts().stream().anyMatch(product -> name.equals(product.getName()));
+    }
+
+    private static String uniqueName() {
+        return "Routed " + UUID.randomUUID();
+    }
+}
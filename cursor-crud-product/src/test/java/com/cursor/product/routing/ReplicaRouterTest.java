@@ -0,0 +1,137 @@
+package com.cursor.product.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRouterTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica1Pool = mock(DataSource.class);
+    private final DataSource replica2Pool = mock(DataSource.class);
+
+    private ReadReplica replica1;
+    private ReadReplica replica2;
+    private ReplicaRouter router;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1Pool.getConnection()).thenReturn(replica1Connection);
+        when(replica2Pool.getConnection()).thenReturn(replica2Connection);
+        when(replica1Connection.isValid(anyInt())).thenReturn(true);
+        when(replica2Connection.isValid(anyInt())).thenReturn(true);
+        replica1 = new ReadReplica("replica-1", replica1Pool);
+        replica2 = new ReadReplica("replica-2", replica2Pool);
+        router = new ReplicaRouter(primary, List.of(replica1, replica2), Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testReadWriteTransactionsGoToPrimary() throws SQLException {
+        assertSame(primaryConnection, router.getConnection());
+        assertEquals(1, router.getPrimaryConnections(ReplicaRouter.PrimaryReason.READ_WRITE));
+        verifyNoInteractions(replica1Pool, replica2Pool);
+    }
+
+    @Test
+    void testReadOnlyTransactionsAlternateBetweenReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection first = router.getConnection();
+        Connection second = router.getConnection();
+
+        assertNotSame(first, second);
+        assertTrue(List.of(replica1Connection, replica2Connection).containsAll(List.of(first, second)));
+        assertEquals(1, replica1.getReads());
+        assertEquals(1, replica2.getReads());
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void testPinnedReadsGoToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (ReadRouting.Pin ignored = ReadRouting.pinToPrimary()) {
+            assertSame(primaryConnection, router.getConnection());
+        }
+
+        assertFalse(ReadRouting.isPinnedToPrimary());
+        assertEquals(1, router.getPrimaryConnections(ReplicaRouter.PrimaryReason.PINNED));
+    }
+
+    @Test
+    void testReplicaReadsAreTracked() throws SQLException {
+        try (ReadRouting.ReplicaReads replicaReads = ReadRouting.trackReplicaReads()) {
+            router.getConnection();
+            assertFalse(replicaReads.any());
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            router.getConnection();
+            assertTrue(replicaReads.any());
+        }
+    }
+
+    @Test
+    void testFailingReplicaIsSkippedUntilHealthy() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica1Pool.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(replica2Connection, router.getConnection());
+        }
+        assertFalse(replica1.isHealthy());
+        assertEquals("Connection is not available", replica1.getLastError());
+
+        doReturn(replica1Connection).when(replica1Pool).getConnection();
+        router.checkHealth();
+
+        assertTrue(replica1.isHealthy());
+        assertNull(replica1.getLastError());
+        assertNotNull(replica1.getLastChecked());
+    }
+
+    @Test
+    void testReadsFailOverToPrimaryWhenNoReplicaIsAvailable() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica1Pool.getConnection()).thenThrow(new SQLTransientConnectionException("down"));
+        when(replica2Pool.getConnection()).thenThrow(new SQLTransientConnectionException("down"));
+
+        assertSame(primaryConnection, router.getConnection());
+        assertSame(primaryConnection, router.getConnection());
+
+        assertEquals(1, router.getPrimaryConnections(ReplicaRouter.PrimaryReason.FAILOVER));
+        assertEquals(1, router.getPrimaryConnections(ReplicaRouter.PrimaryReason.NO_REPLICA));
+    }
+
+    @Test
+    void testHealthCheckTakesInvalidReplicaOutOfRotation() throws SQLException {
+        when(replica2Connection.isValid(anyInt())).thenReturn(false);
+
+        router.checkHealth();
+
+        assertTrue(replica1.isHealthy());
+        assertFalse(replica2.isHealthy());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replica1Connection, router.getConnection());
+        assertSame(replica1Connection, router.getConnection());
+    }
+}
@@ -0,0 +1,47 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.domain.ProductSortField;
+import com.cursor.product.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageTokenTest {
+
+    @Test
+    void testRoundTripPriceKey() {
+        PageToken token = new PageToken(ProductSortField.PRICE, Sort.Direction.DESC, 42L, new BigDecimal("19.90"));
+
+        PageToken decoded = PageToken.decode(token.encode());
+
+        assertEquals(token, decoded);
+    }
+
+    @Test
+    void testRoundTripNameContainingSeparator() {
+        PageToken token = new PageToken(ProductSortField.NAME, Sort.Direction.ASC, 3L, "Shirt | Blue");
+
+        PageToken decoded = PageToken.decode(token.encode());
+
+        assertEquals("Shirt | Blue", decoded.lastKey());
+        assertEquals(3L, decoded.lastId());
+    }
+
+    @Test
+    void testEncodedTokenIsUrlSafe() {
+        String encoded = new PageToken(ProductSortField.NAME, Sort.Direction.ASC, 1L, "???>>>").encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecodeInvalidToken() {
+        assertThrows(BadRequestException.class, () -> PageToken.decode("not base64!"));
+        assertThrows(BadRequestException.class, () -> PageToken.decode("djJ8SUR8QVNDfDF8MQ"));
+        assertThrows(BadRequestException.class, () -> PageToken.decode(
+                new PageToken(ProductSortField.ID, Sort.Direction.ASC, 1L, "abc").encode()));
+    }
+}
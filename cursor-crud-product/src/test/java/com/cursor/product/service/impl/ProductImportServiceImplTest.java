@@ -0,0 +1,180 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.domain.ImportRejectedRow;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductImportResult;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.repository.ProductRepository;
+import com.cursor.product.service.ProductImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:importtest",
+        "product.import.chunk-size=3",
+        "product.import.max-reported-rejections=2"
+})
+class ProductImportServiceImplTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void testImportCsv_CreatesValidRowsAndReportsRejectedOnes() {
+        String csv = """
+                sku,Price,Name,description
+                A-1,10.50,Mixed 1,"Quoted, with a comma"
+                A-2,5.00,,Missing name
+                A-3,abc,Mixed 3,Bad price
+
+                A-4,7.25,Mixed 4,"Spans
+                two lines"
+                A-5,-1,Mixed 5,Negative price
+                A-6,1,Mixed 6,Last row
+                """;
+
+        ProductImportResult result = productImportService.importCsv("mixed", stream(csv));
+
+        assertEquals(ProductImportResult.Status.COMPLETED, result.getStatus());
+        assertNull(result.getError());
+        assertEquals(6, result.getRowsRead());
+        assertEquals(6, result.getCommittedRows());
+        assertEquals(3, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(
+                new ImportRejectedRow(2, List.of("name: Product name is required")),
+                new ImportRejectedRow(3, List.of("price: must be a decimal number"))), result.getRejectedRows());
+        List<ProductDto> created = products("Mixed ");
+        assertEquals(List.of("Mixed 1", "Mixed 4", "Mixed 6"), created.stream().map(ProductDto::getName).toList());
+        assertEquals("Quoted, with a comma", created.get(0).getDescription());
+        assertEquals("Spans\ntwo lines", created.get(1).getDescription());
+        assertEquals(0, new BigDecimal("7.25").compareTo(created.get(1).getPrice()));
+    }
+
+    @Test
+    void testImportCsv_ResumesAfterTheLastCommittedChunk() {
+        StringBuilder csv = new StringBuilder("name,description,price\n");
+        int cutOff = 0;
+        for (int i = 1; i <= 8; i++) {
+            csv.append("Resumed ").append(i).append(",Imported in two uploads,").append(i).append(".99\n");
+            if (i == 6) {
+                // The connection breaks in the middle of the sixth row.
+                cutOff = csv.length() - 10;
+            }
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+        ProductImportResult interrupted = productImportService.importCsv("resumed", brokenAfter(bytes, cutOff));
+
+        assertEquals(ProductImportResult.Status.STOPPED, interrupted.getStatus());
+        assertEquals("Stopped reading the CSV after row 5: Connection reset", interrupted.getError());
+        assertEquals(5, interrupted.getCommittedRows());
+        assertEquals(5, interrupted.getCreated());
+
+        ProductImportResult resumed = productImportService.importCsv("resumed", new ByteArrayInputStream(bytes));
+
+        assertEquals(ProductImportResult.Status.COMPLETED, resumed.getStatus());
+        assertEquals(5, resumed.getResumedFrom());
+        assertEquals(3, resumed.getRowsRead());
+        assertEquals(8, resumed.getCommittedRows());
+        assertEquals(8, resumed.getCreated());
+        assertEquals(8, products("Resumed ").size());
+
+        ProductImportResult repeated = productImportService.importCsv("resumed", new ByteArrayInputStream(bytes));
+
+        assertEquals(0, repeated.getRowsRead());
+        assertEquals(8, repeated.getCreated());
+        assertEquals(8, products("Resumed ").size());
+    }
+
+    @Test
+    void testImportCsv_MalformedRowStopsAfterTheRowsBeforeIt() {
+        String csv = """
+                name,description,price
+                Malformed 1,Before the bad row,1.00
+                Malformed 2,"Unterminated,2.00
+                """;
+
+        ProductImportResult result = productImportService.importCsv("malformed", stream(csv));
+
+        assertEquals(ProductImportResult.Status.STOPPED, result.getStatus());
+        assertEquals("Stopped reading the CSV after row 1: Missing closing quote for value (line 4)", result.getError());
+        assertEquals(1, result.getCommittedRows());
+        assertEquals(List.of("Malformed 1"), products("Malformed ").stream().map(ProductDto::getName).toList());
+    }
+
+    @Test
+    void testImportCsv_DatabaseConstraintRejectsOnlyTheOffendingRow() {
+        String csv = "name,description,price\n"
+                + "Constrained 1,Fits,1.00\n"
+                + "Constrained 2," + "x".repeat(300) + ",2.00\n"
+                + "Constrained 3,Fits,3.00\n";
+
+        ProductImportResult result = productImportService.importCsv("constrained", stream(csv));
+
+        assertEquals(ProductImportResult.Status.COMPLETED, result.getStatus());
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getRejected());
+        assertEquals(2, result.getRejectedRows().get(0).getRow());
+        assertTrue(result.getRejectedRows().get(0).getErrors().get(0).startsWith("database: "));
+        assertEquals(List.of("Constrained 1", "Constrained 3"),
+                products("Constrained ").stream().map(ProductDto::getName).toList());
+    }
+
+    @Test
+    void testImportCsv_InvalidRequests() {
+        assertThrows(BadRequestException.class, () -> productImportService.importCsv("bad id!", stream("name\n")));
+        assertThrows(BadRequestException.class, () -> productImportService.importCsv("empty", stream("")));
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> productImportService.importCsv("header", stream("name,cost\nShirt,1.00\n")));
+        assertEquals("CSV header is missing the columns description, price", ex.getMessage());
+    }
+
+    private List<ProductDto> products(String namePrefix) {
+        return productRepository.findAllAsDtos().stream()
+                .filter(product -> product.getName().startsWith(namePrefix))
+                .toList();
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * An upload whose connection breaks after the given number of bytes.
+     */
+    private static InputStream brokenAfter(byte[] bytes, int length) {
+        InputStream received = new ByteArrayInputStream(bytes, 0, length);
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                return check(received.read());
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int len) throws IOException {
+                return check(received.read(buffer, offset, len));
+            }
+
+            private int check(int read) throws IOException {
+                if (read < 0) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+        };
+    }
+}
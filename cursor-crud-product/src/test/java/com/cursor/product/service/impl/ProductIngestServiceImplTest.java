@@ -0,0 +1,273 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.config.BulkProperties;
+import com.cursor.product.config.IngestProperties;
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.BulkItemResult;
+import com.cursor.product.domain.IngestJob;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.ResourceNotFoundException;
+import com.cursor.product.exception.TooManyRequestsException;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIngestServiceImplTest {
+
+    @Mock
+    private ProductService productService;
+
+    private final IngestProperties ingestProperties = new IngestProperties();
+    private final BulkProperties bulkProperties = new BulkProperties();
+    private final AtomicLong nextId = new AtomicLong(100);
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writerReleased = new CountDownLatch(1);
+
+    private ProductIngestServiceImpl ingestService;
+
+    @BeforeEach
+    void setUp() {
+        ingestProperties.setQueueCapacity(10);
+        ingestProperties.setBatchSize(4);
+        ingestProperties.setShutdownTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writerReleased.countDown();
+        if (ingestService != null && ingestService.isRunning()) {
+            ingestService.stop();
+        }
+    }
+
+    @Test
+    void testSubmit_PersistsQueuedProductsInBatches() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        when(productService.createProducts(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            writerReleased.await(5, TimeUnit.SECONDS);
+            return createAll(invocation.getArgument(0));
+        });
+        start();
+
+        IngestJob first = ingestService.submit(product("First"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        List<IngestJob> burst = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            burst.add(ingestService.submit(product("Burst " + i)));
+        }
+        assertEquals(IngestJob.Status.QUEUED, ingestService.getJob(burst.get(0).getId()).getStatus());
+        writerReleased.countDown();
+
+        IngestJob persisted = awaitCompletion(burst.get(5).getId());
+        assertEquals(IngestJob.Status.PERSISTED, persisted.getStatus());
+        assertNotNull(persisted.getProductId());
+        assertNotNull(persisted.getCompletedAt());
+        assertEquals(IngestJob.Status.PERSISTED, awaitCompletion(first.getId()).getStatus());
+        // The burst queued up while the first write was in progress is written in batches of four.
+        assertEquals(List.of(1, 4, 2), batchSizes);
+    }
+
+    @Test
+    void testSubmit_IgnoresSuppliedId() throws Exception {
+        when(productService.createProducts(anyList())).thenAnswer(invocation -> {
+            List<ProductDto> products = invocation.getArgument(0);
+            assertNull(products.get(0).getId());
+            return createAll(products);
+        });
+        start();
+
+        ProductDto product = product("With id");
+        product.setId(42L);
+        IngestJob job = awaitCompletion(ingestService.submit(product).getId());
+
+        assertEquals(IngestJob.Status.PERSISTED, job.getStatus());
+        assertNotEquals(42L, job.getProductId());
+    }
+
+    @Test
+    void testSubmit_QueueFull() throws Exception {
+        ingestProperties.setQueueCapacity(2);
+        ingestProperties.setRetryAfter(Duration.ofSeconds(3));
+        CountDownLatch writing = new CountDownLatch(1);
+        when(productService.createProducts(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            writerReleased.await(5, TimeUnit.SECONDS);
+            return createAll(invocation.getArgument(0));
+        });
+        start();
+
+        ingestService.submit(product("Writing"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        ingestService.submit(product("Queued 1"));
+        ingestService.submit(product("Queued 2"));
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> ingestService.submit(product("Rejected")));
+        assertEquals(Duration.ofSeconds(3), ex.getRetryAfter());
+        assertEquals(2, ingestService.getQueueSize());
+    }
+
+    @Test
+    void testWrite_FailedBatchIsRetriedOneByOne() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        when(productService.createProducts(anyList())).thenAnswer(invocation -> {
+            List<ProductDto> products = invocation.getArgument(0);
+            if (writing.getCount() > 0) {
+                writing.countDown();
+                writerReleased.await(5, TimeUnit.SECONDS);
+                return createAll(products);
+            }
+            if (products.size() > 1) {
+                return failAll(products.size(), "Batch insert failed");
+            }
+            if (products.get(0).getName().equals("Bad")) {
+                throw new DataIntegrityViolationException("value too long for column NAME");
+            }
+            return createAll(products);
+        });
+        start();
+        ingestService.submit(product("Writing"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        IngestJob good1 = ingestService.submit(product("Good 1"));
+        IngestJob bad = ingestService.submit(product("Bad"));
+        IngestJob good2 = ingestService.submit(product("Good 2"));
+        writerReleased.countDown();
+
+        assertEquals(IngestJob.Status.PERSISTED, awaitCompletion(good1.getId()).getStatus());
+        assertEquals(IngestJob.Status.PERSISTED, awaitCompletion(good2.getId()).getStatus());
+        IngestJob failed = awaitCompletion(bad.getId());
+        assertEquals(IngestJob.Status.FAILED, failed.getStatus());
+        assertNull(failed.getProductId());
+        assertEquals(List.of("value too long for column NAME"), failed.getErrors());
+        verify(productService, times(5)).createProducts(anyList());
+    }
+
+    @Test
+    void testStop_WritesQueuedJobsBeforeReturning() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        when(productService.createProducts(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            writerReleased.await(5, TimeUnit.SECONDS);
+            return createAll(invocation.getArgument(0));
+        });
+        start();
+        List<IngestJob> jobs = new ArrayList<>();
+        jobs.add(ingestService.submit(product("Writing")));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            jobs.add(ingestService.submit(product("Queued " + i)));
+        }
+
+        writerReleased.countDown();
+        ingestService.stop();
+
+        assertEquals(0, ingestService.getQueueSize());
+        for (IngestJob job : jobs) {
+            assertEquals(IngestJob.Status.PERSISTED, ingestService.getJob(job.getId()).getStatus());
+        }
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> ingestService.submit(product("Too late")));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+    }
+
+    @Test
+    void testStop_FailsJobsLeftAfterTimeout() throws Exception {
+        ingestProperties.setShutdownTimeout(Duration.ofMillis(100));
+        CountDownLatch writing = new CountDownLatch(1);
+        when(productService.createProducts(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            try {
+                writerReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                // Interrupted by stop(); the write in progress still completes.
+            }
+            return createAll(invocation.getArgument(0));
+        });
+        start();
+        ingestService.submit(product("Writing"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        IngestJob queued = ingestService.submit(product("Queued"));
+
+        ingestService.stop();
+
+        IngestJob job = ingestService.getJob(queued.getId());
+        assertEquals(IngestJob.Status.FAILED, job.getStatus());
+        assertEquals(List.of("Shut down before the product was written"), job.getErrors());
+    }
+
+    @Test
+    void testBatchSizeLargerThanBulkBatchSizeIsRejected() {
+        bulkProperties.setBatchSize(3);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> new ProductIngestServiceImpl(productService, ingestProperties, bulkProperties));
+
+        assertEquals("product.ingest.batch-size (4) must not exceed product.bulk.batch-size (3), "
+                + "so that each ingest batch is written in one transaction", ex.getMessage());
+    }
+
+    @Test
+    void testGetJob_Unknown() {
+        start();
+
+        assertThrows(ResourceNotFoundException.class, () -> ingestService.getJob("missing"));
+    }
+
+    private void start() {
+        ingestService = new ProductIngestServiceImpl(productService, ingestProperties, bulkProperties);
+        ingestService.start();
+    }
+
+    private IngestJob awaitCompletion(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        IngestJob job = ingestService.getJob(jobId);
+        while (job.getStatus() == IngestJob.Status.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = ingestService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private BulkCreateResult createAll(List<ProductDto> products) {
+        batchSizes.add(products.size());
+        List<BulkItemResult> items = new ArrayList<>();
+        for (int i = 0; i < products.size(); i++) {
+            items.add(new BulkItemResult(i, BulkItemResult.Status.CREATED, nextId.getAndIncrement(), null));
+        }
+        return new BulkCreateResult(products.size(), 0, 0, items);
+    }
+
+    private static BulkCreateResult failAll(int size, String error) {
+        List<BulkItemResult> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(new BulkItemResult(i, BulkItemResult.Status.FAILED, null, List.of(error)));
+        }
+        return new BulkCreateResult(0, 0, size, items);
+    }
+
+    private static ProductDto product(String name) {
+        return new ProductDto(null, name, "Ingested product", new BigDecimal("9.99"));
+    }
+}
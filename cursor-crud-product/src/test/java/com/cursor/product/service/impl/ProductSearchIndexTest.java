@@ -0,0 +1,179 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.config.SearchProperties;
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductSearchResult;
+import com.cursor.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        productSearchIndex = new ProductSearchIndex(productRepository, new SearchProperties(),
+                new TransactionTemplate(transactionManager));
+        productSearchIndex.open();
+        productSearchIndex.index(product(1L, "Cotton Shirt", "Comfortable shirt for everyday wear", "29.99"));
+        productSearchIndex.index(product(2L, "Trouser", "Classic trousers to wear with a shirt", "49.99"));
+        productSearchIndex.index(product(3L, "Running Shoes", "Lightweight shoes for running", "89.99"));
+        productSearchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        productSearchIndex.close();
+    }
+
+    @Test
+    void testSearchRanksNameMatchesFirstAndReturnsStoredFields() {
+        ProductSearchResult result = productSearchIndex.search("shirts", 0, 10);
+
+        assertEquals(List.of(1L, 2L), ids(result));
+        assertEquals(2, result.getTotalHits());
+        assertTrue(result.isTotalHitsExact());
+        ProductDto first = result.getItems().get(0);
+        assertEquals("Cotton Shirt", first.getName());
+        assertEquals(new BigDecimal("29.99"), first.getPrice());
+        assertEquals(0L, first.getVersion());
+    }
+
+    @Test
+    void testSearchSupportsOperatorsAndPaging() {
+        assertEquals(List.of(1L), ids(productSearchIndex.search("shirt -trousers", 0, 10)));
+        assertEquals(List.of(3L), ids(productSearchIndex.search("run*", 0, 10)));
+        assertEquals(List.of(2L), ids(productSearchIndex.search("shirt", 1, 1)));
+        assertTrue(productSearchIndex.search("the", 0, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void testUpdatesAndDeletesAreSearchableAfterRefresh() {
+        productSearchIndex.index(product(3L, "Trail Shoes", "Grippy shoes for trail running", "99.99"));
+        productSearchIndex.remove(1L);
+        productSearchIndex.refresh();
+
+        assertEquals(List.of(2L), ids(productSearchIndex.search("shirt", 0, 10)));
+        assertEquals("Trail Shoes", productSearchIndex.search("trail", 0, 10).getItems().get(0).getName());
+        assertEquals(1, productSearchIndex.search("shoes", 0, 10).getTotalHits());
+    }
+
+    @Test
+    void testRebuildReplacesIndexWithDatabaseContents() {
+        when(productRepository.streamAllAsDtos()).thenReturn(Stream.of(
+                product(2L, "Trouser", "Classic trousers", "49.99"),
+                product(4L, "Linen Shirt", "Cool shirt for summer", "39.99")));
+
+        long indexed = productSearchIndex.rebuild();
+
+        assertEquals(2, indexed);
+        assertEquals(List.of(4L), ids(productSearchIndex.search("shirt", 0, 10)));
+        assertTrue(productSearchIndex.search("shoes", 0, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void testChangesAppliedOutOfOrderKeepTheNewestVersion() {
+        productSearchIndex.index(product(1L, "Flannel Shirt", "Warm shirt for winter", "34.99", 2L));
+        productSearchIndex.index(product(1L, "Cotton Shirt", "Comfortable shirt for everyday wear", "29.99", 1L));
+        productSearchIndex.remove(3L);
+        productSearchIndex.index(product(3L, "Running Shoes", "Lightweight shoes for running", "89.99", 1L));
+        productSearchIndex.refresh();
+
+        assertEquals(List.of(1L), ids(productSearchIndex.search("flannel", 0, 10)));
+        assertTrue(productSearchIndex.search("cotton", 0, 10).getItems().isEmpty());
+        assertTrue(productSearchIndex.search("shoes", 0, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void testVersionsAreCheckedAgainstTheIndexOnceChangesAreSearchable() {
+        productSearchIndex.index(product(1L, "Flannel Shirt", "Warm shirt for winter", "34.99", 2L));
+        productSearchIndex.remove(3L);
+        productSearchIndex.refresh();
+        assertEquals(0, productSearchIndex.pendingChangeCount());
+
+        productSearchIndex.index(product(1L, "Cotton Shirt", "Comfortable shirt for everyday wear", "29.99", 1L));
+        productSearchIndex.index(product(2L, "Wool Trouser", "Warm trousers to wear with a shirt", "59.99", 1L));
+        productSearchIndex.refresh();
+
+        assertEquals(List.of(1L), ids(productSearchIndex.search("flannel", 0, 10)));
+        assertTrue(productSearchIndex.search("cotton", 0, 10).getItems().isEmpty());
+        assertEquals(List.of(2L), ids(productSearchIndex.search("wool", 0, 10)));
+        assertEquals(0, productSearchIndex.pendingChangeCount());
+    }
+
+    @Test
+    void testProductDeletedDuringRebuildStaysDeleted() {
+        // The rebuild reads product 2 before its deletion is applied to the index.
+        when(productRepository.streamAllAsDtos()).thenReturn(Stream.of(
+                        product(2L, "Trouser", "Classic trousers to wear with a shirt", "49.99"),
+                        product(1L, "Cotton Shirt", "Comfortable shirt for everyday wear", "29.99"))
+                .peek(product -> {
+                    if (product.getId() == 2L) {
+                        productSearchIndex.remove(2L);
+                    }
+                }));
+
+        productSearchIndex.rebuild();
+
+        assertEquals(List.of(1L), ids(productSearchIndex.search("shirt", 0, 10)));
+        productSearchIndex.refresh();
+        assertEquals(0, productSearchIndex.pendingChangeCount());
+    }
+
+    @Test
+    void testDisabledIndexIgnoresWritesAndRefusesSearches() throws Exception {
+        SearchProperties properties = new SearchProperties();
+        properties.setEnabled(false);
+        ProductSearchIndex disabled = new ProductSearchIndex(productRepository, properties,
+                new TransactionTemplate(transactionManager));
+        disabled.open();
+        disabled.initialize();
+
+        disabled.index(product(1L, "Cotton Shirt", "Comfortable shirt for everyday wear", "29.99"));
+        disabled.remove(1L);
+        disabled.refresh();
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> disabled.search("shirt", 0, 10));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        assertThrows(ResponseStatusException.class, disabled::rebuild);
+        disabled.close();
+        verifyNoInteractions(productRepository);
+    }
+
+    private static ProductDto product(Long id, String name, String description, String price) {
+        return product(id, name, description, price, 0L);
+    }
+
+    private static ProductDto product(Long id, String name, String description, String price, Long version) {
+        ProductDto product = new ProductDto(id, name, description, new BigDecimal(price));
+        product.setVersion(version);
+        return product;
+    }
+
+    private static List<Long> ids(ProductSearchResult result) {
+        return result.getItems().stream().map(ProductDto::getId).collect(Collectors.toList());
+    }
+}
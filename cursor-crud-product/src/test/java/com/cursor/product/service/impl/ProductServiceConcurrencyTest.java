@@ -0,0 +1,74 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.PreconditionFailedException;
+import com.cursor.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProductServiceConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int INCREMENTS_PER_WRITER = 25;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void testConditionalUpdatesLoseNoIncrementsUnderContention() throws Exception {
+        Long id = productService.createProduct(
+                new ProductDto(null, "Contended", "Updated by many writers", new BigDecimal("1.00"))).getId();
+        AtomicInteger preconditionFailures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < INCREMENTS_PER_WRITER; i++) {
+                        // Read-modify-write, retried until our If-Match version is still current.
+                        while (true) {
+                            ProductDto current = productService.getProductById(id);
+                            ProductDto next = new ProductDto(id, current.getName(), current.getDescription(),
+                                    current.getPrice().add(BigDecimal.ONE));
+                            try {
+                                productService.updateProduct(id, next, current.getVersion());
+                                break;
+                            } catch (PreconditionFailedException ex) {
+                                preconditionFailures.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ProductDto result = productService.getProductById(id);
+        int increments = WRITERS * INCREMENTS_PER_WRITER;
+        assertEquals(0, BigDecimal.valueOf(1 + increments).compareTo(result.getPrice()));
+        assertEquals(increments, result.getVersion());
+        assertTrue(preconditionFailures.get() > 0, "writers should have contended");
+    }
+}
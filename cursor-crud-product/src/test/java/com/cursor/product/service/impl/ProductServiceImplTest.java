@@ -1,24 +1,60 @@
 package com.cursor.product.service.impl;
 
+import com.cursor.product.config.BulkProperties;
+import com.cursor.product.config.PaginationProperties;
+import com.cursor.product.config.SearchProperties;
+import com.cursor.product.domain.BulkCreateResult;
+import com.cursor.product.domain.BulkDeleteRequest;
+import com.cursor.product.domain.BulkDeleteResult;
+import com.cursor.product.domain.BulkItemResult;
 import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductPage;
+import com.cursor.product.domain.ProductPageRequest;
+import com.cursor.product.domain.ProductPatch;
+import com.cursor.product.domain.ProductSearchRequest;
+import com.cursor.product.domain.ProductSearchResult;
+import com.cursor.product.domain.ProductSortField;
+import com.cursor.product.domain.ProductStats;
+import com.cursor.product.exception.BadRequestException;
+import com.cursor.product.exception.PreconditionFailedException;
 import com.cursor.product.exception.ResourceNotFoundException;
 import com.cursor.product.mapper.ProductMapper;
 import com.cursor.product.model.Product;
+import com.cursor.product.repository.ProductBatchRepository.DeletedProduct;
 import com.cursor.product.repository.ProductRepository;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +66,27 @@ class ProductServiceImplTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductStatsTracker productStatsTracker;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Spy
+    private BulkProperties bulkProperties = new BulkProperties();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -54,6 +111,8 @@ class ProductServiceImplTest {
         assertEquals(productDto.getId(), result.getId());
         assertEquals(productDto.getName(), result.getName());
         verify(productRepository, times(1)).save(product);
+        verify(productStatsTracker, times(1)).recordCreate(productDto);
+        verify(productSearchIndex, times(1)).index(productDto);
     }
 
     @Test
@@ -78,23 +137,16 @@ class ProductServiceImplTest {
 
     @Test
     void testGetAllProducts() {
-        List<Product> products = Arrays.asList(product, new Product(2L, "Product 2", "Desc 2", new BigDecimal("199.99")));
         List<ProductDto> productDtos = Arrays.asList(productDto, new ProductDto(2L, "Product 2", "Desc 2", new BigDecimal("199.99")));
 
-        when(productRepository.findAll()).thenReturn(products);
-        when(productMapper.toDto(any(Product.class))).thenAnswer(invocation -> {
-            Product p = invocation.getArgument(0);
-            return productDtos.stream()
-                    .filter(dto -> dto.getId().equals(p.getId()))
-                    .findFirst()
-                    .orElse(null);
-        });
+        when(productRepository.findAllAsDtos()).thenReturn(productDtos);
 
         List<ProductDto> result = productService.getAllProducts();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findAllAsDtos();
+        verifyNoInteractions(productMapper);
     }
 
     @Test
@@ -105,11 +157,13 @@ class ProductServiceImplTest {
         when(productRepository.save(product)).thenReturn(product);
         when(productMapper.toDto(product)).thenReturn(updatedDto);
 
-        ProductDto result = productService.updateProduct(1L, updatedDto);
+        ProductDto result = productService.updateProduct(1L, updatedDto, null);
 
         assertNotNull(result);
         verify(productMapper, times(1)).updateEntity(updatedDto, product);
         verify(productRepository, times(1)).save(product);
+        verify(productStatsTracker, times(1)).recordUpdate(new BigDecimal("99.99"), updatedDto);
+        verify(productSearchIndex, times(1)).index(updatedDto);
     }
 
     @Test
@@ -118,38 +172,154 @@ class ProductServiceImplTest {
 
         when(productRepository.findById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> productService.updateProduct(1L, updatedDto));
+        assertThrows(ResourceNotFoundException.class, () -> productService.updateProduct(1L, updatedDto, null));
         verify(productRepository, never()).save(any());
     }
 
     @Test
-    void testDeleteProduct_Success() {
+    void testUpdateProduct_StaleVersion() {
+        product.setVersion(3L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(1L, productDto, 2L));
+        verify(productMapper, never()).updateEntity(any(), any());
+        verify(productRepository, never()).save(any());
+        verifyNoInteractions(productStatsTracker);
+    }
+
+    @Test
+    void testUpdateProduct_ConcurrentWriterWins() {
+        product.setVersion(3L);
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        doNothing().when(productRepository).delete(product);
+        when(productRepository.save(product)).thenReturn(product);
+        doThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L)).when(productRepository).flush();
+
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(1L, productDto, 3L));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> productService.updateProduct(1L, productDto, null));
+        verifyNoInteractions(productStatsTracker);
+    }
+
+    @Test
+    void testPatchProduct_UpdatesOnlyPresentFields() {
+        ProductPatch patch = new ProductPatch(new ProductDto(null, null, null, new BigDecimal("5.00")), Set.of("price"));
+        product.setVersion(2L);
+        when(productRepository.updateColumnsReturningPrevious(1L, Map.of("price", new BigDecimal("5.00")), 2L))
+                .thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+
+        ProductDto result = productService.patchProduct(1L, patch, 2L);
+
+        assertEquals("Test Product", result.getName());
+        assertEquals(new BigDecimal("5.00"), result.getPrice());
+        assertEquals(3L, result.getVersion());
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).save(any());
+        verify(productStatsTracker, times(1)).recordUpdate(new BigDecimal("99.99"), result);
+    }
+
+    @Test
+    void testPatchProduct_ValidatesPresentFields() {
+        ProductPatch patch = new ProductPatch(new ProductDto(null, " ", null, new BigDecimal("0.00")), Set.of("name", "price"));
+
+        ConstraintViolationException ex = assertThrows(ConstraintViolationException.class,
+                () -> productService.patchProduct(1L, patch, null));
+
+        assertEquals(2, ex.getConstraintViolations().size());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testPatchProduct_NotFoundOrStale() {
+        ProductPatch patch = new ProductPatch(new ProductDto(null, "Renamed", null, null), Set.of("name"));
+        when(productRepository.updateColumnsReturningPrevious(eq(1L), any(), any())).thenReturn(Optional.empty());
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.patchProduct(1L, patch, null));
+        assertThrows(PreconditionFailedException.class, () -> productService.patchProduct(1L, patch, 4L));
+        verifyNoInteractions(productStatsTracker);
+    }
+
+    @Test
+    void testDeleteProduct_Success() {
+        when(productRepository.deleteAllByIdReturning(List.of(1L)))
+                .thenReturn(List.of(new DeletedProduct(1L, new BigDecimal("99.99"))));
 
         productService.deleteProduct(1L);
 
-        verify(productRepository, times(1)).findById(1L);
-        verify(productRepository, times(1)).delete(product);
+        verify(productRepository, times(1)).deleteAllByIdReturning(List.of(1L));
+        verify(productRepository, never()).findById(any());
+        verify(productStatsTracker, times(1)).recordDelete(1L, new BigDecimal("99.99"));
+        verify(productSearchIndex, times(1)).remove(1L);
     }
 
     @Test
     void testDeleteProduct_NotFound() {
-        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+        when(productRepository.deleteAllByIdReturning(List.of(1L))).thenReturn(List.of());
 
         assertThrows(ResourceNotFoundException.class, () -> productService.deleteProduct(1L));
-        verify(productRepository, never()).delete(any());
+        verify(productRepository, never()).findById(any());
+        verifyNoInteractions(productStatsTracker);
+    }
+
+    @Test
+    void testGetProductStats() {
+        ProductStats stats = new ProductStats(1L, new BigDecimal("99.99"), productDto, productDto);
+        when(productStatsTracker.getStats()).thenReturn(stats);
+
+        ProductStats result = productService.getProductStats();
+
+        assertSame(stats, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testGetCatalogVersion() {
+        when(productStatsTracker.catalogVersion()).thenReturn("abc.3");
+
+        assertEquals("abc.3", productService.getCatalogVersion());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testSearchProducts() {
+        ProductSearchResult found = new ProductSearchResult(List.of(productDto), 1, 5, 6, true);
+        when(productSearchIndex.search("shirt", 1, 5)).thenReturn(found);
+
+        ProductSearchResult result = productService.searchProducts(new ProductSearchRequest("shirt", 1, 5));
+
+        assertSame(found, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testSearchProducts_InvalidParameters() {
+        searchProperties.setMaxResultWindow(100);
+
+        assertThrows(BadRequestException.class,
+                () -> productService.searchProducts(new ProductSearchRequest(" ", null, null)));
+        assertThrows(BadRequestException.class,
+                () -> productService.searchProducts(new ProductSearchRequest("shirt", -1, null)));
+        assertThrows(BadRequestException.class,
+                () -> productService.searchProducts(new ProductSearchRequest("shirt", 5, 20)));
+        verifyNoInteractions(productSearchIndex);
+    }
+
+    @Test
+    void testRebuildSearchIndex() {
+        when(productSearchIndex.rebuild()).thenReturn(5L);
+
+        assertEquals(5L, productService.rebuildSearchIndex().getIndexed());
     }
 
     @Test
     void testGetAllProducts_EmptyList() {
-        when(productRepository.findAll()).thenReturn(Arrays.asList());
+        when(productRepository.findAllAsDtos()).thenReturn(Arrays.asList());
 
         List<ProductDto> result = productService.getAllProducts();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findAllAsDtos();
     }
 
     @Test
@@ -169,5 +339,237 @@ class ProductServiceImplTest {
         assertEquals(1L, result.getId());
         verify(productRepository, times(1)).save(productWithoutId);
     }
-}
 
+    @Test
+    void testGetProductPage_FirstPageIssuesNextPageToken() {
+        ProductDto second = new ProductDto(2L, "Product 2", "Desc 2", new BigDecimal("199.99"));
+        Window<ProductDto> window = Window.from(List.of(productDto, second), i -> ScrollPosition.keyset(), true);
+        when(productRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class),
+                eq(ProductDto.class))).thenReturn(window);
+
+        ProductPage result = productService.getProductPage(new ProductPageRequest("price", "desc", 2, null));
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(2, result.getSize());
+        PageToken token = PageToken.decode(result.getNextPageToken());
+        assertEquals(ProductSortField.PRICE, token.sortField());
+        assertEquals(Sort.Direction.DESC, token.direction());
+        assertEquals(2L, token.lastId());
+        assertEquals(new BigDecimal("199.99"), token.lastKey());
+        verify(productRepository).findAllBy(ScrollPosition.keyset(),
+                Sort.by(Sort.Direction.DESC, "price", "id"), Limit.of(2), ProductDto.class);
+        verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    void testGetProductPage_TokenSeeksPastLastRow() {
+        String pageToken = new PageToken(ProductSortField.PRICE, Sort.Direction.ASC, 7L, new BigDecimal("49.99")).encode();
+        when(productRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class),
+                eq(ProductDto.class))).thenReturn(Window.from(List.of(productDto), i -> ScrollPosition.keyset(), false));
+
+        ProductPage result = productService.getProductPage(new ProductPageRequest(null, null, null, pageToken));
+        int defaultPageSize = paginationProperties.getDefaultPageSize();
+
+        assertNull(result.getNextPageToken());
+        ArgumentCaptor<ScrollPosition> position = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(productRepository).findAllBy(position.capture(), eq(Sort.by(Sort.Direction.ASC, "price", "id")),
+                eq(Limit.of(defaultPageSize)), eq(ProductDto.class));
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position.getValue();
+        assertEquals(new BigDecimal("49.99"), keyset.getKeys().get("price"));
+        assertEquals(7L, keyset.getKeys().get("id"));
+    }
+
+    @Test
+    void testGetProductPage_SizeIsCapped() {
+        when(productRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class),
+                eq(ProductDto.class))).thenReturn(Window.from(List.of(), i -> ScrollPosition.keyset(), false));
+
+        ProductPage result = productService.getProductPage(new ProductPageRequest(null, null, 100_000, null));
+
+        assertEquals(paginationProperties.getMaxPageSize(), result.getSize());
+        assertTrue(result.getItems().isEmpty());
+        verify(productRepository).findAllBy(ScrollPosition.keyset(), Sort.by(Sort.Direction.ASC, "id"),
+                Limit.of(paginationProperties.getMaxPageSize()), ProductDto.class);
+    }
+
+    @Test
+    void testGetProductPage_InvalidParameters() {
+        String priceToken = new PageToken(ProductSortField.PRICE, Sort.Direction.ASC, 1L, BigDecimal.ONE).encode();
+
+        assertThrows(BadRequestException.class,
+                () -> productService.getProductPage(new ProductPageRequest("description", null, null, null)));
+        assertThrows(BadRequestException.class,
+                () -> productService.getProductPage(new ProductPageRequest(null, "sideways", null, null)));
+        assertThrows(BadRequestException.class,
+                () -> productService.getProductPage(new ProductPageRequest(null, null, 0, null)));
+        assertThrows(BadRequestException.class,
+                () -> productService.getProductPage(new ProductPageRequest(null, null, null, "not-a-token")));
+        assertThrows(BadRequestException.class,
+                () -> productService.getProductPage(new ProductPageRequest("name", null, null, priceToken)));
+        assertThrows(BadRequestException.class, () -> productService.getProductPage(
+                new ProductPageRequest(null, null, null, null, new BigDecimal("50"), new BigDecimal("20"))));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testGetProductPage_PriceRangeUsesMatchingQuery() {
+        Window<ProductDto> empty = Window.from(List.of(), i -> ScrollPosition.keyset(), false);
+        BigDecimal min = new BigDecimal("20");
+        BigDecimal max = new BigDecimal("50");
+        Sort byPrice = Sort.by(Sort.Direction.DESC, "price", "id");
+        Limit limit = Limit.of(paginationProperties.getDefaultPageSize());
+        when(productRepository.findByPriceBetween(min, max, ScrollPosition.keyset(), byPrice, limit, ProductDto.class)).thenReturn(empty);
+        when(productRepository.findByPriceGreaterThanEqual(min, ScrollPosition.keyset(), byPrice, limit, ProductDto.class)).thenReturn(empty);
+        when(productRepository.findByPriceLessThanEqual(max, ScrollPosition.keyset(), byPrice, limit, ProductDto.class)).thenReturn(empty);
+
+        productService.getProductPage(new ProductPageRequest("price", "desc", null, null, min, max));
+        productService.getProductPage(new ProductPageRequest("price", "desc", null, null, min, null));
+        productService.getProductPage(new ProductPageRequest("price", "desc", null, null, null, max));
+
+        verify(productRepository).findByPriceBetween(min, max, ScrollPosition.keyset(), byPrice, limit, ProductDto.class);
+        verify(productRepository).findByPriceGreaterThanEqual(min, ScrollPosition.keyset(), byPrice, limit, ProductDto.class);
+        verify(productRepository).findByPriceLessThanEqual(max, ScrollPosition.keyset(), byPrice, limit, ProductDto.class);
+        verify(productRepository, never()).findAllBy(any(), any(), any(), any());
+    }
+
+    @Test
+    void testExportProducts_StreamsProjectedRows() {
+        ProductDto second = new ProductDto(2L, "Product 2", "Desc 2", new BigDecimal("199.99"));
+        when(productRepository.streamAllAsDtos()).thenReturn(Stream.of(productDto, second));
+
+        List<ProductDto> exported = new ArrayList<>();
+        productService.exportProducts(exported::add);
+
+        assertEquals(List.of(productDto, second), exported);
+        verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    void testExportProducts_ClosesStreamWhenConsumerFails() {
+        boolean[] closed = {false};
+        Stream<ProductDto> stream = Stream.of(productDto).onClose(() -> closed[0] = true);
+        when(productRepository.streamAllAsDtos()).thenReturn(stream);
+
+        assertThrows(IllegalStateException.class, () -> productService.exportProducts(dto -> {
+            throw new IllegalStateException("client went away");
+        }));
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateProducts_ValidatesEachItemAndInsertsInBatches() {
+        bulkProperties.setBatchSize(2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        when(productMapper.toEntity(any(ProductDto.class))).thenAnswer(invocation -> {
+            ProductDto dto = invocation.getArgument(0);
+            return new Product(null, dto.getName(), dto.getDescription(), dto.getPrice());
+        });
+        long[] nextId = {100};
+        when(productRepository.insertAll(any())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            products.forEach(p -> p.setId(nextId[0]++));
+            return products;
+        });
+        when(productMapper.toDto(any(Product.class))).thenAnswer(invocation -> {
+            Product p = invocation.getArgument(0);
+            return new ProductDto(p.getId(), p.getName(), p.getDescription(), p.getPrice());
+        });
+
+        List<ProductDto> request = Arrays.asList(
+                new ProductDto(null, "A", "a", new BigDecimal("1.00")),
+                new ProductDto(null, "", "b", new BigDecimal("-1")),
+                new ProductDto(42L, "C", "c", new BigDecimal("3.00")),
+                null,
+                new ProductDto(null, "E", "e", new BigDecimal("5.00")));
+
+        BulkCreateResult result = productService.createProducts(request);
+
+        assertEquals(3, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(0, result.getFailed());
+        assertEquals(5, result.getItems().size());
+        assertEquals(BulkItemResult.Status.CREATED, result.getItems().get(0).getStatus());
+        assertEquals(100L, result.getItems().get(0).getId());
+        assertEquals(BulkItemResult.Status.REJECTED, result.getItems().get(1).getStatus());
+        assertEquals(List.of("name: Product name is required", "price: Product price must be greater than 0"),
+                result.getItems().get(1).getErrors());
+        assertEquals(101L, result.getItems().get(2).getId());
+        assertEquals(BulkItemResult.Status.REJECTED, result.getItems().get(3).getStatus());
+        assertEquals(102L, result.getItems().get(4).getId());
+        verify(productRepository, times(2)).insertAll(any());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(productStatsTracker, times(3)).recordCreate(any(ProductDto.class));
+    }
+
+    @Test
+    void testCreateProducts_FailedBatchIsReportedPerItem() {
+        when(transactionTemplate.execute(any())).thenThrow(new DataIntegrityViolationException("constraint violated"));
+
+        BulkCreateResult result = productService.createProducts(List.of(productDto, productDto));
+
+        assertEquals(0, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(BulkItemResult.Status.FAILED, result.getItems().get(1).getStatus());
+        assertEquals(List.of("batch: constraint violated"), result.getItems().get(1).getErrors());
+    }
+
+    @Test
+    void testCreateProducts_TooManyItems() {
+        bulkProperties.setMaxItems(1);
+
+        assertThrows(BadRequestException.class, () -> productService.createProducts(List.of(productDto, productDto)));
+        verifyNoInteractions(productRepository, transactionTemplate);
+    }
+
+    @Test
+    void testDeleteProducts_ByIdsInChunks() {
+        bulkProperties.setBatchSize(2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        when(productRepository.deleteAllByIdReturning(List.of(1L, 2L)))
+                .thenReturn(List.of(new DeletedProduct(1L, BigDecimal.ONE), new DeletedProduct(2L, BigDecimal.TEN)));
+        when(productRepository.deleteAllByIdReturning(List.of(3L))).thenReturn(List.of());
+
+        BulkDeleteResult result = productService.deleteProducts(new BulkDeleteRequest(List.of(1L, 2L, 3L), null, null));
+
+        assertEquals(2, result.getDeleted());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(productStatsTracker, times(1)).recordDelete(1L, BigDecimal.ONE);
+        verify(productStatsTracker, times(1)).recordDelete(2L, BigDecimal.TEN);
+    }
+
+    @Test
+    void testDeleteProducts_ByPriceRangeUntilChunkIsShort() {
+        bulkProperties.setBatchSize(2);
+        BigDecimal min = new BigDecimal("10.00");
+        BigDecimal max = new BigDecimal("20.00");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        when(productRepository.deleteByPriceBetweenReturning(min, max, 2))
+                .thenReturn(List.of(new DeletedProduct(1L, min), new DeletedProduct(2L, min)))
+                .thenReturn(List.of(new DeletedProduct(3L, max)));
+
+        BulkDeleteResult result = productService.deleteProducts(new BulkDeleteRequest(null, min, max));
+
+        assertEquals(3, result.getDeleted());
+        verify(productRepository, times(2)).deleteByPriceBetweenReturning(min, max, 2);
+        verify(productStatsTracker, times(3)).recordDelete(any(), any());
+    }
+
+    @Test
+    void testDeleteProducts_InvalidCriteria() {
+        BigDecimal one = BigDecimal.ONE;
+
+        assertThrows(BadRequestException.class,
+                () -> productService.deleteProducts(new BulkDeleteRequest(null, null, null)));
+        assertThrows(BadRequestException.class,
+                () -> productService.deleteProducts(new BulkDeleteRequest(List.of(1L), one, one)));
+        assertThrows(BadRequestException.class,
+                () -> productService.deleteProducts(new BulkDeleteRequest(null, one, null)));
+        assertThrows(BadRequestException.class,
+                () -> productService.deleteProducts(new BulkDeleteRequest(null, BigDecimal.TEN, one)));
+        verifyNoInteractions(productRepository, transactionTemplate);
+    }
+}
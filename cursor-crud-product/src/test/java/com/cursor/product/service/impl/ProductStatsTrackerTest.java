@@ -0,0 +1,190 @@
+package com.cursor.product.service.impl;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.domain.ProductStats;
+import com.cursor.product.mapper.ProductMapper;
+import com.cursor.product.model.Product;
+import com.cursor.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStatsTrackerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @InjectMocks
+    private ProductStatsTracker productStatsTracker;
+
+    private Product cheap;
+    private Product expensive;
+
+    @BeforeEach
+    void setUp() {
+        cheap = new Product(1L, "Cheap", "Cheap product", new BigDecimal("10.00"));
+        expensive = new Product(2L, "Expensive", "Expensive product", new BigDecimal("100.00"));
+        lenient().when(productMapper.toDto(any(Product.class))).thenAnswer(invocation -> {
+            Product p = invocation.getArgument(0);
+            return new ProductDto(p.getId(), p.getName(), p.getDescription(), p.getPrice());
+        });
+        seedDatabase(2, "110.00", cheap, expensive);
+        productStatsTracker.initialize();
+        clearInvocations(productRepository);
+    }
+
+    @Test
+    void testInitializeLoadsAggregatesFromDatabase() {
+        ProductStats stats = productStatsTracker.getStats();
+
+        assertEquals(2, stats.getTotalProducts());
+        assertEquals(0, new BigDecimal("110.00").compareTo(stats.getTotalValue()));
+        assertEquals(1L, stats.getLeastExpensive().getId());
+        assertEquals(2L, stats.getMostExpensive().getId());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testRecordCreateAdjustsAggregatesWithoutQuerying() {
+        productStatsTracker.recordCreate(dto(3L, "5.00"));
+        productStatsTracker.recordCreate(dto(4L, "500.00"));
+
+        ProductStats stats = productStatsTracker.getStats();
+
+        assertEquals(4, stats.getTotalProducts());
+        assertEquals(0, new BigDecimal("615.00").compareTo(stats.getTotalValue()));
+        assertEquals(3L, stats.getLeastExpensive().getId());
+        assertEquals(4L, stats.getMostExpensive().getId());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testRecordUpdateOfCheapestThatGetsCheaperKeepsIt() {
+        productStatsTracker.recordUpdate(new BigDecimal("10.00"), dto(1L, "8.00"));
+
+        ProductStats stats = productStatsTracker.getStats();
+
+        assertEquals(0, new BigDecimal("108.00").compareTo(stats.getTotalValue()));
+        assertEquals(0, new BigDecimal("8.00").compareTo(stats.getLeastExpensive().getPrice()));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testRecordUpdateOfMostExpensiveThatGetsCheaperFallsBackToIndexLookup() {
+        Product stillMostExpensive = new Product(2L, "Expensive", "Expensive product", new BigDecimal("50.00"));
+        when(productRepository.findFirstByOrderByPriceDescIdDesc()).thenReturn(Optional.of(stillMostExpensive));
+
+        productStatsTracker.recordUpdate(new BigDecimal("100.00"), dto(2L, "50.00"));
+        ProductStats stats = productStatsTracker.getStats();
+
+        assertEquals(0, new BigDecimal("50.00").compareTo(stats.getMostExpensive().getPrice()));
+        verify(productRepository, times(1)).findFirstByOrderByPriceDescIdDesc();
+        verify(productRepository, never()).computeTotals();
+    }
+
+    @Test
+    void testRecordDeleteOfCheapestFallsBackToIndexLookupOnce() {
+        when(productRepository.findFirstByOrderByPriceAscIdAsc()).thenReturn(Optional.of(expensive));
+
+        productStatsTracker.recordDelete(1L, new BigDecimal("10.00"));
+        ProductStats first = productStatsTracker.getStats();
+        ProductStats second = productStatsTracker.getStats();
+
+        assertEquals(1, first.getTotalProducts());
+        assertEquals(2L, first.getLeastExpensive().getId());
+        assertEquals(2L, second.getLeastExpensive().getId());
+        verify(productRepository, times(1)).findFirstByOrderByPriceAscIdAsc();
+        verify(productRepository, never()).findFirstByOrderByPriceDescIdDesc();
+    }
+
+    @Test
+    void testRecordDeleteOfLastProductEmptiesStats() {
+        productStatsTracker.recordDelete(1L, new BigDecimal("10.00"));
+        productStatsTracker.recordDelete(2L, new BigDecimal("100.00"));
+        when(productRepository.findFirstByOrderByPriceAscIdAsc()).thenReturn(Optional.empty());
+        when(productRepository.findFirstByOrderByPriceDescIdDesc()).thenReturn(Optional.empty());
+
+        ProductStats stats = productStatsTracker.getStats();
+
+        assertEquals(0, stats.getTotalProducts());
+        assertEquals(0, BigDecimal.ZERO.compareTo(stats.getTotalValue()));
+        assertNull(stats.getLeastExpensive());
+        assertNull(stats.getMostExpensive());
+    }
+
+    @Test
+    void testReconcileReplacesDriftedSnapshot() {
+        Product added = new Product(3L, "Added", "Added elsewhere", new BigDecimal("1.00"));
+        seedDatabase(3, "111.00", added, expensive);
+
+        productStatsTracker.reconcile();
+        ProductStats stats = productStatsTracker.getStats();
+
+        assertEquals(3, stats.getTotalProducts());
+        assertEquals(3L, stats.getLeastExpensive().getId());
+    }
+
+    @Test
+    void testReconcileKeepsMatchingSnapshot() {
+        ProductStats before = productStatsTracker.getStats();
+        String versionBefore = productStatsTracker.catalogVersion();
+        seedDatabase(2, "110.00", cheap, expensive);
+
+        productStatsTracker.reconcile();
+        ProductStats after = productStatsTracker.getStats();
+
+        assertEquals(before, after);
+        assertEquals(versionBefore, productStatsTracker.catalogVersion());
+    }
+
+    @Test
+    void testCatalogVersionChangesOnEveryWrite() {
+        String initial = productStatsTracker.catalogVersion();
+
+        productStatsTracker.recordCreate(dto(3L, "5.00"));
+        String afterCreate = productStatsTracker.catalogVersion();
+        productStatsTracker.recordDelete(3L, new BigDecimal("5.00"));
+        String afterDelete = productStatsTracker.catalogVersion();
+
+        assertNotEquals(initial, afterCreate);
+        assertNotEquals(afterCreate, afterDelete);
+        assertEquals(afterDelete, productStatsTracker.catalogVersion());
+    }
+
+    @Test
+    void testReconcileOfDriftedSnapshotChangesCatalogVersion() {
+        String before = productStatsTracker.catalogVersion();
+        seedDatabase(3, "111.00", cheap, expensive);
+
+        productStatsTracker.reconcile();
+
+        assertNotEquals(before, productStatsTracker.catalogVersion());
+    }
+
+    private void seedDatabase(long count, String sum, Product min, Product max) {
+        ProductRepository.ProductTotals totals = mock(ProductRepository.ProductTotals.class);
+        lenient().when(totals.getCount()).thenReturn(count);
+        lenient().when(totals.getSum()).thenReturn(new BigDecimal(sum));
+        lenient().when(productRepository.computeTotals()).thenReturn(totals);
+        lenient().when(productRepository.findFirstByOrderByPriceAscIdAsc()).thenReturn(Optional.of(min));
+        lenient().when(productRepository.findFirstByOrderByPriceDescIdDesc()).thenReturn(Optional.of(max));
+    }
+
+    private static ProductDto dto(Long id, String price) {
+        return new ProductDto(id, "Product " + id, "Description " + id, new BigDecimal(price));
+    }
+}
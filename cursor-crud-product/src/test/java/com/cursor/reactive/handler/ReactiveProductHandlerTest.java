@@ -0,0 +1,141 @@
+package com.cursor.reactive.handler;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.ErrorResponse;
+import com.cursor.reactive.ReactiveProductApplication;
+import com.cursor.reactive.service.ReactiveProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(ReactiveProductApplication.PROFILE)
+class ReactiveProductHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveProductService productService;
+
+    @Test
+    void testCreateReadUpdateAndDeleteProduct() {
+        ProductDto created = webTestClient.post().uri("/api/product")
+                .bodyValue(new ProductDto(null, "Hat", "Wool hat", new BigDecimal("12.50")))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueMatches(HttpHeaders.ETAG, "\"\\d+-0\"")
+                .expectBody(ProductDto.class).returnResult().getResponseBody();
+        String eTag = "\"" + created.getId() + "-0\"";
+
+        webTestClient.get().uri("/api/product/{id}", created.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.put().uri("/api/product/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .bodyValue(new ProductDto(null, "Hat", "Wool hat", new BigDecimal("13.00")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + created.getId() + "-1\"")
+                .expectBody().jsonPath("$.price").isEqualTo(13.00);
+
+        webTestClient.delete().uri("/api/product/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.get().uri("/api/product/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Resource Not Found")
+                .jsonPath("$.path").isEqualTo("/api/product/" + created.getId());
+    }
+
+    @Test
+    void testUpdateWithStaleIfMatchReturnsPreconditionFailed() {
+        webTestClient.put().uri("/api/product/1")
+                .header(HttpHeaders.IF_MATCH, "\"1-99\"")
+                .bodyValue(new ProductDto(null, "Shirt", "Cotton shirt", new BigDecimal("29.99")))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody().jsonPath("$.error").isEqualTo("Precondition Failed");
+    }
+
+    @Test
+    void testInvalidProductReturnsValidationErrorsInServletShape() {
+        ErrorResponse error = webTestClient.post().uri("/api/product")
+                .bodyValue(new ProductDto(null, "", "Wool hat", BigDecimal.ZERO))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorResponse.class).returnResult().getResponseBody();
+
+        assertEquals("Validation Failed", error.getError());
+        assertEquals("Invalid input data", error.getMessage());
+        assertTrue(error.getValidationErrors().contains("name: Product name is required"));
+        assertTrue(error.getValidationErrors().contains("price: Product price must be greater than 0"));
+    }
+
+    @Test
+    void testMalformedBodyReturnsBadRequest() {
+        webTestClient.post().uri("/api/product")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{not json")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Malformed Request");
+    }
+
+    @Test
+    void testNonNumericIdReturnsBadRequest() {
+        webTestClient.get().uri("/api/product/abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Bad Request")
+                .jsonPath("$.message").isEqualTo("Invalid value 'abc' for parameter id")
+                .jsonPath("$.path").isEqualTo("/api/product/abc");
+        webTestClient.delete().uri("/api/product/abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testListStreamsNdjsonWhenAccepted() {
+        List<ProductDto> products = webTestClient.get().uri("/api/product")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ProductDto.class)
+                .getResponseBody()
+                .take(2)
+                .collectList()
+                .block();
+
+        assertEquals(List.of(1L, 2L), products.stream().map(ProductDto::getId).toList());
+    }
+
+    @Test
+    void testListHonoursSubscriberDemand() {
+        StepVerifier.create(productService.getAllProducts(), 1)
+                .expectNextMatches(product -> product.getId() == 1L)
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(1)
+                .expectNextMatches(product -> product.getId() == 2L)
+                .thenCancel()
+                .verify();
+    }
+}
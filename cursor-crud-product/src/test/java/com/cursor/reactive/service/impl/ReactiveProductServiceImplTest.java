@@ -0,0 +1,131 @@
+package com.cursor.reactive.service.impl;
+
+import com.cursor.product.domain.ProductDto;
+import com.cursor.product.exception.PreconditionFailedException;
+import com.cursor.product.exception.ResourceNotFoundException;
+import com.cursor.reactive.mapper.ReactiveProductMapper;
+import com.cursor.reactive.model.ReactiveProduct;
+import com.cursor.reactive.repository.ReactiveProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductServiceImplTest {
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @Spy
+    private ReactiveProductMapper productMapper = Mappers.getMapper(ReactiveProductMapper.class);
+
+    @InjectMocks
+    private ReactiveProductServiceImpl productService;
+
+    private final ProductDto update = new ProductDto(null, "Shirt", "Linen shirt", new BigDecimal("39.99"));
+
+    @Test
+    void testCreateProductReturnsSavedRow() {
+        when(productRepository.save(any(ReactiveProduct.class))).thenAnswer(invocation -> {
+            ReactiveProduct saved = invocation.getArgument(0);
+            assertNull(saved.getId());
+            return Mono.just(new ReactiveProduct(7L, saved.getName(), saved.getDescription(), saved.getPrice(), 0L));
+        });
+
+        StepVerifier.create(productService.createProduct(new ProductDto(3L, "Shirt", "Linen shirt", BigDecimal.TEN)))
+                .assertNext(created -> {
+                    assertEquals(7L, created.getId());
+                    assertEquals(0L, created.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetProductByIdSignalsNotFound() {
+        when(productRepository.findById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(productService.getProductById(1L))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void testGetAllProductsStreamsInIdOrder() {
+        when(productRepository.findAll(Sort.by("id"))).thenReturn(Flux.just(row(1L, 0L), row(2L, 3L)));
+
+        StepVerifier.create(productService.getAllProducts().map(ProductDto::getId))
+                .expectNext(1L, 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void testUpdateProductRejectsStaleExpectedVersion() {
+        when(productRepository.findById(1L)).thenReturn(Mono.just(row(1L, 2L)));
+
+        StepVerifier.create(productService.updateProduct(1L, update, 1L))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateProductMapsLostRaceToPreconditionFailedOnlyWhenConditional() {
+        when(productRepository.findById(1L)).thenAnswer(invocation -> Mono.just(row(1L, 2L)));
+        when(productRepository.save(any(ReactiveProduct.class)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("stale")));
+
+        StepVerifier.create(productService.updateProduct(1L, update, 2L))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+        StepVerifier.create(productService.updateProduct(1L, update, null))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    void testUpdateProductKeepsIdAndVersion() {
+        when(productRepository.findById(1L)).thenReturn(Mono.just(row(1L, 2L)));
+        when(productRepository.save(any(ReactiveProduct.class))).thenAnswer(invocation -> {
+            ReactiveProduct saved = invocation.getArgument(0);
+            return Mono.just(new ReactiveProduct(saved.getId(), saved.getName(), saved.getDescription(),
+                    saved.getPrice(), saved.getVersion() + 1));
+        });
+
+        StepVerifier.create(productService.updateProduct(1L, update, 2L))
+                .assertNext(updated -> {
+                    assertEquals(1L, updated.getId());
+                    assertEquals("Linen shirt", updated.getDescription());
+                    assertEquals(3L, updated.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testDeleteProductSignalsNotFound() {
+        when(productRepository.findById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(productService.deleteProduct(1L))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        verify(productRepository, never()).delete(any());
+    }
+
+    private static ReactiveProduct row(Long id, Long version) {
+        return new ReactiveProduct(id, "Product " + id, "Description " + id, new BigDecimal("9.99"), version);
+    }
+}